@@ -0,0 +1,96 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+
+/**
+ * 인증 1회 전체에 적용되는 마감 시간
+ * - 로그인, SSO 리다이렉트, 데이터 조회, 재시도가 모두 남은 시간 안에서 실행됨
+ * - 남은 시간이 없으면 CONNECTION_TIMEOUT으로 즉시 실패
+ */
+public final class SejongDeadline {
+
+  private static final SejongDeadline NONE = new SejongDeadline(Long.MAX_VALUE);
+
+  /** 마감 시각 (System.nanoTime 기준, 무제한이면 Long.MAX_VALUE) */
+  private final long deadlineNanos;
+
+  private SejongDeadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * 지금부터 주어진 초 이후를 마감으로 하는 Deadline 생성
+   *
+   * @param seconds 전체 허용 시간 (초, 0 이하이면 무제한)
+   * @return SejongDeadline
+   */
+  public static SejongDeadline afterSeconds(int seconds) {
+    if (seconds <= 0) {
+      return NONE;
+    }
+    return new SejongDeadline(System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds));
+  }
+
+  /**
+   * 마감 없는 Deadline
+   *
+   * @return 무제한 Deadline
+   */
+  public static SejongDeadline none() {
+    return NONE;
+  }
+
+  /**
+   * 마감 설정 여부
+   *
+   * @return 마감이 있으면 true
+   */
+  public boolean isBounded() {
+    return deadlineNanos != Long.MAX_VALUE;
+  }
+
+  /**
+   * 남은 시간 (밀리초)
+   *
+   * @return 남은 시간, 무제한이면 Long.MAX_VALUE, 만료되었으면 0
+   */
+  public long remainingMillis() {
+    if (!isBounded()) {
+      return Long.MAX_VALUE;
+    }
+    return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+  }
+
+  /**
+   * 만료 여부
+   *
+   * @return 남은 시간이 없으면 true
+   */
+  public boolean isExpired() {
+    return isBounded() && deadlineNanos - System.nanoTime() <= 0;
+  }
+
+  /**
+   * 남은 시간 확인
+   *
+   * @param step 로그/에러 메시지용 단계 이름
+   * @throws SejongAuthException 마감 시간이 지난 경우 (CONNECTION_TIMEOUT)
+   */
+  public void checkRemaining(String step) {
+    if (isExpired()) {
+      throw expired(step);
+    }
+  }
+
+  /**
+   * 마감 초과 예외 생성
+   *
+   * @param step 단계 이름
+   * @return CONNECTION_TIMEOUT 예외
+   */
+  public SejongAuthException expired(String step) {
+    return new SejongAuthException(SejongAuthErrorCode.CONNECTION_TIMEOUT, "전체 인증 제한 시간 초과: " + step);
+  }
+}
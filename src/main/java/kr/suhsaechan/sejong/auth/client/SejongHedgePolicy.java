@@ -0,0 +1,249 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등 GET 요청 헤징 정책
+ * - 첫 요청이 경로별 최근 응답 시간의 백분위(percentile) 임계값을 넘으면 같은 세션으로 한 번 더 요청
+ * - 먼저 도착한 응답을 사용하고 나머지 요청은 취소 (늦게 도착한 응답은 닫음)
+ * - 응답 시간 표본은 원본 요청 기준 (헤징에 져서 취소되면 취소 시점까지의 시간을 기록하여 임계값이 계속 낮아지지 않게 함)
+ * - 헤징 예산(budget-percent)으로 추가 부하 상한을 고정
+ * - GET 요청(고전독서 페이지)에만 적용하고, SSO 토큰을 교환하는 요청(oneShot())은 제외
+ */
+@Slf4j
+public class SejongHedgePolicy {
+
+  private final boolean enabled;
+  private final double percentile;
+  private final long initialDelayMillis;
+  private final long minDelayMillis;
+  private final long maxDelayMillis;
+  private final int minSamples;
+  private final int windowSize;
+  private final SejongRequestBudget budget;
+  private final SejongAuthMetrics metrics;
+
+  /** 경로별 최근 응답 시간 */
+  private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+  public SejongHedgePolicy(SejongAuthProperties properties) {
+    this(properties, new SejongAuthMetrics());
+  }
+
+  public SejongHedgePolicy(SejongAuthProperties properties, SejongAuthMetrics metrics) {
+    SejongAuthProperties.HedgeConfig hedge = properties.getHedge();
+    this.enabled = hedge.isEnabled();
+    this.percentile = Math.min(100.0, Math.max(1.0, hedge.getPercentile()));
+    this.minDelayMillis = Math.max(1L, hedge.getMinDelayMillis());
+    this.maxDelayMillis = Math.max(minDelayMillis, hedge.getMaxDelayMillis());
+    this.initialDelayMillis = Math.min(maxDelayMillis, Math.max(minDelayMillis, hedge.getInitialDelayMillis()));
+    this.minSamples = Math.max(1, hedge.getMinSamples());
+    this.windowSize = Math.max(minSamples, hedge.getWindowSize());
+    this.budget = new SejongRequestBudget(hedge.getBudgetPercent(), hedge.getBudgetBurst());
+    this.metrics = metrics;
+  }
+
+  /**
+   * 헤징 적용 대상 여부 (활성화 + 헤징 가능한 GET 요청)
+   */
+  boolean appliesTo(SejongHttpRequest request) {
+    return enabled && "GET".equals(request.getMethod()) && !request.isOneShot();
+  }
+
+  /**
+   * 헤징을 포함한 동기 요청 실행
+   * - 호출 스레드는 먼저 도착한 응답을 기다림
+   */
+  SejongHttpResponse execute(SejongPortalSession session, SejongHttpRequest request) throws IOException {
+    CompletableFuture<SejongHttpResponse> future = enqueue(session, request);
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("헤징 요청 대기 중 인터럽트");
+    } catch (ExecutionException e) {
+      Throwable cause = SejongHttpCalls.unwrap(e);
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /**
+   * 헤징을 포함한 비동기 요청 실행
+   * - 반환된 Future를 취소하면 진행 중인 모든 요청이 취소됨
+   */
+  CompletableFuture<SejongHttpResponse> enqueue(SejongPortalSession session, SejongHttpRequest request) {
+    budget.deposit();
+    LatencyWindow window = latencies.computeIfAbsent(request.getPath(), path -> new LatencyWindow(windowSize));
+    HedgedCall call = new HedgedCall(session, request, window);
+    call.launch(false);
+
+    long delay = hedgeDelayMillis(window);
+    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(() -> call.hedge(delay));
+    return call.result;
+  }
+
+  /**
+   * 헤징 요청을 보내기까지 기다릴 시간
+   * - 표본이 min-samples 미만이면 initial-delay-millis
+   * - 그 외에는 최근 응답 시간의 percentile 값을 [min-delay-millis, max-delay-millis]로 제한
+   */
+  long hedgeDelayMillis(LatencyWindow window) {
+    long threshold = window.percentile(percentile, minSamples);
+    if (threshold < 0) {
+      return initialDelayMillis;
+    }
+    return Math.min(maxDelayMillis, Math.max(minDelayMillis, threshold));
+  }
+
+  /**
+   * 요청 1건의 원본/헤징 시도 묶음
+   */
+  private final class HedgedCall {
+
+    private final SejongPortalSession session;
+    private final SejongHttpRequest request;
+    private final LatencyWindow window;
+    private final CompletableFuture<SejongHttpResponse> result = new CompletableFuture<>();
+    private final List<CompletableFuture<SejongHttpResponse>> attempts = new CopyOnWriteArrayList<>();
+
+    /** 진행 중인 시도 수 (0이 되면 더 이상 헤징하지 않음) */
+    private final AtomicInteger outstanding = new AtomicInteger(1);
+
+    /** 마지막으로 실패한 시도의 예외 (모든 시도가 끝났을 때 결과로 전달) */
+    private volatile Throwable lastFailure;
+
+    private HedgedCall(SejongPortalSession session, SejongHttpRequest request, LatencyWindow window) {
+      this.session = session;
+      this.request = request;
+      this.window = window;
+      result.whenComplete((response, error) -> {
+        if (result.isCancelled()) {
+          attempts.forEach(attempt -> attempt.cancel(true));
+        }
+      });
+    }
+
+    /**
+     * 임계 시간이 지났는데 응답이 없으면 헤징 요청 전송
+     */
+    private void hedge(long delay) {
+      if (result.isDone() || session.isCancelled() || session.getDeadline().remainingMillis() <= 0) {
+        return;
+      }
+      // 원본 요청이 이미 실패로 끝났으면 헤징하지 않음 (실패 재시도는 SejongRetryPolicy 담당, 예산 차감 없음)
+      if (outstanding.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+        return;
+      }
+      if (!budget.tryAcquire()) {
+        metrics.recordHedgeBudgetExhausted();
+        log.debug("헤징 생략 (헤징 예산 소진): path={}", request.getPath());
+        finishAttempt();
+        return;
+      }
+      metrics.recordHedge();
+      log.debug("응답 지연으로 헤징 요청 전송: path={}, 대기={}ms", request.getPath(), delay);
+      launch(true);
+    }
+
+    private void launch(boolean hedged) {
+      long startNanos = System.nanoTime();
+      CompletableFuture<SejongHttpResponse> attempt = session.enqueue(request);
+      attempts.add(attempt);
+      attempt.whenComplete((response, error) -> {
+        if (!hedged && (error == null || lostToHedge(attempt))) {
+          window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+        if (error == null) {
+          if (result.complete(response)) {
+            if (hedged) {
+              metrics.recordHedgeWin();
+            }
+            attempts.stream().filter(other -> other != attempt).forEach(other -> other.cancel(true));
+          } else {
+            response.close();
+          }
+        } else {
+          lastFailure = error;
+          finishAttempt();
+        }
+      });
+    }
+
+    /**
+     * 실패했거나 보내지 않은 시도 정리
+     * - 마지막 시도였으면 마지막 실패로 결과 완료 (먼저 성공한 응답이 있으면 무시됨)
+     */
+    private void finishAttempt() {
+      if (outstanding.decrementAndGet() == 0) {
+        result.completeExceptionally(lastFailure);
+      }
+    }
+
+    /**
+     * 헤징 요청이 먼저 성공하여 취소된 시도인지 확인
+     */
+    private boolean lostToHedge(CompletableFuture<SejongHttpResponse> attempt) {
+      return attempt.isCancelled() && result.isDone() && !result.isCompletedExceptionally();
+    }
+  }
+
+  /**
+   * 최근 응답 시간 표본 (고정 크기 순환 버퍼)
+   */
+  static final class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    LatencyWindow(int size) {
+      this.samples = new long[size];
+    }
+
+    synchronized void record(long millis) {
+      samples[next] = millis;
+      next = (next + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * 백분위 응답 시간
+     *
+     * @return 표본이 minSamples 미만이면 -1
+     */
+    long percentile(double percentile, int minSamples) {
+      long[] sorted;
+      synchronized (this) {
+        if (count < minSamples) {
+          return -1;
+        }
+        sorted = Arrays.copyOf(samples, count);
+      }
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+      return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+  }
+}
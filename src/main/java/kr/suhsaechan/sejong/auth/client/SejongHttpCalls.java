@@ -0,0 +1,121 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.transport.SejongBodyTooLargeException;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 HTTP 요청 공통 처리
+ * - 응답 닫기, 본문 크기 초과 변환, 비동기 예외 변환 (재시도는 SejongRetryPolicy)
+ */
+@Slf4j
+final class SejongHttpCalls {
+
+  private SejongHttpCalls() {
+    // 유틸리티 클래스 인스턴스화 방지
+  }
+
+  /**
+   * 응답 처리 함수 (IOException 허용)
+   */
+  @FunctionalInterface
+  interface ResponseHandler<T> {
+    T handle(SejongHttpResponse response) throws IOException;
+  }
+
+  /**
+   * 응답을 처리한 뒤 반드시 닫는 Function으로 변환
+   */
+  static <T> Function<SejongHttpResponse, T> closing(ResponseHandler<T> handler) {
+    return response -> {
+      try (response) {
+        return handler.handle(response);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
+  /**
+   * 응답 본문 읽기
+   * - 본문이 요청의 maxBodyBytes를 초과하면 RESPONSE_TOO_LARGE로 변환
+   * - Jsoup 등이 UncheckedIOException으로 감싼 경우도 원인을 확인하여 변환
+   */
+  static <T> T readBody(SejongHttpResponse response, ResponseHandler<T> reader) throws IOException {
+    try {
+      return reader.handle(response);
+    } catch (IOException | UncheckedIOException e) {
+      SejongBodyTooLargeException tooLarge = findBodyTooLarge(e);
+      if (tooLarge != null) {
+        log.warn("응답 본문 최대 크기 초과: url={}, maxBytes={}", response.finalUrl(), tooLarge.getMaxBytes());
+        throw new SejongAuthException(SejongAuthErrorCode.RESPONSE_TOO_LARGE, tooLarge);
+      }
+      throw e;
+    }
+  }
+
+  private static SejongBodyTooLargeException findBodyTooLarge(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SejongBodyTooLargeException) {
+        return (SejongBodyTooLargeException) cause;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 비동기 처리 중 발생한 예외를 SejongAuthException으로 변환
+   *
+   * @param error 발생한 예외
+   * @param context 로그용 작업 이름
+   * @return 변환된 예외
+   */
+  static SejongAuthException toAuthException(Throwable error, String context) {
+    Throwable cause = unwrap(error);
+    if (cause instanceof SejongAuthException) {
+      return (SejongAuthException) cause;
+    }
+    if (cause instanceof IOException) {
+      log.error("{} 중 IOException: {}", context, cause.getMessage());
+    } else {
+      log.error("{} 중 예외 발생: {}", context, cause.getMessage());
+    }
+    return new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, cause);
+  }
+
+  /**
+   * CompletionException/ExecutionException 래핑 해제
+   */
+  static Throwable unwrap(Throwable error) {
+    Throwable cause = error;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException
+        || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  /**
+   * 비동기 결과를 그대로 전달하되 실패 시 SejongAuthException으로 변환
+   */
+  static <T> CompletableFuture<T> mapFailure(CompletableFuture<T> future, String context) {
+    return future.handle((result, error) -> {
+      if (error == null) {
+        return result;
+      }
+      if (unwrap(error) instanceof CancellationException) {
+        throw (CancellationException) unwrap(error);
+      }
+      throw toAuthException(error, context);
+    });
+  }
+}
@@ -0,0 +1,16 @@
+package kr.suhsaechan.sejong.auth.client;
+
+/**
+ * 포털 로그인 응답(login_action.jsp) 판정 결과
+ */
+public enum SejongLoginOutcome {
+
+  /** 로그인 성공 (SSO 토큰 쿠키 발급 확인) */
+  SUCCESS,
+
+  /** 로그인 실패 (실패 안내 응답 확인) */
+  FAILURE,
+
+  /** 응답만으로 판정 불가 (이후 SSO/데이터 요청 결과로 판정) */
+  UNKNOWN
+}
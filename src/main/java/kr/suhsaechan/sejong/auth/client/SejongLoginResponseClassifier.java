@@ -0,0 +1,83 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import kr.suhsaechan.sejong.auth.util.CommonUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포털 로그인 응답 판정기
+ * - login_action.jsp 응답의 쿠키, 최종 리다이렉트 위치, 본문으로 로그인 성공/실패를 판정
+ * - 실패가 확실할 때만 FAILURE를 반환하고, 애매하면 UNKNOWN으로 두어 기존 401 판정에 맡김
+ * - 실패 문구는 alert() 안에 있을 때만 인정 (정상 로그인 페이지의 안내 문구/스크립트에도 같은 단어가 있음)
+ */
+@Slf4j
+final class SejongLoginResponseClassifier {
+
+  /** 로그인 성공 시 .sejong.ac.kr 도메인으로 발급되는 SSO 토큰 쿠키 */
+  private static final String SSO_TOKEN_COOKIE = "ssotoken";
+
+  /** 쿠키 확인용 포털 URL */
+  private static final URI PORTAL_URL = URI.create("https://portal.sejong.ac.kr/");
+
+  /** 로그인 실패 시 login_action.jsp가 띄우는 alert 문구 */
+  private static final Pattern FAILURE_ALERT = Pattern.compile(
+      "alert\\(\\s*['\"][^'\"]*(?:"
+          + "비밀번호가 일치하지"
+          + "|비밀번호가 올바르지"
+          + "|아이디 또는 비밀번호를 확인"
+          + "|로그인 정보가 올바르지"
+          + "|등록되지 않은 사용자)");
+
+  private SejongLoginResponseClassifier() {
+    // 유틸리티 클래스 인스턴스화 방지
+  }
+
+  /**
+   * 로그인 응답 판정
+   *
+   * @param session 로그인 요청을 보낸 세션 (쿠키 확인용)
+   * @param response 로그인 응답 (리다이렉트 이후 최종 응답)
+   * @param body 응답 본문
+   * @return 판정 결과
+   */
+  static SejongLoginOutcome classify(SejongPortalSession session, SejongHttpResponse response, String body) {
+    // 1. SSO 토큰 쿠키가 발급되었으면 성공
+    if (hasSsoToken(session)) {
+      return SejongLoginOutcome.SUCCESS;
+    }
+
+    // 2. 쿠키 없이 실패 안내 페이지로 이동했거나 실패 문구가 있으면 실패
+    String finalUrl = response.finalUrl();
+    if (isLoginErrorUrl(finalUrl) || containsFailureAlert(body)) {
+      log.debug("로그인 실패 응답 감지: code={}, finalUrl={}", response.code(), finalUrl);
+      return SejongLoginOutcome.FAILURE;
+    }
+
+    // 3. 그 외에는 판정 보류
+    return SejongLoginOutcome.UNKNOWN;
+  }
+
+  private static boolean hasSsoToken(SejongPortalSession session) {
+    List<HttpCookie> cookies = session.getTransport().cookieStore().get(PORTAL_URL);
+    for (HttpCookie cookie : cookies) {
+      if (SSO_TOKEN_COOKIE.equalsIgnoreCase(cookie.getName()) && CommonUtil.hasText(cookie.getValue())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isLoginErrorUrl(String finalUrl) {
+    String lower = finalUrl.toLowerCase(Locale.ROOT);
+    return lower.contains("/login") && (lower.contains("fail") || lower.contains("error"));
+  }
+
+  private static boolean containsFailureAlert(String body) {
+    return !CommonUtil.isEmpty(body) && FAILURE_ALERT.matcher(body).find();
+  }
+}
@@ -1,26 +1,22 @@
 package kr.suhsaechan.sejong.auth.client;
 
 import java.io.IOException;
-import java.net.CookieManager;
-import java.net.CookiePolicy;
-import java.net.SocketTimeoutException;
-import java.security.SecureRandom;
-import java.util.concurrent.TimeUnit;
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import java.io.InputStreamReader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicSection;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicSectionIndex;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicSectionReader;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicStatusParser;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpTransport;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.FormBody;
-import okhttp3.JavaNetCookieJar;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import okhttp3.Response;
+import org.jsoup.nodes.Document;
 
 /**
  * 세종대학교 포털 HTTP 클라이언트
@@ -35,9 +31,21 @@ public class SejongPortalClient {
   private static final String DEFAULT_COOKIE = "chknos=false";
 
   private final SejongAuthProperties properties;
+  private final SejongHttpTransport transport;
+  private final SejongRetryPolicy retryPolicy;
 
-  public SejongPortalClient(SejongAuthProperties properties) {
+  /**
+   * @param transport HTTP 전송 계층 (호출자가 소유하며 사용이 끝나면 close() 호출)
+   */
+  public SejongPortalClient(SejongAuthProperties properties, SejongHttpTransport transport) {
+    this(properties, transport, new SejongRetryPolicy(properties));
+  }
+
+  public SejongPortalClient(SejongAuthProperties properties, SejongHttpTransport transport,
+      SejongRetryPolicy retryPolicy) {
     this.properties = properties;
+    this.transport = transport;
+    this.retryPolicy = retryPolicy;
   }
 
   /**
@@ -49,205 +57,445 @@ public class SejongPortalClient {
    * @throws SejongAuthException 인증 실패 시
    */
   public String authenticateAndFetchHtml(String studentId, String password) {
-    try {
-      OkHttpClient client = buildClient();
+    SejongPortalSession session = login(studentId, password);
+    return fetchClassicStatusHtml(session);
+  }
 
-      // 1. 포털 로그인
-      doPortalLogin(client, studentId, password);
+  /**
+   * 세종포털 로그인 후 고전독서인증현황 페이지를 Document로 반환
+   * - 응답 본문을 문자열로 만들지 않고 Jsoup에 스트림으로 전달
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 고전독서인증현황 페이지 Document
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public Document authenticateAndFetchDocument(String studentId, String password) {
+    SejongPortalSession session = login(studentId, password);
+    return fetchClassicStatusDocument(session);
+  }
+
+  /**
+   * 로그인 직전 연결 준비 (학번/비밀번호 입력 중에 호출)
+   * - 세종 호스트에 미리 연결하여 TCP/TLS 핸드셰이크를 로그인 전에 끝냄
+   *
+   * @return 연결 시도가 끝나면 완료되는 Future (실패해도 정상 완료)
+   */
+  public CompletableFuture<Void> prepare() {
+    return transport.prepare();
+  }
 
-      // 2. SSO 리다이렉트
-      handleSsoRedirect(client);
+  /**
+   * 로그인 전 빈 세션 생성 (네트워크 요청 없음)
+   * - deadline-seconds 설정에 따라 이 시점부터 전체 제한 시간 계산 시작
+   *
+   * @param studentId 학번
+   * @return 쿠키가 비어있는 포털 세션
+   */
+  public SejongPortalSession openSession(String studentId) {
+    return new SejongPortalSession(studentId, transport.newSession(),
+        SejongDeadline.afterSeconds(properties.getDeadlineSeconds()));
+  }
 
-      // 3. 고전독서인증현황 페이지 HTML 반환
-      return fetchClassicStatusPage(client);
+  /**
+   * 세종포털 로그인 후 세션 반환
+   * - 반환된 세션은 DHC/SIS SSO 요청에서 공유 가능
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 포털 로그인 세션
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public SejongPortalSession login(String studentId, String password) {
+    try {
+      SejongPortalSession session = openSession(studentId);
+      doPortalLogin(session, studentId, password);
+      return session;
 
     } catch (SejongAuthException e) {
       throw e;
     } catch (IOException e) {
-      log.error("세종포털 인증 중 IOException: {}", e.getMessage());
+      log.error("세종포털 로그인 중 IOException: {}", e.getMessage());
       throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, e);
     } catch (Exception e) {
-      log.error("세종포털 인증 중 예외 발생: {}", e.getMessage());
+      log.error("세종포털 로그인 중 예외 발생: {}", e.getMessage());
       throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, e);
     }
   }
 
   /**
-   * 세종포털 로그인 요청
+   * 세종포털 비동기 로그인
+   * - 전송 계층 비동기 호출 기반으로 호출 스레드를 점유하지 않음
+   *
+   * @param session openSession()으로 생성한 세션
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 로그인된 세션
    */
-  private void doPortalLogin(OkHttpClient client, String studentId, String password) throws IOException {
-    // rtUrl을 classic.sejong.ac.kr로 변경 (고전독서 사이트로 리다이렉트)
-    RequestBody formBody = new FormBody.Builder()
-        .add("mainLogin", "N")
-        .add("rtUrl", "classic.sejong.ac.kr")
-        .add("id", studentId)
-        .add("password", password)
-        .build();
+  public CompletableFuture<SejongPortalSession> loginAsync(
+      SejongPortalSession session, String studentId, String password) {
+    SejongHttpRequest request = buildLoginRequest(studentId, password);
+    log.debug("세종포털 비동기 로그인 요청: URL={}, studentId={}", properties.getPortalLoginUrl(), studentId);
+
+    CompletableFuture<SejongPortalSession> future =
+        retryPolicy.executeAsync(session, request)
+            .thenApply(SejongHttpCalls.closing(response -> {
+              readLoginResponse(session, response);
+              return session;
+            }));
+    return SejongHttpCalls.mapFailure(future, "세종포털 로그인");
+  }
 
-    Request request = new Request.Builder()
-        .url(properties.getPortalLoginUrl())
-        .post(formBody)
-        .header("Host", PORTAL_HOST)
-        .header("Referer", PORTAL_REFERER)
-        .header("Cookie", DEFAULT_COOKIE)
-        .build();
+  /**
+   * 로그인된 세션으로 고전독서인증현황 페이지 HTML 반환
+   *
+   * @param session 포털 로그인 세션
+   * @return 고전독서인증현황 페이지 HTML
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public String fetchClassicStatusHtml(SejongPortalSession session) {
+    return fetchClassicStatusPage(session, SejongHttpResponse::bodyString);
+  }
 
-    log.debug("세종포털 로그인 요청: URL={}, studentId={}", properties.getPortalLoginUrl(), studentId);
+  /**
+   * 로그인된 세션으로 고전독서인증현황 페이지 Document 반환
+   * - 응답 본문을 문자열로 만들지 않고 Jsoup에 스트림으로 전달
+   *
+   * @param session 포털 로그인 세션
+   * @return 고전독서인증현황 페이지 Document
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public Document fetchClassicStatusDocument(SejongPortalSession session) {
+    return fetchClassicStatusDocument(session, SejongClassicSection.ALL);
+  }
 
-    try (Response response = executeWithRetry(client, request)) {
-      // 응답 바디 읽기 (원본 Malsami 코드와 동일하게 로그인 실패 체크 제거)
-      // 로그인 성공/실패 여부는 이후 SSO 및 데이터 페이지 요청에서 간접적으로 확인됨
-      String responseBody = response.body() != null ? response.body().string() : "";
+  /**
+   * 로그인된 세션으로 고전독서인증현황 페이지 Document 반환 (필요한 섹션까지만 읽기)
+   * - 요청한 섹션을 모두 읽으면 나머지 본문은 내려받거나 파싱하지 않음
+   *
+   * @param session 포털 로그인 세션
+   * @param sections 필요한 섹션
+   * @return 요청한 섹션까지 파싱된 Document
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public Document fetchClassicStatusDocument(SejongPortalSession session, Set<SejongClassicSection> sections) {
+    return fetchClassicStatusPage(session, response -> parseDocument(response, sections));
+  }
 
-      log.debug("세종포털 로그인 응답: code={}, bodyLength={}", response.code(), responseBody.length());
-      log.debug("세종포털 로그인 요청 완료: 응답코드={}", response.code());
-    }
+  /**
+   * 로그인된 세션으로 고전독서인증현황 페이지 섹션 색인 반환
+   * - 응답 본문을 스트림으로 읽어 parser로 파싱 (페이지 구조가 다르면 Jsoup 파싱으로 대체)
+   *
+   * @param session 포털 로그인 세션
+   * @param parser 고전독서 페이지 파서
+   * @return 고전독서인증현황 페이지 섹션 색인
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public SejongClassicSectionIndex fetchClassicStatusSections(
+      SejongPortalSession session, SejongClassicStatusParser parser) {
+    return fetchClassicStatusPage(session, response -> parseSections(response, parser));
   }
 
   /**
-   * SSO 리다이렉트 처리
+   * 로그인된 세션으로 고전독서인증현황 페이지 HTML 비동기 조회
+   *
+   * @param session 포털 로그인 세션
+   * @return 고전독서인증현황 페이지 HTML
    */
-  private void handleSsoRedirect(OkHttpClient client) throws IOException {
-    Request ssoRequest = new Request.Builder()
-        .url(properties.getSsoRedirectUrl())
-        .get()
-        .build();
+  public CompletableFuture<String> fetchClassicStatusHtmlAsync(SejongPortalSession session) {
+    return fetchClassicStatusPageAsync(session, SejongHttpResponse::bodyString, null);
+  }
 
-    try (Response ssoResponse = client.newCall(ssoRequest).execute()) {
-      if (!ssoResponse.isSuccessful()) {
-        throw new SejongAuthException(SejongAuthErrorCode.SESSION_ERROR,
-            "SSO 리다이렉트 실패: " + ssoResponse.code());
-      }
-      log.debug("SSO 리다이렉트 완료: 응답코드={}", ssoResponse.code());
-    }
+  /**
+   * 로그인된 세션으로 고전독서인증현황 페이지 Document 비동기 조회
+   * - 본문 읽기와 파싱은 parseExecutor에서 수행 (HTTP 콜백 스레드를 점유하지 않음)
+   *
+   * @param session 포털 로그인 세션
+   * @param parseExecutor 본문 파싱용 Executor
+   * @return 고전독서인증현황 페이지 Document
+   */
+  public CompletableFuture<Document> fetchClassicStatusDocumentAsync(
+      SejongPortalSession session, Executor parseExecutor) {
+    return fetchClassicStatusDocumentAsync(session, SejongClassicSection.ALL, parseExecutor);
   }
 
   /**
-   * 고전독서인증현황 페이지 HTML 가져오기
-   * - 401 응답: 로그인 실패 (학번/비밀번호 불일치)
-   * - 그 외 실패: 데이터 조회 실패
+   * 로그인된 세션으로 고전독서인증현황 페이지 Document 비동기 조회 (필요한 섹션까지만 읽기)
+   *
+   * @param session 포털 로그인 세션
+   * @param sections 필요한 섹션
+   * @param parseExecutor 본문 파싱용 Executor
+   * @return 요청한 섹션까지 파싱된 Document
    */
-  private String fetchClassicStatusPage(OkHttpClient client) throws IOException {
-    Request request = new Request.Builder()
-        .url(properties.getClassicStatusUrl())
-        .get()
-        .build();
+  public CompletableFuture<Document> fetchClassicStatusDocumentAsync(
+      SejongPortalSession session, Set<SejongClassicSection> sections, Executor parseExecutor) {
+    return fetchClassicStatusPageAsync(session, response -> parseDocument(response, sections), parseExecutor);
+  }
 
-    try (Response response = client.newCall(request).execute()) {
-      int responseCode = response.code();
+  /**
+   * 로그인된 세션으로 고전독서인증현황 페이지 섹션 색인 비동기 조회
+   * - 본문 읽기와 파싱은 parseExecutor에서 수행 (HTTP 콜백 스레드를 점유하지 않음)
+   *
+   * @param session 포털 로그인 세션
+   * @param parser 고전독서 페이지 파서
+   * @param parseExecutor 본문 파싱용 Executor
+   * @return 고전독서인증현황 페이지 섹션 색인
+   */
+  public CompletableFuture<SejongClassicSectionIndex> fetchClassicStatusSectionsAsync(
+      SejongPortalSession session, SejongClassicStatusParser parser, Executor parseExecutor) {
+    return fetchClassicStatusPageAsync(session, response -> parseSections(response, parser), parseExecutor);
+  }
 
-      // 401 Unauthorized: 로그인 실패 (학번/비밀번호 불일치)
-      if (responseCode == 401) {
-        log.warn("세종포털 인증 실패: 401 Unauthorized - 학번 또는 비밀번호가 일치하지 않습니다.");
-        throw new SejongAuthException(SejongAuthErrorCode.AUTHENTICATION_FAILED);
+  /**
+   * 학번/비밀번호 일치 여부만 확인
+   * - 로그인 응답에서 성공이 확인되면 SSO/데이터 요청 없이 종료
+   * - 판정이 애매하면 고전독서 페이지의 응답 코드만 확인 (본문은 읽지 않음)
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public void verifyCredentials(String studentId, String password) {
+    SejongPortalSession session = login(studentId, password);
+    try {
+      if (session.getLoginOutcome() == SejongLoginOutcome.SUCCESS) {
+        log.debug("세종포털 로그인 응답에서 인증 확인 완료: studentId={}", studentId);
+        return;
       }
 
-      // 그 외 실패 응답
-      if (response.body() == null || responseCode != 200) {
-        throw new SejongAuthException(SejongAuthErrorCode.DATA_FETCH_FAILED,
-            "고전독서 페이지 요청 실패: " + responseCode);
+      // 판정 보류: 고전독서 페이지 접근 가능 여부로 확인
+      try (SejongHttpResponse ssoResponse = retryPolicy.execute(session, buildSsoRequest())) {
+        checkSsoResponse(ssoResponse);
+      }
+      try (SejongHttpResponse response = retryPolicy.execute(session, buildClassicStatusRequest())) {
+        checkClassicStatusAccess(response);
       }
 
-      String html = response.body().string();
-      log.debug("고전독서 페이지 요청 완료: 응답코드={}, HTML길이={}", responseCode, html.length());
-      return html;
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (IOException e) {
+      log.error("세종포털 인증 확인 중 IOException: {}", e.getMessage());
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, e);
+    } catch (Exception e) {
+      log.error("세종포털 인증 확인 중 예외 발생: {}", e.getMessage());
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, e);
+    } finally {
+      session.cancel();
     }
   }
 
   /**
-   * 재시도 로직이 포함된 요청 실행
-   */
-  private Response executeWithRetry(OkHttpClient client, Request request) throws IOException {
-    Response response = null;
-    int tryCount = 0;
-    int maxRetry = properties.getMaxRetry();
-
-    while (tryCount < maxRetry) {
-      try {
-        response = client.newCall(request).execute();
-        if (response.isSuccessful()) {
-          return response;
-        }
-        tryCount++;
-        log.warn("요청 실패, 재시도 중... ({}회)", tryCount);
-      } catch (SocketTimeoutException e) {
-        tryCount++;
-        log.warn("타임아웃 발생, 재시도 중... ({}회)", tryCount);
-        if (tryCount >= maxRetry) {
-          throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_TIMEOUT, e);
-        }
-      }
+   * 학번/비밀번호 일치 여부 비동기 확인
+   *
+   * @param session openSession()으로 생성한 세션
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 인증이 확인된 세션
+   */
+  public CompletableFuture<SejongPortalSession> verifyCredentialsAsync(
+      SejongPortalSession session, String studentId, String password) {
+    CompletableFuture<SejongPortalSession> future = loginAsync(session, studentId, password)
+        .thenCompose(loggedIn -> {
+          if (loggedIn.getLoginOutcome() == SejongLoginOutcome.SUCCESS) {
+            log.debug("세종포털 로그인 응답에서 인증 확인 완료: studentId={}", studentId);
+            return CompletableFuture.completedFuture(loggedIn);
+          }
+          return retryPolicy.executeAsync(loggedIn, buildSsoRequest())
+              .thenApply(SejongHttpCalls.closing(ssoResponse -> {
+                checkSsoResponse(ssoResponse);
+                return ssoResponse.code();
+              }))
+              .thenCompose(ssoCode -> retryPolicy.executeAsync(loggedIn, buildClassicStatusRequest()))
+              .thenApply(SejongHttpCalls.closing(response -> {
+                checkClassicStatusAccess(response);
+                return loggedIn;
+              }));
+        });
+    return SejongHttpCalls.mapFailure(future, "세종포털 인증 확인");
+  }
+
+  /**
+   * 세종포털 로그인 요청
+   */
+  private void doPortalLogin(SejongPortalSession session, String studentId, String password) throws IOException {
+    SejongHttpRequest request = buildLoginRequest(studentId, password);
+    log.debug("세종포털 로그인 요청: URL={}, studentId={}", properties.getPortalLoginUrl(), studentId);
+
+    try (SejongHttpResponse response = retryPolicy.execute(session, request)) {
+      readLoginResponse(session, response);
+    }
+  }
+
+  /**
+   * 세종포털 로그인 요청 생성
+   */
+  private SejongHttpRequest buildLoginRequest(String studentId, String password) {
+    // rtUrl을 classic.sejong.ac.kr로 변경 (고전독서 사이트로 리다이렉트)
+    return SejongHttpRequest.post(properties.getPortalLoginUrl())
+        .formField("mainLogin", "N")
+        .formField("rtUrl", "classic.sejong.ac.kr")
+        .formField("id", studentId)
+        .formField("password", password)
+        .header("Host", PORTAL_HOST)
+        .header("Referer", PORTAL_REFERER)
+        .header("Cookie", DEFAULT_COOKIE)
+        .maxBodyBytes(properties.getBodyLimit().getLoginBytes())
+        .build();
+  }
+
+  /**
+   * 세종포털 로그인 응답 처리
+   * - 응답(쿠키, 최종 리다이렉트 위치, 본문)으로 즉시 로그인 성공/실패 판정
+   * - 실패가 확실하면 SSO/데이터 요청 없이 AUTHENTICATION_FAILED 발생
+   * - 판정이 애매하면 이후 데이터 페이지의 401 응답으로 판정
+   */
+  private void readLoginResponse(SejongPortalSession session, SejongHttpResponse response) throws IOException {
+    if (!response.isSuccessful()) {
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED,
+          "세종포털 로그인 요청 실패: " + response.code());
+    }
+    String responseBody = SejongHttpCalls.readBody(response, SejongHttpResponse::bodyString);
+    log.debug("세종포털 로그인 응답: code={}, bodyLength={}", response.code(), responseBody.length());
+
+    SejongLoginOutcome outcome = SejongLoginResponseClassifier.classify(session, response, responseBody);
+    session.setLoginOutcome(outcome);
+    if (outcome == SejongLoginOutcome.FAILURE) {
+      log.warn("세종포털 인증 실패: 로그인 응답에서 실패 확인 - 학번 또는 비밀번호가 일치하지 않습니다.");
+      throw new SejongAuthException(SejongAuthErrorCode.AUTHENTICATION_FAILED);
+    }
+    log.debug("세종포털 로그인 요청 완료: 응답코드={}, 판정={}", response.code(), outcome);
+  }
+
+  /**
+   * SSO 리다이렉트 요청 생성
+   * - sso-return.jsp는 포털 SSO 토큰을 한 번 교환하므로 헤징하지 않고 연결 단계 실패만 재시도
+   */
+  private SejongHttpRequest buildSsoRequest() {
+    return SejongHttpRequest.get(properties.getSsoRedirectUrl())
+        .oneShot()
+        .build();
+  }
+
+  /**
+   * SSO 리다이렉트 응답 확인
+   */
+  private void checkSsoResponse(SejongHttpResponse ssoResponse) {
+    if (!ssoResponse.isSuccessful()) {
+      throw new SejongAuthException(SejongAuthErrorCode.SESSION_ERROR,
+          "SSO 리다이렉트 실패: " + ssoResponse.code());
     }
+    log.debug("SSO 리다이렉트 완료: 응답코드={}", ssoResponse.code());
+  }
 
-    throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED,
-        "최대 재시도 횟수 초과: " + maxRetry);
+  /**
+   * 고전독서인증현황 페이지 요청 생성
+   */
+  private SejongHttpRequest buildClassicStatusRequest() {
+    return SejongHttpRequest.get(properties.getClassicStatusUrl())
+        .maxBodyBytes(properties.getBodyLimit().getClassicStatusBytes())
+        .build();
   }
 
   /**
-   * OkHttpClient 생성
-   * - SSL 검증 설정 적용
-   * - 쿠키 자동 관리
-   * - 타임아웃 설정
+   * SSO 리다이렉트 후 고전독서인증현황 페이지 조회
+   *
+   * @param reader 응답 본문 처리 방식 (문자열 또는 Document)
    */
-  private OkHttpClient buildClient() {
+  private <T> T fetchClassicStatusPage(SejongPortalSession session, SejongHttpCalls.ResponseHandler<T> reader) {
     try {
-      OkHttpClient.Builder builder = new OkHttpClient.Builder();
-
-      // 타임아웃 설정
-      int timeout = properties.getTimeoutSeconds();
-      builder.connectTimeout(timeout, TimeUnit.SECONDS);
-      builder.readTimeout(timeout, TimeUnit.SECONDS);
-      builder.writeTimeout(timeout, TimeUnit.SECONDS);
-
-      // 쿠키 관리
-      CookieManager cookieManager = new CookieManager();
-      cookieManager.setCookiePolicy(CookiePolicy.ACCEPT_ALL);
-      builder.cookieJar(new JavaNetCookieJar(cookieManager));
-
-      // SSL 검증 비활성화 (설정에 따라)
-      if (!properties.isSslVerification()) {
-        SSLContext sslContext = SSLContext.getInstance("SSL");
-        X509TrustManager trustManager = createTrustAllManager();
-        sslContext.init(null, new TrustManager[]{trustManager}, new SecureRandom());
-        SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
-
-        builder.sslSocketFactory(sslSocketFactory, trustManager);
-        builder.hostnameVerifier(createTrustAllHostnameVerifier());
-
-        log.debug("SSL 검증 비활성화됨");
+      // 1. SSO 리다이렉트
+      try (SejongHttpResponse ssoResponse = retryPolicy.execute(session, buildSsoRequest())) {
+        checkSsoResponse(ssoResponse);
       }
 
-      return builder.build();
+      // 2. 고전독서인증현황 페이지 읽기
+      try (SejongHttpResponse response = retryPolicy.execute(session, buildClassicStatusRequest())) {
+        return readClassicStatusPage(response, reader);
+      }
 
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (IOException e) {
+      log.error("세종포털 인증 중 IOException: {}", e.getMessage());
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, e);
     } catch (Exception e) {
-      throw new SejongAuthException(SejongAuthErrorCode.SSL_CONFIGURATION_ERROR, e);
+      log.error("세종포털 인증 중 예외 발생: {}", e.getMessage());
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, e);
     }
   }
 
   /**
-   * 모든 인증서를 신뢰하는 TrustManager 생성
+   * SSO 리다이렉트 후 고전독서인증현황 페이지 비동기 조회
+   *
+   * @param reader 응답 본문 처리 방식 (문자열 또는 Document)
+   * @param readExecutor 본문 처리용 Executor (null이면 HTTP 콜백 스레드에서 처리)
    */
-  private X509TrustManager createTrustAllManager() {
-    return new X509TrustManager() {
-      @Override
-      public void checkClientTrusted(java.security.cert.X509Certificate[] chain, String authType) {
-      }
+  private <T> CompletableFuture<T> fetchClassicStatusPageAsync(
+      SejongPortalSession session, SejongHttpCalls.ResponseHandler<T> reader, Executor readExecutor) {
+    CompletableFuture<SejongHttpResponse> page = retryPolicy.executeAsync(session, buildSsoRequest())
+        .thenApply(SejongHttpCalls.closing(ssoResponse -> {
+          checkSsoResponse(ssoResponse);
+          return ssoResponse.code();
+        }))
+        .thenCompose(ssoCode -> retryPolicy.executeAsync(session, buildClassicStatusRequest()));
+
+    SejongHttpCalls.ResponseHandler<T> pageReader = response -> readClassicStatusPage(response, reader);
+    CompletableFuture<T> future = readExecutor != null
+        ? page.thenApplyAsync(SejongHttpCalls.closing(pageReader), readExecutor)
+        : page.thenApply(SejongHttpCalls.closing(pageReader));
+    return SejongHttpCalls.mapFailure(future, "세종포털 인증");
+  }
 
-      @Override
-      public void checkServerTrusted(java.security.cert.X509Certificate[] chain, String authType) {
-      }
+  /**
+   * 고전독서인증현황 페이지 본문 읽기
+   * - 401 응답: 로그인 실패 (학번/비밀번호 불일치)
+   * - 그 외 실패: 데이터 조회 실패
+   */
+  private <T> T readClassicStatusPage(SejongHttpResponse response, SejongHttpCalls.ResponseHandler<T> reader)
+      throws IOException {
+    checkClassicStatusAccess(response);
+    T page = SejongHttpCalls.readBody(response, reader);
+    log.debug("고전독서 페이지 요청 완료: 응답코드={}", response.code());
+    return page;
+  }
 
-      @Override
-      public java.security.cert.X509Certificate[] getAcceptedIssuers() {
-        return new java.security.cert.X509Certificate[0];
-      }
-    };
+  /**
+   * 응답 본문 스트림을 Jsoup Document로 파싱
+   * - 요청한 섹션을 모두 읽으면 파싱 중단 (SejongClassicSectionReader)
+   * - Content-Type에 charset이 없으면 UTF-8로 읽음
+   */
+  private Document parseDocument(SejongHttpResponse response, Set<SejongClassicSection> sections)
+      throws IOException {
+    try (InputStreamReader reader = new InputStreamReader(response.body(), response.charset())) {
+      return SejongClassicSectionReader.parse(reader, response.finalUrl(), sections);
+    }
+  }
+
+  /**
+   * 응답 본문 스트림을 섹션 색인으로 파싱
+   * - Content-Type에 charset이 없으면 UTF-8로 읽음
+   */
+  private SejongClassicSectionIndex parseSections(SejongHttpResponse response, SejongClassicStatusParser parser)
+      throws IOException {
+    try (InputStreamReader reader = new InputStreamReader(response.body(), response.charset())) {
+      return parser.parse(reader, response.finalUrl());
+    }
   }
 
   /**
-   * 모든 호스트를 신뢰하는 HostnameVerifier 생성
+   * 고전독서인증현황 페이지 접근 가능 여부 확인 (본문 미사용)
+   * - 401 응답: 로그인 실패 (학번/비밀번호 불일치)
    */
-  private HostnameVerifier createTrustAllHostnameVerifier() {
-    return (hostname, session) -> true;
+  private void checkClassicStatusAccess(SejongHttpResponse response) {
+    int responseCode = response.code();
+    if (responseCode == 401) {
+      log.warn("세종포털 인증 실패: 401 Unauthorized - 학번 또는 비밀번호가 일치하지 않습니다.");
+      throw new SejongAuthException(SejongAuthErrorCode.AUTHENTICATION_FAILED);
+    }
+    if (responseCode != 200) {
+      throw new SejongAuthException(SejongAuthErrorCode.DATA_FETCH_FAILED,
+          "고전독서 페이지 요청 실패: " + responseCode);
+    }
+    log.debug("고전독서 페이지 접근 확인: 응답코드={}", responseCode);
   }
 }
@@ -0,0 +1,145 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import kr.suhsaechan.sejong.auth.transport.SejongTransportSession;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 세종포털 로그인 세션
+ * - 포털 로그인으로 발급된 쿠키(JSESSIONID, ssotoken)를 전송 세션에 보관
+ * - DHC(classic.sejong.ac.kr) SSO와 SIS(sjpt.sejong.ac.kr) SSO가 하나의 세션을 공유
+ * - cancel() 시 세션에서 실행 중인 요청 일괄 취소 (openLinked()로 만든 세션 포함)
+ * - 모든 요청은 세션의 Deadline(전체 인증 제한 시간) 중 남은 시간 안에서 실행
+ */
+@Getter
+public class SejongPortalSession {
+
+  /** 로그인한 학번 */
+  private final String studentId;
+
+  /** 세션 쿠키가 연결된 전송 세션 */
+  @Getter(AccessLevel.PACKAGE)
+  private final SejongTransportSession transport;
+
+  /** 인증 전체 마감 시간 */
+  private final SejongDeadline deadline;
+
+  /** 취소 여부 */
+  private volatile boolean cancelled;
+
+  /** 로그인 응답 판정 결과 (로그인 전에는 UNKNOWN) */
+  private volatile SejongLoginOutcome loginOutcome = SejongLoginOutcome.UNKNOWN;
+
+  /** 이 세션과 함께 취소되는 세션 */
+  private final List<SejongPortalSession> linked = new CopyOnWriteArrayList<>();
+
+  SejongPortalSession(String studentId, SejongTransportSession transport, SejongDeadline deadline) {
+    this.studentId = studentId;
+    this.transport = transport;
+    this.deadline = deadline;
+  }
+
+  /**
+   * 동기 요청 실행
+   * - 남은 제한 시간을 요청 전체 타임아웃으로 적용
+   * - 제한 시간 초과 시 SejongAuthException(CONNECTION_TIMEOUT) 발생
+   */
+  SejongHttpResponse execute(SejongHttpRequest request) throws IOException {
+    deadline.checkRemaining(request.getPath());
+    try {
+      return transport.execute(request, timeoutMillis());
+    } catch (IOException e) {
+      if (deadline.isExpired()) {
+        throw deadline.expired(request.getPath());
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 비동기 요청 실행 (호출 스레드를 점유하지 않음)
+   * - 반환된 Future를 취소하면 해당 요청도 취소됨
+   */
+  CompletableFuture<SejongHttpResponse> enqueue(SejongHttpRequest request) {
+    if (deadline.isExpired()) {
+      return CompletableFuture.failedFuture(deadline.expired(request.getPath()));
+    }
+    CompletableFuture<SejongHttpResponse> future = new CompletableFuture<>();
+    CompletableFuture<SejongHttpResponse> call = transport.executeAsync(request, timeoutMillis());
+
+    call.whenComplete((response, error) -> {
+      if (error == null) {
+        if (!future.complete(response)) {
+          response.close();
+        }
+        return;
+      }
+      Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+      if (cause instanceof IOException && deadline.isExpired()) {
+        future.completeExceptionally(deadline.expired(request.getPath()));
+      } else {
+        future.completeExceptionally(cause);
+      }
+    });
+
+    future.whenComplete((response, error) -> {
+      if (future.isCancelled()) {
+        call.cancel(true);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * 세션의 모든 진행 중 요청 취소
+   * - 취소 이후 실행되는 요청도 즉시 취소됨
+   */
+  public void cancel() {
+    cancelled = true;
+    transport.cancelAll();
+    linked.forEach(SejongPortalSession::cancel);
+  }
+
+  /**
+   * 같은 학번/마감 시간을 쓰고 이 세션과 함께 취소되는 새 세션 생성 (쿠키는 공유하지 않음)
+   * - 공유 세션으로 SSO가 되지 않을 때 별도 로그인용
+   *
+   * @param transport 새 전송 세션
+   * @return 연결된 세션 (이 세션이 이미 취소되었으면 취소된 상태)
+   */
+  SejongPortalSession openLinked(SejongTransportSession transport) {
+    SejongPortalSession session = new SejongPortalSession(studentId, transport, deadline);
+    linked.add(session);
+    if (cancelled) {
+      session.cancel();
+    }
+    return session;
+  }
+
+  /**
+   * 이 세션에서 따라간 리다이렉트 수 (로그인 1회당 왕복 비용 확인용)
+   */
+  public int getRedirectHops() {
+    return transport.redirectHops();
+  }
+
+  void setLoginOutcome(SejongLoginOutcome loginOutcome) {
+    this.loginOutcome = loginOutcome;
+  }
+
+  /**
+   * 남은 제한 시간 (무제한이면 0)
+   * - 밀리초 미만을 버린 값이므로 1ms를 더해 전송 계층 타임아웃이 마감보다 먼저 끝나지 않게 함
+   *   (먼저 끝나면 마감 전 실패로 보고 CONNECTION_TIMEOUT 대신 CONNECTION_FAILED가 됨)
+   */
+  private long timeoutMillis() {
+    return deadline.isBounded() ? deadline.remainingMillis() + 1L : 0L;
+  }
+}
@@ -0,0 +1,54 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추가 요청(재시도, 헤징) 예산
+ * - 최초 요청마다 percent%만큼 적립하고 추가 요청 1회마다 1회분 차감 (최대 burst회분까지 적립)
+ * - 장기적으로 추가 요청 수가 전체 요청의 percent%를 넘지 않음
+ */
+final class SejongRequestBudget {
+
+  /** 토큰 단위 (추가 요청 1회 = 1000) */
+  private static final long TOKEN = 1000L;
+
+  private final long depositPerRequest;
+  private final long maxBalance;
+
+  /** 잔액 (TOKEN 단위) */
+  private final AtomicLong balance;
+
+  /**
+   * @param percent 최초 요청 대비 허용 비율 (%)
+   * @param burst 적립 가능한 최대 추가 요청 수 (시작 잔액)
+   */
+  SejongRequestBudget(double percent, int burst) {
+    this.depositPerRequest = Math.round(TOKEN * Math.max(0.0, percent) / 100.0);
+    this.maxBalance = Math.max(0L, burst) * TOKEN;
+    this.balance = new AtomicLong(maxBalance);
+  }
+
+  /**
+   * 최초 요청 1건분 적립
+   */
+  void deposit() {
+    balance.accumulateAndGet(depositPerRequest, (current, amount) -> Math.min(maxBalance, current + amount));
+  }
+
+  /**
+   * 추가 요청 1회분 차감
+   *
+   * @return 예산이 남아 있으면 true
+   */
+  boolean tryAcquire() {
+    while (true) {
+      long current = balance.get();
+      if (current < TOKEN) {
+        return false;
+      }
+      if (balance.compareAndSet(current, current - TOKEN)) {
+        return true;
+      }
+    }
+  }
+}
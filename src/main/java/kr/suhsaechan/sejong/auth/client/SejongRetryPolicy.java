@@ -0,0 +1,308 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.net.ssl.SSLException;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.transport.SejongBodyTooLargeException;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엔진 전체가 공유하는 HTTP 재시도 정책
+ * - 지수 백오프 + 지터: 재시도 간격을 점점 늘리고 무작위로 흩어 동시 재시도를 분산
+ * - 재시도 예산: 전체 요청 대비 재시도 비율을 제한하여 포털 장애 시 재시도 폭주 방지
+ * - 일시적인 실패(타임아웃, 연결 실패, 408/429/5xx)만 재시도하고 실패 응답은 닫은 뒤 재시도
+ * - 재시도할 수 없거나 횟수를 모두 쓴 실패 응답은 그대로 반환 (응답 코드 판정은 호출 측에서 수행)
+ * - 한 번만 전송해야 하는 요청(oneShot())은 서버에 전달되지 않은 연결 단계 실패만 재시도
+ * - 각 시도는 SejongHedgePolicy가 활성화되어 있으면 헤징 적용 (GET 요청)
+ */
+@Slf4j
+public class SejongRetryPolicy {
+
+  private final int maxAttempts;
+  private final long initialBackoffMillis;
+  private final long maxBackoffMillis;
+  private final double multiplier;
+  private final double jitter;
+  private final SejongRequestBudget budget;
+  private final SejongHedgePolicy hedgePolicy;
+  private final SejongAuthMetrics metrics;
+
+  public SejongRetryPolicy(SejongAuthProperties properties) {
+    this(properties, new SejongAuthMetrics());
+  }
+
+  public SejongRetryPolicy(SejongAuthProperties properties, SejongAuthMetrics metrics) {
+    this(properties, metrics, new SejongHedgePolicy(properties, metrics));
+  }
+
+  /**
+   * @param hedgePolicy 각 시도(GET)에 적용할 헤징 정책
+   */
+  public SejongRetryPolicy(SejongAuthProperties properties, SejongAuthMetrics metrics,
+      SejongHedgePolicy hedgePolicy) {
+    SejongAuthProperties.RetryConfig retry = properties.getRetry();
+    this.maxAttempts = Math.max(1, properties.getMaxRetry());
+    this.initialBackoffMillis = Math.max(0L, retry.getInitialBackoffMillis());
+    this.maxBackoffMillis = Math.max(initialBackoffMillis, retry.getMaxBackoffMillis());
+    this.multiplier = Math.max(1.0, retry.getMultiplier());
+    this.jitter = Math.min(1.0, Math.max(0.0, retry.getJitter()));
+    this.budget = new SejongRequestBudget(retry.getBudgetPercent(), retry.getBudgetBurst());
+    this.hedgePolicy = hedgePolicy;
+    this.metrics = metrics;
+  }
+
+  /**
+   * 재시도를 포함한 동기 요청 실행
+   *
+   * @return 성공 응답, 또는 재시도 불가/횟수 소진 시 마지막 응답 (호출 측에서 닫아야 함)
+   * @throws SejongAuthException 재시도 후에도 일시적 오류가 계속되는 경우 (CONNECTION_TIMEOUT/CONNECTION_FAILED)
+   */
+  SejongHttpResponse execute(SejongPortalSession session, SejongHttpRequest request) throws IOException {
+    deposit();
+    for (int attempt = 1; ; attempt++) {
+      SejongHttpResponse response = null;
+      Throwable failure;
+      try {
+        response = hedgePolicy.appliesTo(request)
+            ? hedgePolicy.execute(session, request)
+            : session.execute(request);
+        if (!isRetryableStatus(request, response.code())) {
+          return response;
+        }
+        failure = null;
+      } catch (IOException e) {
+        if (!isRetryableException(request, e)) {
+          throw e;
+        }
+        failure = e;
+      }
+
+      long delay = nextDelay(session, request, attempt, response, failure);
+      if (delay < 0) {
+        return finish(response, failure);
+      }
+      if (response != null) {
+        response.close();
+      }
+      sleep(delay);
+    }
+  }
+
+  /**
+   * 재시도를 포함한 비동기 요청 실행
+   * - 백오프 대기는 스레드를 점유하지 않음 (CompletableFuture.delayedExecutor)
+   *
+   * @return 성공 응답, 또는 재시도 불가/횟수 소진 시 마지막 응답
+   */
+  CompletableFuture<SejongHttpResponse> executeAsync(SejongPortalSession session, SejongHttpRequest request) {
+    deposit();
+    return executeAsync(session, request, 1);
+  }
+
+  private CompletableFuture<SejongHttpResponse> executeAsync(
+      SejongPortalSession session, SejongHttpRequest request, int attempt) {
+    CompletableFuture<SejongHttpResponse> call = hedgePolicy.appliesTo(request)
+        ? hedgePolicy.enqueue(session, request)
+        : session.enqueue(request);
+    return call
+        .handle((response, error) -> {
+          Throwable failure = error != null ? SejongHttpCalls.unwrap(error) : null;
+          if (failure != null && !isRetryableException(request, failure)) {
+            return CompletableFuture.<SejongHttpResponse>failedFuture(failure);
+          }
+          if (failure == null && !isRetryableStatus(request, response.code())) {
+            return CompletableFuture.completedFuture(response);
+          }
+
+          long delay = nextDelay(session, request, attempt, response, failure);
+          if (delay < 0) {
+            try {
+              return CompletableFuture.completedFuture(finish(response, failure));
+            } catch (SejongAuthException e) {
+              return CompletableFuture.<SejongHttpResponse>failedFuture(e);
+            }
+          }
+          if (response != null) {
+            response.close();
+          }
+          return CompletableFuture.runAsync(() -> { },
+                  CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+              .thenCompose(ignored -> executeAsync(session, request, attempt + 1));
+        })
+        .thenCompose(Function.identity());
+  }
+
+  /**
+   * 일시적인 응답 코드 여부
+   * - 408 Request Timeout, 429 Too Many Requests, 500/502/503/504
+   * - 401 등 나머지 4xx와 501 등은 재시도해도 결과가 같으므로 제외
+   */
+  static boolean isRetryableStatus(int code) {
+    return code == 408 || code == 429 || code == 500 || code == 502 || code == 503 || code == 504;
+  }
+
+  /**
+   * 일시적인 예외 여부
+   * - 타임아웃, 연결 거부/리셋, DNS 조회 실패 등 네트워크 오류만 재시도
+   * - TLS 설정 오류, 본문 크기 초과, 취소/인터럽트, 마감 초과(SejongAuthException)는 재시도하지 않음
+   */
+  static boolean isRetryableException(Throwable error) {
+    if (error instanceof SocketTimeoutException) {
+      return true;
+    }
+    if (error instanceof SSLException || error instanceof SejongBodyTooLargeException
+        || error instanceof InterruptedIOException) {
+      return false;
+    }
+    // 연결 거부/리셋, DNS 조회 실패, 응답 도중 연결 종료 등 (OkHttp 취소는 "Canceled" IOException)
+    return error instanceof IOException && !"Canceled".equals(error.getMessage());
+  }
+
+  /**
+   * 요청이 서버에 전달되기 전에 실패한 연결 단계 오류 여부
+   * - 연결 거부, 호스트/경로 조회 실패, 연결 타임아웃 (JDK HttpConnectTimeoutException, OkHttp "connect timed out")
+   * - 읽기 타임아웃, 응답 도중 연결 종료는 서버가 요청을 처리했을 수 있으므로 제외
+   */
+  static boolean isConnectFailure(Throwable error) {
+    if (error instanceof ConnectException || error instanceof UnknownHostException
+        || error instanceof NoRouteToHostException || error instanceof HttpConnectTimeoutException) {
+      return true;
+    }
+    return error instanceof SocketTimeoutException && error.getMessage() != null
+        && error.getMessage().toLowerCase(Locale.ROOT).contains("connect timed out");
+  }
+
+  /**
+   * n번째 재시도 전 대기 시간 (지수 백오프 + 지터)
+   * - initial * multiplier^(n-1)을 max로 제한한 뒤 jitter 비율만큼 무작위로 줄임
+   *
+   * @param retry 재시도 순번 (1부터)
+   */
+  long backoffMillis(int retry) {
+    double base = initialBackoffMillis * Math.pow(multiplier, Math.max(0, retry - 1));
+    long capped = (long) Math.min(base, maxBackoffMillis);
+    if (capped <= 0 || jitter == 0) {
+      return capped;
+    }
+    return capped - (long) (capped * jitter * ThreadLocalRandom.current().nextDouble());
+  }
+
+  /**
+   * 재시도 예산에서 1회분 차감
+   *
+   * @return 예산이 남아 있으면 true
+   */
+  boolean tryAcquireRetry() {
+    return budget.tryAcquire();
+  }
+
+  /**
+   * 최초 요청마다 예산 적립 (budget-percent만큼, budget-burst까지)
+   */
+  void deposit() {
+    budget.deposit();
+  }
+
+  /**
+   * 요청 종류를 반영한 응답 코드 재시도 여부 (한 번만 전송해야 하는 요청은 응답을 받았으면 재시도하지 않음)
+   */
+  private static boolean isRetryableStatus(SejongHttpRequest request, int code) {
+    return !request.isOneShot() && isRetryableStatus(code);
+  }
+
+  /**
+   * 요청 종류를 반영한 예외 재시도 여부 (한 번만 전송해야 하는 요청은 연결 단계 실패만)
+   */
+  private static boolean isRetryableException(SejongHttpRequest request, Throwable error) {
+    return request.isOneShot() ? isConnectFailure(error) : isRetryableException(error);
+  }
+
+  /**
+   * 다음 재시도까지 대기 시간 결정
+   *
+   * @return 대기 시간 (밀리초), 재시도하지 않으면 -1
+   */
+  private long nextDelay(SejongPortalSession session, SejongHttpRequest request, int attempt,
+      SejongHttpResponse response, Throwable failure) {
+    String reason = failure != null ? failure.getClass().getSimpleName() : "HTTP " + response.code();
+    if (attempt >= maxAttempts || session.isCancelled()) {
+      return -1;
+    }
+
+    long delay = Math.max(backoffMillis(attempt), retryAfterMillis(response));
+    if (session.getDeadline().remainingMillis() <= delay) {
+      log.warn("재시도 생략 (남은 제한 시간 부족): path={}, 원인={}", request.getPath(), reason);
+      return -1;
+    }
+    if (!tryAcquireRetry()) {
+      metrics.recordRetryBudgetExhausted();
+      log.warn("재시도 생략 (재시도 예산 소진): path={}, 원인={}", request.getPath(), reason);
+      return -1;
+    }
+
+    metrics.recordRetry();
+    log.warn("요청 실패, {}ms 후 재시도 ({}/{}): path={}, 원인={}",
+        delay, attempt, maxAttempts - 1, request.getPath(), reason);
+    return delay;
+  }
+
+  /**
+   * 429/503 응답의 Retry-After(초) 값 (max-backoff-millis로 제한)
+   */
+  private long retryAfterMillis(SejongHttpResponse response) {
+    if (response == null) {
+      return 0L;
+    }
+    String retryAfter = response.header("Retry-After");
+    if (retryAfter == null) {
+      return 0L;
+    }
+    try {
+      return Math.min(maxBackoffMillis, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+    } catch (NumberFormatException e) {
+      return 0L;
+    }
+  }
+
+  /**
+   * 재시도를 멈출 때 결과 결정
+   * - 응답이 있으면 그대로 반환, 예외였으면 SejongAuthException으로 변환
+   */
+  private SejongHttpResponse finish(SejongHttpResponse response, Throwable failure) {
+    if (response != null) {
+      return response;
+    }
+    if (failure instanceof SocketTimeoutException) {
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_TIMEOUT, failure);
+    }
+    throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, failure);
+  }
+
+  private void sleep(long delayMillis) throws IOException {
+    if (delayMillis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(delayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("재시도 대기 중 인터럽트");
+    }
+  }
+}
@@ -1,30 +1,27 @@
 package kr.suhsaechan.sejong.auth.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
-import java.net.CookieManager;
-import java.net.CookiePolicy;
-import java.net.SocketTimeoutException;
+import java.io.InputStreamReader;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
 import java.util.Base64;
-import java.util.concurrent.TimeUnit;
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.model.SejongSisProfile;
+import kr.suhsaechan.sejong.auth.parser.SejongSisParser;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpTransport;
+import kr.suhsaechan.sejong.auth.util.SejongJson;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.FormBody;
-import okhttp3.JavaNetCookieJar;
-import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import okhttp3.Response;
 
 /**
  * 세종대학교 학사정보시스템(SIS) HTTP 클라이언트
@@ -43,9 +40,38 @@ public class SejongSisClient {
   private static final String SJPT_INIT_USER_INFO_URL = "https://sjpt.sejong.ac.kr/main/sys/UserInfo/initUserInfo.do";
 
   private final SejongAuthProperties properties;
+  private final SejongHttpTransport transport;
+  private final SejongRetryPolicy retryPolicy;
+  private final SejongJson sejongJson;
+  private final SejongAuthMetrics metrics;
 
-  public SejongSisClient(SejongAuthProperties properties) {
+  /** 공유 세션의 sjpt SSO가 거부된 적 있는지 (이후에는 바로 sjpt 전용 로그인) */
+  private volatile boolean sharedLoginRejected;
+
+  /**
+   * @param transport HTTP 전송 계층 (호출자가 소유하며 사용이 끝나면 close() 호출)
+   */
+  public SejongSisClient(SejongAuthProperties properties, SejongHttpTransport transport) {
+    this(properties, transport, new SejongRetryPolicy(properties));
+  }
+
+  public SejongSisClient(SejongAuthProperties properties, SejongHttpTransport transport,
+      SejongRetryPolicy retryPolicy) {
+    this(properties, transport, retryPolicy, SejongJson.shared());
+  }
+
+  public SejongSisClient(SejongAuthProperties properties, SejongHttpTransport transport,
+      SejongRetryPolicy retryPolicy, SejongJson sejongJson) {
+    this(properties, transport, retryPolicy, sejongJson, new SejongAuthMetrics());
+  }
+
+  public SejongSisClient(SejongAuthProperties properties, SejongHttpTransport transport,
+      SejongRetryPolicy retryPolicy, SejongJson sejongJson, SejongAuthMetrics metrics) {
     this.properties = properties;
+    this.transport = transport;
+    this.retryPolicy = retryPolicy;
+    this.sejongJson = sejongJson;
+    this.metrics = metrics;
   }
 
   /**
@@ -57,17 +83,192 @@ public class SejongSisClient {
    * @throws SejongAuthException 인증 실패 시
    */
   public String authenticateAndFetchJson(String studentId, String password) {
+    return authenticateAndFetch(studentId, password, SejongHttpResponse::bodyString);
+  }
+
+  /**
+   * 세종포털 로그인 후 학사정보시스템 사용자 정보를 SejongSisProfile로 반환
+   * - 응답 본문 스트림을 parser로 한 번만 읽음 (JSON 트리를 만들지 않음)
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @param parser SIS 응답 파서
+   * @return 사용자 정보
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public SejongSisProfile authenticateAndFetchProfile(String studentId, String password, SejongSisParser parser) {
+    return authenticateAndFetch(studentId, password, response -> readProfile(response, parser));
+  }
+
+  /**
+   * 세종포털 비동기 로그인 후 학사정보시스템 사용자 정보 JSON 반환
+   * - 전송 계층 비동기 호출 기반으로 호출 스레드를 점유하지 않음
+   *
+   * @param session openSession()으로 생성한 세션
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return initUserInfo.do API 응답 JSON
+   */
+  public CompletableFuture<String> authenticateAndFetchJsonAsync(
+      SejongPortalSession session, String studentId, String password) {
+    return authenticateAndFetchAsync(session, studentId, password, SejongHttpResponse::bodyString, null);
+  }
+
+  /**
+   * 세종포털 비동기 로그인 후 학사정보시스템 사용자 정보를 SejongSisProfile로 반환
+   * - 본문 읽기와 파싱은 parseExecutor에서 수행 (HTTP 콜백 스레드를 점유하지 않음)
+   *
+   * @param session openSession()으로 생성한 세션
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @param parser SIS 응답 파서
+   * @param parseExecutor 본문 파싱용 Executor
+   * @return 사용자 정보
+   */
+  public CompletableFuture<SejongSisProfile> authenticateAndFetchProfileAsync(SejongPortalSession session,
+      String studentId, String password, SejongSisParser parser, Executor parseExecutor) {
+    return authenticateAndFetchAsync(session, studentId, password, response -> readProfile(response, parser),
+        parseExecutor);
+  }
+
+  /**
+   * 로그인 전 빈 세션 생성 (네트워크 요청 없음)
+   * - deadline-seconds 설정에 따라 이 시점부터 전체 제한 시간 계산 시작
+   *
+   * @param studentId 학번
+   * @return 쿠키가 비어있는 포털 세션
+   */
+  public SejongPortalSession openSession(String studentId) {
+    return new SejongPortalSession(studentId, transport.newSession(),
+        SejongDeadline.afterSeconds(properties.getDeadlineSeconds()));
+  }
+
+  /**
+   * 이미 로그인된 포털 세션으로 학사정보시스템 사용자 정보 JSON 반환
+   * - 포털 로그인을 다시 수행하지 않고 sjpt SSO만 진행
+   *
+   * @param session 포털 로그인 세션
+   * @return initUserInfo.do API 응답 JSON
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public String fetchUserInfoJson(SejongPortalSession session) {
+    return fetchUserInfo(session, SejongHttpResponse::bodyString);
+  }
+
+  /**
+   * 이미 로그인된 포털 세션으로 학사정보시스템 사용자 정보를 SejongSisProfile로 반환
+   *
+   * @param session 포털 로그인 세션
+   * @param parser SIS 응답 파서
+   * @return 사용자 정보
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public SejongSisProfile fetchUserInfoProfile(SejongPortalSession session, SejongSisParser parser) {
+    return fetchUserInfo(session, response -> readProfile(response, parser));
+  }
+
+  /**
+   * 이미 로그인된 포털 세션으로 사용자 정보를 조회하고, sjpt SSO가 되지 않으면 sjpt 전용 로그인으로 다시 조회
+   * - 공유 세션은 고전독서(classic) rtUrl로 로그인한 세션이므로 sjpt SSO 수락을 전제하지 않음
+   * - SSO 페이지 실패, initUserInfo 401, JSON이 아닌 응답이면 연결된 새 세션에서 sjpt rtUrl로 로그인
+   * - 한 번 거부되면 이후에는 공유 세션 SSO를 생략하고 바로 sjpt 전용 로그인 (sis-shared-login: false도 동일)
+   * - 새 세션은 session.cancel() 시 함께 취소됨
+   *
+   * @param session 포털 로그인 세션
+   * @param studentId 학번
+   * @param password 비밀번호 (sjpt 전용 로그인용)
+   * @param parser SIS 응답 파서
+   * @return 사용자 정보
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public SejongSisProfile fetchUserInfoProfile(SejongPortalSession session, String studentId, String password,
+      SejongSisParser parser) {
+    if (!trySharedLogin()) {
+      return authenticateAndFetch(session.openLinked(transport.newSession()), studentId, password,
+          response -> readProfile(response, parser));
+    }
     try {
-      OkHttpClient client = buildClient();
+      return fetchUserInfoProfile(session, parser);
+    } catch (SejongAuthException e) {
+      if (!isSsoRejected(e)) {
+        throw e;
+      }
+      onSharedLoginRejected(e);
+      return authenticateAndFetch(session.openLinked(transport.newSession()), studentId, password,
+          response -> readProfile(response, parser));
+    }
+  }
 
+  /**
+   * 이미 로그인된 포털 세션으로 학사정보시스템 사용자 정보를 SejongSisProfile로 비동기 조회
+   *
+   * @param session 포털 로그인 세션
+   * @param parser SIS 응답 파서
+   * @param parseExecutor 본문 파싱용 Executor
+   * @return 사용자 정보
+   */
+  public CompletableFuture<SejongSisProfile> fetchUserInfoProfileAsync(
+      SejongPortalSession session, SejongSisParser parser, Executor parseExecutor) {
+    return fetchUserInfoAsync(session, response -> readProfile(response, parser), parseExecutor);
+  }
+
+  /**
+   * 이미 로그인된 포털 세션으로 사용자 정보를 비동기 조회하고, sjpt SSO가 되지 않으면 sjpt 전용 로그인으로 다시 조회
+   * - 재조회 조건과 취소 방식은 동기 버전과 같음
+   *
+   * @param session 포털 로그인 세션
+   * @param studentId 학번
+   * @param password 비밀번호 (sjpt 전용 로그인용)
+   * @param parser SIS 응답 파서
+   * @param parseExecutor 본문 파싱용 Executor
+   * @return 사용자 정보
+   */
+  public CompletableFuture<SejongSisProfile> fetchUserInfoProfileAsync(SejongPortalSession session,
+      String studentId, String password, SejongSisParser parser, Executor parseExecutor) {
+    if (!trySharedLogin()) {
+      return authenticateAndFetchAsync(session.openLinked(transport.newSession()), studentId, password,
+          response -> readProfile(response, parser), parseExecutor);
+    }
+    return fetchUserInfoProfileAsync(session, parser, parseExecutor)
+        .exceptionallyCompose(error -> {
+          Throwable cause = error instanceof CompletionException && error.getCause() != null
+              ? error.getCause() : error;
+          if (!(cause instanceof SejongAuthException) || !isSsoRejected((SejongAuthException) cause)) {
+            return CompletableFuture.failedFuture(cause);
+          }
+          onSharedLoginRejected((SejongAuthException) cause);
+          return authenticateAndFetchAsync(session.openLinked(transport.newSession()), studentId, password,
+              response -> readProfile(response, parser), parseExecutor);
+        });
+  }
+
+  /**
+   * 포털 로그인 → SSO → initUserInfo.do 조회
+   *
+   * @param reader 응답 본문 처리 방식 (문자열 또는 SejongSisProfile)
+   */
+  private <T> T authenticateAndFetch(String studentId, String password, SejongHttpCalls.ResponseHandler<T> reader) {
+    return authenticateAndFetch(openSession(studentId), studentId, password, reader);
+  }
+
+  /**
+   * 주어진 세션으로 포털 로그인 → SSO → initUserInfo.do 조회
+   */
+  private <T> T authenticateAndFetch(SejongPortalSession session, String studentId, String password,
+      SejongHttpCalls.ResponseHandler<T> reader) {
+    try {
       // 1. 포털 로그인 (sjpt로 리다이렉트 설정)
-      doPortalLogin(client, studentId, password);
+      doPortalLogin(session, studentId, password);
 
       // 2. SSO 페이지 접근
-      accessSsoPage(client);
+      try (SejongHttpResponse ssoResponse = retryPolicy.execute(session, buildSsoRequest())) {
+        checkSsoResponse(ssoResponse);
+      }
 
       // 3. initUserInfo.do API 호출
-      return fetchInitUserInfo(client);
+      try (SejongHttpResponse response = retryPolicy.execute(session, buildInitUserInfoRequest())) {
+        return readInitUserInfo(response, reader);
+      }
 
     } catch (SejongAuthException e) {
       throw e;
@@ -80,194 +281,245 @@ public class SejongSisClient {
     }
   }
 
+  /**
+   * 비동기 포털 로그인 → SSO → initUserInfo.do 조회
+   */
+  private <T> CompletableFuture<T> authenticateAndFetchAsync(SejongPortalSession session, String studentId,
+      String password, SejongHttpCalls.ResponseHandler<T> reader, Executor readExecutor) {
+    SejongHttpRequest request = buildLoginRequest(studentId, password);
+    log.debug("세종포털 비동기 로그인 요청 (SIS): URL={}, studentId={}", PORTAL_LOGIN_URL, studentId);
+
+    CompletableFuture<T> future =
+        retryPolicy.executeAsync(session, request)
+            .thenApply(SejongHttpCalls.closing(response -> {
+              readLoginResponse(session, response);
+              return session;
+            }))
+            .thenCompose(loggedIn -> fetchUserInfoAsync(loggedIn, reader, readExecutor));
+    return SejongHttpCalls.mapFailure(future, "학사정보시스템 인증");
+  }
+
+  /**
+   * SSO → initUserInfo.do 조회
+   */
+  private <T> T fetchUserInfo(SejongPortalSession session, SejongHttpCalls.ResponseHandler<T> reader) {
+    try {
+      // 1. SSO 페이지 접근
+      try (SejongHttpResponse ssoResponse = retryPolicy.execute(session, buildSsoRequest())) {
+        checkSsoResponse(ssoResponse);
+      }
+
+      // 2. initUserInfo.do API 호출
+      try (SejongHttpResponse response = retryPolicy.execute(session, buildInitUserInfoRequest())) {
+        return readInitUserInfo(response, reader);
+      }
+
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (IOException e) {
+      log.error("학사정보시스템 조회 중 IOException: {}", e.getMessage());
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, e);
+    } catch (Exception e) {
+      log.error("학사정보시스템 조회 중 예외 발생: {}", e.getMessage());
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED, e);
+    }
+  }
+
+  /**
+   * SSO → initUserInfo.do 비동기 조회
+   *
+   * @param readExecutor 본문 처리용 Executor (null이면 HTTP 콜백 스레드에서 처리)
+   */
+  private <T> CompletableFuture<T> fetchUserInfoAsync(
+      SejongPortalSession session, SejongHttpCalls.ResponseHandler<T> reader, Executor readExecutor) {
+    CompletableFuture<SejongHttpResponse> userInfo = retryPolicy.executeAsync(session, buildSsoRequest())
+        .thenApply(SejongHttpCalls.closing(ssoResponse -> {
+          checkSsoResponse(ssoResponse);
+          return ssoResponse.code();
+        }))
+        .thenCompose(ssoCode -> retryPolicy.executeAsync(session, buildInitUserInfoRequest()));
+
+    SejongHttpCalls.ResponseHandler<T> userInfoReader = response -> readInitUserInfo(response, reader);
+    CompletableFuture<T> future = readExecutor != null
+        ? userInfo.thenApplyAsync(SejongHttpCalls.closing(userInfoReader), readExecutor)
+        : userInfo.thenApply(SejongHttpCalls.closing(userInfoReader));
+    return SejongHttpCalls.mapFailure(future, "학사정보시스템 조회");
+  }
+
   /**
    * 세종포털 로그인 요청 (sjpt로 리다이렉트)
    */
-  private void doPortalLogin(OkHttpClient client, String studentId, String password) throws IOException {
-    RequestBody formBody = new FormBody.Builder()
-        .add("mainLogin", "N")
-        .add("rtUrl", "sjpt.sejong.ac.kr/main/view/Login/doSsoLogin.do?p=")
-        .add("id", studentId)
-        .add("password", password)
-        .build();
+  private void doPortalLogin(SejongPortalSession session, String studentId, String password) throws IOException {
+    SejongHttpRequest request = buildLoginRequest(studentId, password);
+    log.debug("세종포털 로그인 요청 (SIS): URL={}, studentId={}", PORTAL_LOGIN_URL, studentId);
+
+    try (SejongHttpResponse response = retryPolicy.execute(session, request)) {
+      readLoginResponse(session, response);
+    }
+  }
 
-    Request request = new Request.Builder()
-        .url(PORTAL_LOGIN_URL)
-        .post(formBody)
+  /**
+   * 세종포털 로그인 요청 생성 (sjpt로 리다이렉트)
+   */
+  private SejongHttpRequest buildLoginRequest(String studentId, String password) {
+    return SejongHttpRequest.post(PORTAL_LOGIN_URL)
+        .formField("mainLogin", "N")
+        .formField("rtUrl", "sjpt.sejong.ac.kr/main/view/Login/doSsoLogin.do?p=")
+        .formField("id", studentId)
+        .formField("password", password)
         .header("Host", PORTAL_HOST)
         .header("Referer", PORTAL_REFERER)
         .header("Cookie", DEFAULT_COOKIE)
+        .maxBodyBytes(properties.getBodyLimit().getLoginBytes())
         .build();
+  }
 
-    log.debug("세종포털 로그인 요청 (SIS): URL={}, studentId={}", PORTAL_LOGIN_URL, studentId);
+  /**
+   * 세종포털 로그인 응답 처리
+   * - 로그인 실패가 확실하면 SSO/API 요청 없이 AUTHENTICATION_FAILED 발생
+   */
+  private void readLoginResponse(SejongPortalSession session, SejongHttpResponse response) throws IOException {
+    if (!response.isSuccessful()) {
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED,
+          "세종포털 로그인 요청 실패: " + response.code());
+    }
+    String responseBody = SejongHttpCalls.readBody(response, SejongHttpResponse::bodyString);
+    log.debug("세종포털 로그인 응답: code={}, bodyLength={}", response.code(), responseBody.length());
+
+    SejongLoginOutcome outcome = SejongLoginResponseClassifier.classify(session, response, responseBody);
+    session.setLoginOutcome(outcome);
+    if (outcome == SejongLoginOutcome.FAILURE) {
+      log.warn("학사정보시스템 인증 실패: 로그인 응답에서 실패 확인");
+      throw new SejongAuthException(SejongAuthErrorCode.AUTHENTICATION_FAILED);
+    }
+  }
 
-    try (Response response = executeWithRetry(client, request)) {
-      String responseBody = response.body() != null ? response.body().string() : "";
-      log.debug("세종포털 로그인 응답: code={}, bodyLength={}", response.code(), responseBody.length());
+  /**
+   * 공유 포털 세션의 sjpt SSO를 먼저 시도할지 여부
+   * - sis-shared-login이 꺼져 있거나 이전에 거부된 적 있으면 바로 sjpt 전용 로그인
+   */
+  private boolean trySharedLogin() {
+    return properties.isSisSharedLogin() && !sharedLoginRejected;
+  }
+
+  /**
+   * 공유 세션 SSO 거부 기록 (sjpt 전용 로그인으로 대체)
+   */
+  private void onSharedLoginRejected(SejongAuthException e) {
+    metrics.recordSisLoginFallback();
+    if (!sharedLoginRejected) {
+      sharedLoginRejected = true;
+      log.info("공유 포털 세션으로 SIS SSO 실패, 이후 sjpt 전용 로그인만 사용: {}", e.getMessage());
+    } else {
+      log.debug("공유 포털 세션으로 SIS SSO 실패, sjpt 전용 로그인으로 재시도: {}", e.getMessage());
     }
   }
 
   /**
-   * SSO 페이지 접근
+   * 공유 세션으로 sjpt SSO가 되지 않은 경우인지 확인 (SSO 페이지 실패, 401, JSON이 아닌 응답)
    */
-  private void accessSsoPage(OkHttpClient client) throws IOException {
-    Request request = new Request.Builder()
-        .url(SJPT_SSO_URL)
-        .get()
+  private boolean isSsoRejected(SejongAuthException e) {
+    SejongAuthErrorCode errorCode = e.getErrorCode();
+    return errorCode == SejongAuthErrorCode.SESSION_ERROR
+        || errorCode == SejongAuthErrorCode.AUTHENTICATION_FAILED
+        || errorCode == SejongAuthErrorCode.PARSE_ERROR;
+  }
+
+  /**
+   * SSO 페이지 요청 생성
+   * - doSsoLogin.do는 포털 SSO 토큰을 한 번 교환하므로 헤징하지 않고 연결 단계 실패만 재시도
+   */
+  private SejongHttpRequest buildSsoRequest() {
+    return SejongHttpRequest.get(SJPT_SSO_URL)
         .header("Referer", PORTAL_REFERER)
+        .oneShot()
         .build();
+  }
 
-    try (Response response = client.newCall(request).execute()) {
-      if (!response.isSuccessful()) {
-        throw new SejongAuthException(SejongAuthErrorCode.SESSION_ERROR,
-            "SIS SSO 페이지 접근 실패: " + response.code());
-      }
-      log.debug("SIS SSO 페이지 접근 완료: 응답코드={}", response.code());
+  /**
+   * SSO 페이지 응답 확인
+   */
+  private void checkSsoResponse(SejongHttpResponse response) {
+    if (!response.isSuccessful()) {
+      throw new SejongAuthException(SejongAuthErrorCode.SESSION_ERROR,
+          "SIS SSO 페이지 접근 실패: " + response.code());
     }
+    log.debug("SIS SSO 페이지 접근 완료: 응답코드={}", response.code());
   }
 
   /**
-   * initUserInfo.do API 호출
-   * - 401 응답: 로그인 실패 (학번/비밀번호 불일치)
+   * initUserInfo.do API 요청 생성
    */
-  private String fetchInitUserInfo(OkHttpClient client) throws IOException {
+  private SejongHttpRequest buildInitUserInfoRequest() {
     String addParam = generateEmptyAddParam();
     String apiUrl = SJPT_INIT_USER_INFO_URL + "?addParam=" + addParam;
 
-    RequestBody body = RequestBody.create(
-        "{}",
-        MediaType.parse("application/json; charset=UTF-8")
-    );
-
-    Request request = new Request.Builder()
-        .url(apiUrl)
-        .post(body)
+    return SejongHttpRequest.post(apiUrl)
+        .body("{}", "application/json; charset=UTF-8")
         .header("Accept", "application/json")
-        .header("Content-Type", "application/json; charset=UTF-8")
         .header("Referer", SJPT_SSO_URL)
         .header("Origin", "https://sjpt.sejong.ac.kr")
+        .maxBodyBytes(properties.getBodyLimit().getUserInfoBytes())
         .build();
-
-    try (Response response = client.newCall(request).execute()) {
-      int responseCode = response.code();
-
-      // 401 Unauthorized: 로그인 실패
-      if (responseCode == 401) {
-        log.warn("학사정보시스템 인증 실패: 401 Unauthorized");
-        throw new SejongAuthException(SejongAuthErrorCode.AUTHENTICATION_FAILED);
-      }
-
-      if (response.body() == null || responseCode != 200) {
-        throw new SejongAuthException(SejongAuthErrorCode.DATA_FETCH_FAILED,
-            "initUserInfo API 요청 실패: " + responseCode);
-      }
-
-      String json = response.body().string();
-      log.debug("initUserInfo API 응답: 응답코드={}, JSON길이={}", responseCode, json.length());
-      return json;
-    }
   }
 
   /**
-   * 빈 addParam 생성 (브라우저 초기 호출 시 사용)
+   * initUserInfo.do API 응답 읽기
+   * - 401 응답: 로그인 실패 (학번/비밀번호 불일치)
    */
-  private String generateEmptyAddParam() {
-    String json = "{\"_runIntgUsrNo\":\"\",\"_runPgLoginDt\":\"\",\"_runningSejong\":\"\"}";
-    String urlEncoded = URLEncoder.encode(json, StandardCharsets.UTF_8);
-    return Base64.getEncoder().encodeToString(urlEncoded.getBytes(StandardCharsets.UTF_8));
-  }
+  private <T> T readInitUserInfo(SejongHttpResponse response, SejongHttpCalls.ResponseHandler<T> reader)
+      throws IOException {
+    int responseCode = response.code();
+
+    // 401 Unauthorized: 로그인 실패
+    if (responseCode == 401) {
+      log.warn("학사정보시스템 인증 실패: 401 Unauthorized");
+      throw new SejongAuthException(SejongAuthErrorCode.AUTHENTICATION_FAILED);
+    }
 
-  /**
-   * 재시도 로직이 포함된 요청 실행
-   */
-  private Response executeWithRetry(OkHttpClient client, Request request) throws IOException {
-    Response response = null;
-    int tryCount = 0;
-    int maxRetry = properties.getMaxRetry();
-
-    while (tryCount < maxRetry) {
-      try {
-        response = client.newCall(request).execute();
-        if (response.isSuccessful()) {
-          return response;
-        }
-        tryCount++;
-        log.warn("요청 실패, 재시도 중... ({}회)", tryCount);
-      } catch (SocketTimeoutException e) {
-        tryCount++;
-        log.warn("타임아웃 발생, 재시도 중... ({}회)", tryCount);
-        if (tryCount >= maxRetry) {
-          throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_TIMEOUT, e);
-        }
-      }
+    if (responseCode != 200) {
+      throw new SejongAuthException(SejongAuthErrorCode.DATA_FETCH_FAILED,
+          "initUserInfo API 요청 실패: " + responseCode);
     }
 
-    throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED,
-        "최대 재시도 횟수 초과: " + maxRetry);
+    T userInfo = SejongHttpCalls.readBody(response, reader);
+    log.debug("initUserInfo API 응답: 응답코드={}", responseCode);
+    return userInfo;
   }
 
   /**
-   * OkHttpClient 생성
+   * 응답 본문 스트림을 SejongSisProfile로 파싱 (필요한 필드만 읽음)
    */
-  private OkHttpClient buildClient() {
-    try {
-      OkHttpClient.Builder builder = new OkHttpClient.Builder();
-
-      // 타임아웃 설정
-      int timeout = properties.getTimeoutSeconds();
-      builder.connectTimeout(timeout, TimeUnit.SECONDS);
-      builder.readTimeout(timeout, TimeUnit.SECONDS);
-      builder.writeTimeout(timeout, TimeUnit.SECONDS);
-
-      // 쿠키 관리
-      CookieManager cookieManager = new CookieManager();
-      cookieManager.setCookiePolicy(CookiePolicy.ACCEPT_ALL);
-      builder.cookieJar(new JavaNetCookieJar(cookieManager));
-
-      // SSL 검증 비활성화 (설정에 따라)
-      if (!properties.isSslVerification()) {
-        SSLContext sslContext = SSLContext.getInstance("SSL");
-        X509TrustManager trustManager = createTrustAllManager();
-        sslContext.init(null, new TrustManager[]{trustManager}, new SecureRandom());
-        SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
-
-        builder.sslSocketFactory(sslSocketFactory, trustManager);
-        builder.hostnameVerifier(createTrustAllHostnameVerifier());
-
-        log.debug("SSL 검증 비활성화됨 (SIS)");
+  private SejongSisProfile readProfile(SejongHttpResponse response, SejongSisParser sisParser) throws IOException {
+    try (JsonParser parser = createParser(response)) {
+      if (parser.nextToken() == null) {
+        throw new SejongAuthException(SejongAuthErrorCode.DATA_FETCH_FAILED,
+            "initUserInfo API 응답 본문이 비어있습니다.");
       }
-
-      return builder.build();
-
-    } catch (Exception e) {
-      throw new SejongAuthException(SejongAuthErrorCode.SSL_CONFIGURATION_ERROR, e);
+      return sisParser.parseProfile(parser);
+    } catch (JsonProcessingException e) {
+      // SSO 세션이 없으면 JSON 대신 HTML 안내 페이지가 옴
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
     }
   }
 
   /**
-   * 모든 인증서를 신뢰하는 TrustManager 생성
+   * 응답 본문 JsonParser 생성
+   * - UTF 계열이 아닌 charset이 명시된 경우에만 Reader로 변환 (그 외에는 바이트 스트림을 그대로 전달)
    */
-  private X509TrustManager createTrustAllManager() {
-    return new X509TrustManager() {
-      @Override
-      public void checkClientTrusted(java.security.cert.X509Certificate[] chain, String authType) {
-      }
-
-      @Override
-      public void checkServerTrusted(java.security.cert.X509Certificate[] chain, String authType) {
-      }
-
-      @Override
-      public java.security.cert.X509Certificate[] getAcceptedIssuers() {
-        return new java.security.cert.X509Certificate[0];
-      }
-    };
+  private JsonParser createParser(SejongHttpResponse response) throws IOException {
+    Charset charset = response.declaredCharset();
+    return charset == null || charset.name().startsWith("UTF")
+        ? sejongJson.createParser(response.body())
+        : sejongJson.createParser(new InputStreamReader(response.body(), charset));
   }
 
   /**
-   * 모든 호스트를 신뢰하는 HostnameVerifier 생성
+   * 빈 addParam 생성 (브라우저 초기 호출 시 사용)
    */
-  private HostnameVerifier createTrustAllHostnameVerifier() {
-    return (hostname, session) -> true;
+  private String generateEmptyAddParam() {
+    String json = "{\"_runIntgUsrNo\":\"\",\"_runPgLoginDt\":\"\",\"_runningSejong\":\"\"}";
+    String urlEncoded = URLEncoder.encode(json, StandardCharsets.UTF_8);
+    return Base64.getEncoder().encodeToString(urlEncoded.getBytes(StandardCharsets.UTF_8));
   }
 }
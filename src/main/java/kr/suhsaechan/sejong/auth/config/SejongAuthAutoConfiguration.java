@@ -1,16 +1,32 @@
 package kr.suhsaechan.sejong.auth.config;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import kr.suhsaechan.sejong.auth.client.SejongHedgePolicy;
 import kr.suhsaechan.sejong.auth.client.SejongPortalClient;
+import kr.suhsaechan.sejong.auth.client.SejongRetryPolicy;
 import kr.suhsaechan.sejong.auth.client.SejongSisClient;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMeterBinder;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
 import kr.suhsaechan.sejong.auth.parser.SejongClassicReadingParser;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicStatusParser;
 import kr.suhsaechan.sejong.auth.parser.SejongSisParser;
 import kr.suhsaechan.sejong.auth.parser.SejongStudentInfoParser;
+import kr.suhsaechan.sejong.auth.service.ReactiveSuhSejongAuthEngine;
 import kr.suhsaechan.sejong.auth.service.SuhSejongAuthEngine;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpTransport;
+import kr.suhsaechan.sejong.auth.transport.SejongJdkHttpTransport;
+import kr.suhsaechan.sejong.auth.transport.SejongOkHttpTransport;
+import kr.suhsaechan.sejong.auth.util.SejongExecutors;
+import kr.suhsaechan.sejong.auth.util.SejongJson;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 /**
  * 세종대학교 인증 라이브러리 자동 설정
@@ -21,16 +37,85 @@ import org.springframework.context.annotation.Bean;
 @ConditionalOnClass(SuhSejongAuthEngine.class)
 public class SejongAuthAutoConfiguration {
 
+  /**
+   * 엔진 공용 HTTP 전송 계층
+   * - 포털/SIS 클라이언트가 연결 풀을 공유
+   * - sejong.auth.transport=jdk 설정 시 JDK HttpClient, 그 외에는 OkHttp 사용
+   * - 직접 구현한 SejongHttpTransport Bean을 등록하면 대체됨
+   * - 컨텍스트 종료 시 스레드와 유휴 연결 정리
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  public SejongHttpTransport sejongHttpTransport(SejongAuthProperties properties, SejongAuthMetrics sejongAuthMetrics) {
+    if ("jdk".equalsIgnoreCase(properties.getTransport())) {
+      return new SejongJdkHttpTransport(properties, sejongAuthMetrics, null);
+    }
+    return new SejongOkHttpTransport(properties, sejongAuthMetrics);
+  }
+
+  /**
+   * 엔진 지표 (세션 수, 리다이렉트 수 등)
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public SejongAuthMetrics sejongAuthMetrics() {
+    return new SejongAuthMetrics();
+  }
+
+  /**
+   * 애플리케이션 시작 시 세종 호스트 연결 미리 맺기
+   * - sejong.auth.warmup.enabled=true일 때만 등록 (기본 비활성화)
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "sejong.auth.warmup", name = "enabled", havingValue = "true")
+  public SejongConnectionWarmer sejongConnectionWarmer(SejongHttpTransport sejongHttpTransport,
+      SejongAuthProperties properties) {
+    return new SejongConnectionWarmer(sejongHttpTransport, properties.getWarmup().getKeepWarmSeconds());
+  }
+
+  /**
+   * 멱등 GET 요청 헤징 정책 (sejong.auth.hedge.enabled=true일 때만 헤징)
+   */
   @Bean
   @ConditionalOnMissingBean
-  public SejongPortalClient sejongPortalClient(SejongAuthProperties properties) {
-    return new SejongPortalClient(properties);
+  public SejongHedgePolicy sejongHedgePolicy(SejongAuthProperties properties, SejongAuthMetrics sejongAuthMetrics) {
+    return new SejongHedgePolicy(properties, sejongAuthMetrics);
   }
 
+  /**
+   * 포털/SIS 클라이언트가 공유하는 재시도 정책 (재시도 예산을 엔진 전체에서 공유)
+   */
   @Bean
   @ConditionalOnMissingBean
-  public SejongSisClient sejongSisClient(SejongAuthProperties properties) {
-    return new SejongSisClient(properties);
+  public SejongRetryPolicy sejongRetryPolicy(SejongAuthProperties properties, SejongAuthMetrics sejongAuthMetrics,
+      SejongHedgePolicy sejongHedgePolicy) {
+    return new SejongRetryPolicy(properties, sejongAuthMetrics, sejongHedgePolicy);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public SejongPortalClient sejongPortalClient(SejongAuthProperties properties, SejongHttpTransport sejongHttpTransport,
+      SejongRetryPolicy sejongRetryPolicy) {
+    return new SejongPortalClient(properties, sejongHttpTransport, sejongRetryPolicy);
+  }
+
+  /**
+   * SIS 클라이언트/파서가 공유하는 JSON 처리기
+   * - 애플리케이션 ObjectMapper 설정에 영향받지 않도록 라이브러리 전용 매퍼 사용 (SejongJson.shared())
+   * - ObjectMapper Bean은 등록하지 않으므로 Spring Boot Jackson 자동 설정에 영향 없음
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public SejongJson sejongJson() {
+    return SejongJson.shared();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public SejongSisClient sejongSisClient(SejongAuthProperties properties, SejongHttpTransport sejongHttpTransport,
+      SejongRetryPolicy sejongRetryPolicy, SejongJson sejongJson, SejongAuthMetrics sejongAuthMetrics) {
+    return new SejongSisClient(properties, sejongHttpTransport, sejongRetryPolicy, sejongJson, sejongAuthMetrics);
   }
 
   @Bean
@@ -47,8 +132,27 @@ public class SejongAuthAutoConfiguration {
 
   @Bean
   @ConditionalOnMissingBean
-  public SejongSisParser sejongSisParser() {
-    return new SejongSisParser();
+  public SejongClassicStatusParser sejongClassicStatusParser(SejongAuthProperties properties,
+      SejongAuthMetrics sejongAuthMetrics) {
+    return new SejongClassicStatusParser(properties, sejongAuthMetrics);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public SejongSisParser sejongSisParser(SejongJson sejongJson) {
+    return new SejongSisParser(sejongJson);
+  }
+
+  /**
+   * 엔진 내부 비동기 작업용 Executor
+   * - Java 21+ 런타임에서는 가상 스레드 Executor 사용 (virtual-threads: false로 비활성화)
+   * - 같은 이름의 Bean을 등록하면 사용자 Executor로 대체 가능
+   */
+  @Bean(name = "sejongAuthExecutor", destroyMethod = "shutdown")
+  @ConditionalOnMissingBean(name = "sejongAuthExecutor")
+  public ExecutorService sejongAuthExecutor(SejongAuthProperties properties) {
+    return SejongExecutors.newExecutor("sejong-auth-", properties.getExecutorThreads(),
+        properties.isVirtualThreads());
   }
 
   @Bean
@@ -57,8 +161,42 @@ public class SejongAuthAutoConfiguration {
       SejongPortalClient portalClient,
       SejongStudentInfoParser studentInfoParser,
       SejongClassicReadingParser classicReadingParser,
+      SejongClassicStatusParser classicStatusParser,
       SejongSisClient sisClient,
-      SejongSisParser sisParser) {
-    return new SuhSejongAuthEngine(portalClient, studentInfoParser, classicReadingParser, sisClient, sisParser);
+      SejongSisParser sisParser,
+      SejongAuthProperties properties,
+      @Qualifier("sejongAuthExecutor") Executor sejongAuthExecutor) {
+    return new SuhSejongAuthEngine(portalClient, studentInfoParser, classicReadingParser, classicStatusParser,
+        sisClient, sisParser, properties, sejongAuthExecutor);
+  }
+
+  /**
+   * Micrometer 지표 등록
+   * - Micrometer(Actuator)가 클래스패스에 있을 때만 등록
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class MeterBinderConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SejongAuthMeterBinder sejongAuthMeterBinder(SejongAuthMetrics sejongAuthMetrics) {
+      return new SejongAuthMeterBinder(sejongAuthMetrics);
+    }
+  }
+
+  /**
+   * Reactive 엔진 자동 설정
+   * - Reactor(reactor-core)가 클래스패스에 있을 때만 등록 (WebFlux 환경)
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "reactor.core.publisher.Mono")
+  static class ReactiveEngineConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveSuhSejongAuthEngine reactiveSuhSejongAuthEngine(SuhSejongAuthEngine sejongAuthService) {
+      return new ReactiveSuhSejongAuthEngine(sejongAuthService);
+    }
   }
 }
@@ -13,6 +13,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     ssl-verification: false
  *     timeout-seconds: 10
  *     max-retry: 3
+ *     deadline-seconds: 30
+ *     parallel-fetch: true
+ *     sis-timeout-seconds: 5
  */
 @Getter
 @Setter
@@ -25,21 +28,317 @@ public class SejongAuthProperties {
   /** HTTP 요청 타임아웃 (초, 기본: 10) */
   private int timeoutSeconds = 10;
 
-  /** 요청 실패 시 최대 재시도 횟수 (기본: 3) */
+  /**
+   * 요청 1건의 최대 시도 횟수, 최초 요청 포함 (기본: 3)
+   * - 백오프/예산 등 재시도 정책은 retry 항목 사용
+   */
   private int maxRetry = 3;
 
+  /**
+   * 인증 1회 전체 제한 시간 (초, 기본: 30, 0 이하이면 무제한)
+   * - 로그인, SSO 리다이렉트, 데이터 조회, 재시도가 모두 이 시간 안에서 실행됨
+   */
+  private int deadlineSeconds = 30;
+
+  /** 통합 인증 시 DHC/SIS 병렬 조회 여부 (기본: false) */
+  private boolean parallelFetch = false;
+
+  /** 병렬 조회 시 SIS 결과 최대 대기 시간 (초, 기본: 5) */
+  private int sisTimeoutSeconds = 5;
+
+  /**
+   * 통합 인증 시 SIS를 DHC와 같은 포털 로그인 세션으로 먼저 조회할지 여부 (기본: true)
+   * - sjpt SSO가 거부되면 sjpt 전용 로그인으로 대체하고, 이후에는 공유 세션 시도를 생략
+   * - false면 처음부터 sjpt 전용 로그인 (로그인 2회, 대체로 인한 추가 왕복 없음)
+   */
+  private boolean sisSharedLogin = true;
+
+  /** 엔진 내부 비동기 작업 스레드 수 (기본: 16, 가상 스레드 사용 시 무시) */
+  private int executorThreads = 16;
+
+  /** Java 21+ 런타임에서 가상 스레드 사용 여부 (기본: true, Java 17에서는 무시) */
+  private boolean virtualThreads = true;
+
+  /**
+   * 동일 인증 요청 병합 여부 (기본: true)
+   * - 같은 학번/비밀번호로 동시에 들어온 동일 메서드 호출은 포털 로그인을 한 번만 수행하고 결과를 공유
+   */
+  private boolean singleFlight = true;
+
+  /**
+   * HTTP 전송 구현체 (기본: okhttp)
+   * - okhttp: OkHttp 기반 (연결 풀/Dispatcher 설정은 pool 항목 사용)
+   * - jdk: java.net.http.HttpClient 기반 (연결 풀은 JDK 시스템 프로퍼티를 따름)
+   */
+  private String transport = "okhttp";
+
+  /**
+   * 응답 압축 요청 여부 (기본: true)
+   * - Accept-Encoding: gzip, deflate로 요청하고 응답 본문은 스트리밍으로 해제
+   * - false이면 Accept-Encoding: identity로 압축 없이 요청
+   */
+  private boolean compression = true;
+
+  /** 서버가 지원하면 HTTP/2 사용 여부 (기본: true, false이면 HTTP/1.1만 사용) */
+  private boolean http2 = true;
+
+  /**
+   * 고전독서인증현황 페이지 빠른 파싱 여부 (기본: true)
+   * - DOM을 만들지 않고 필요한 테이블 셀만 스트리밍으로 읽음
+   * - 페이지 구조가 예상과 다르면 자동으로 Jsoup 파싱으로 대체
+   */
+  private boolean classicFastParse = true;
+
   /** 세종포털 로그인 URL */
   private String portalLoginUrl = "https://portal.sejong.ac.kr/jsp/login/login_action.jsp";
 
   /** SSO 리다이렉트 URL */
-  private String ssoRedirectUrl = "http://classic.sejong.ac.kr/_custom/sejong/sso/sso-return.jsp?returnUrl=https://classic.sejong.ac.kr/classic/index.do";
+  private String ssoRedirectUrl = "https://classic.sejong.ac.kr/_custom/sejong/sso/sso-return.jsp?returnUrl=https://classic.sejong.ac.kr/classic/index.do";
 
   /** 고전독서인증현황 페이지 URL */
   private String classicStatusUrl = "https://classic.sejong.ac.kr/classic/reading/status.do";
 
+  /** 일괄 인증 설정 */
+  private BulkConfig bulk = new BulkConfig();
+
+  /** HTTP 연결 풀 설정 */
+  private PoolConfig pool = new PoolConfig();
+
+  /** 연결 미리 맺기 설정 */
+  private WarmupConfig warmup = new WarmupConfig();
+
+  /** DNS 캐시 설정 */
+  private DnsConfig dns = new DnsConfig();
+
+  /** 재시도 정책 설정 */
+  private RetryConfig retry = new RetryConfig();
+
+  /** 요청 헤징 설정 */
+  private HedgeConfig hedge = new HedgeConfig();
+
+  /** 응답 본문 최대 크기 설정 */
+  private BodyLimitConfig bodyLimit = new BodyLimitConfig();
+
   /** 테스트용 설정 (dev 프로파일에서만 사용) */
   private TestConfig test = new TestConfig();
 
+  /**
+   * 일괄 인증 설정 내부 클래스
+   *
+   * application.yml 예시:
+   * sejong:
+   *   auth:
+   *     bulk:
+   *       parallelism: 8
+   *       rate-per-second: 10
+   */
+  @Getter
+  @Setter
+  public static class BulkConfig {
+    /** 동시에 진행할 최대 인증 수 (기본: 8) */
+    private int parallelism = 8;
+
+    /** 초당 시작할 최대 인증 수 (0 이하이면 제한 없음, 기본: 10) */
+    private double ratePerSecond = 10;
+  }
+
+  /**
+   * HTTP 연결 풀 설정 내부 클래스
+   * - 엔진 전체가 하나의 HTTP 클라이언트(연결 풀, Dispatcher)를 공유
+   * - 연결 풀/Dispatcher 항목은 okhttp 전송에만 적용되고, TLS 항목은 두 전송 모두 적용
+   *
+   * application.yml 예시:
+   * sejong:
+   *   auth:
+   *     pool:
+   *       max-idle-connections: 10
+   *       keep-alive-seconds: 300
+   *       max-requests: 64
+   *       max-requests-per-host: 16
+   *       tls-session-cache-size: 256
+   *       tls-session-timeout-seconds: 3600
+   */
+  @Getter
+  @Setter
+  public static class PoolConfig {
+    /** 유지할 최대 유휴 연결 수 (기본: 10) */
+    private int maxIdleConnections = 10;
+
+    /** 유휴 연결 유지 시간 (초, 기본: 300) */
+    private long keepAliveSeconds = 300;
+
+    /** 비동기 요청 최대 동시 실행 수 (기본: 64) */
+    private int maxRequests = 64;
+
+    /** 호스트별 비동기 요청 최대 동시 실행 수 (기본: 16) */
+    private int maxRequestsPerHost = 16;
+
+    /** TLS 세션 재개용 캐시 크기 (기본: 256) */
+    private int tlsSessionCacheSize = 256;
+
+    /** TLS 세션 재개 허용 시간 (초, 기본: 3600) */
+    private int tlsSessionTimeoutSeconds = 3600;
+  }
+
+  /**
+   * 연결 미리 맺기 설정 내부 클래스
+   *
+   * application.yml 예시:
+   * sejong:
+   *   auth:
+   *     warmup:
+   *       enabled: false
+   *       keep-warm-seconds: 240
+   */
+  @Getter
+  @Setter
+  public static class WarmupConfig {
+    /** 애플리케이션 시작(ApplicationReadyEvent) 시 세종 호스트에 미리 연결 (기본: false, 인증을 쓰지 않는 앱이 요청을 보내지 않도록 opt-in) */
+    private boolean enabled = false;
+
+    /** 유휴 연결 유지를 위한 재연결 주기 (초, 0 이하이면 비활성화, 기본: 240) */
+    private int keepWarmSeconds = 240;
+  }
+
+  /**
+   * DNS 캐시 설정 내부 클래스
+   * - okhttp 전송에만 적용 (JDK HttpClient는 리졸버를 교체할 API가 없어 JVM DNS 캐시 networkaddress.cache.ttl을 따름)
+   *
+   * application.yml 예시:
+   * sejong:
+   *   auth:
+   *     dns:
+   *       enabled: true
+   *       ttl-seconds: 60
+   *       refresh-ahead-seconds: 10
+   *       stale-seconds: 600
+   */
+  @Getter
+  @Setter
+  public static class DnsConfig {
+    /** DNS 캐시 사용 여부 (기본: true) */
+    private boolean enabled = true;
+
+    /** 조회 결과 보관 시간 (초, 기본: 60) */
+    private int ttlSeconds = 60;
+
+    /** 만료 몇 초 전부터 백그라운드 갱신할지 (초, 기본: 10) */
+    private int refreshAheadSeconds = 10;
+
+    /** 조회 실패 시 마지막 정상 주소를 계속 사용할 최대 시간 (초, 기본: 600) */
+    private int staleSeconds = 600;
+  }
+
+  /**
+   * 재시도 정책 설정 내부 클래스
+   * - 타임아웃/연결 실패와 408, 429, 500, 502, 503, 504 응답만 재시도
+   * - 대기 시간: initial-backoff-millis * multiplier^(n-1), max-backoff-millis로 제한 후 jitter 비율만큼 무작위 감소
+   * - 재시도 예산: 요청마다 budget-percent% 만큼 적립(최대 budget-burst회분)하고 재시도 1회마다 1회분 차감
+   *
+   * application.yml 예시:
+   * sejong:
+   *   auth:
+   *     retry:
+   *       initial-backoff-millis: 100
+   *       max-backoff-millis: 2000
+   *       multiplier: 2.0
+   *       jitter: 0.5
+   *       budget-percent: 20
+   *       budget-burst: 10
+   */
+  @Getter
+  @Setter
+  public static class RetryConfig {
+    /** 첫 재시도 전 대기 시간 (밀리초, 기본: 100) */
+    private long initialBackoffMillis = 100;
+
+    /** 재시도 대기 시간 상한 (밀리초, 기본: 2000) */
+    private long maxBackoffMillis = 2000;
+
+    /** 재시도마다 대기 시간 증가 배수 (기본: 2.0) */
+    private double multiplier = 2.0;
+
+    /** 대기 시간 무작위 감소 비율 (0~1, 기본: 0.5) */
+    private double jitter = 0.5;
+
+    /** 엔진 전체 요청 대비 허용 재시도 비율 (%, 기본: 20) */
+    private double budgetPercent = 20;
+
+    /** 적립 가능한 최대 재시도 횟수 (순간 허용량, 기본: 10) */
+    private int budgetBurst = 10;
+  }
+
+  /**
+   * 요청 헤징 설정 내부 클래스
+   * - 멱등 GET 요청(SSO 리다이렉트, 고전독서 페이지, SIS SSO 페이지)이 느리면 같은 세션으로 한 번 더 요청하고 먼저 온 응답 사용
+   * - 헤징 시점: 경로별 최근 window-size개 응답 시간의 percentile 값 ([min-delay-millis, max-delay-millis]로 제한)
+   * - 헤징 예산: 요청마다 budget-percent% 만큼 적립(최대 budget-burst회분)하고 헤징 1회마다 1회분 차감
+   *
+   * application.yml 예시:
+   * sejong:
+   *   auth:
+   *     hedge:
+   *       enabled: true
+   *       percentile: 95
+   *       budget-percent: 5
+   */
+  @Getter
+  @Setter
+  public static class HedgeConfig {
+    /** 헤징 사용 여부 (기본: false) */
+    private boolean enabled = false;
+
+    /** 헤징 시점으로 사용할 응답 시간 백분위 (기본: 95) */
+    private double percentile = 95;
+
+    /** 표본이 min-samples 미만일 때 헤징 대기 시간 (밀리초, 기본: 1000) */
+    private long initialDelayMillis = 1000;
+
+    /** 헤징 대기 시간 하한 (밀리초, 기본: 50) */
+    private long minDelayMillis = 50;
+
+    /** 헤징 대기 시간 상한 (밀리초, 기본: 3000) */
+    private long maxDelayMillis = 3000;
+
+    /** 백분위 계산에 필요한 최소 표본 수 (기본: 20) */
+    private int minSamples = 20;
+
+    /** 경로별로 보관할 최근 응답 시간 표본 수 (기본: 200) */
+    private int windowSize = 200;
+
+    /** 헤징 대상 요청 대비 허용 헤징 비율 (%, 기본: 5) */
+    private double budgetPercent = 5;
+
+    /** 적립 가능한 최대 헤징 횟수 (순간 허용량, 기본: 5) */
+    private int budgetBurst = 5;
+  }
+
+  /**
+   * 응답 본문 최대 크기 설정 내부 클래스
+   * - 압축 해제 후 바이트 기준으로, 본문을 읽는 도중 초과하면 즉시 중단 (RESPONSE_TOO_LARGE)
+   * - 0 이하이면 제한 없음
+   *
+   * application.yml 예시:
+   * sejong:
+   *   auth:
+   *     body-limit:
+   *       login-bytes: 524288
+   *       classic-status-bytes: 2097152
+   *       user-info-bytes: 524288
+   */
+  @Getter
+  @Setter
+  public static class BodyLimitConfig {
+    /** 포털 로그인 응답 최대 크기 (기본: 512KB) */
+    private long loginBytes = 512 * 1024;
+
+    /** 고전독서인증현황 페이지 최대 크기 (기본: 2MB) */
+    private long classicStatusBytes = 2 * 1024 * 1024;
+
+    /** SIS 사용자 정보 응답 최대 크기 (기본: 512KB) */
+    private long userInfoBytes = 512 * 1024;
+  }
+
   /**
    * 테스트용 설정 내부 클래스
    *
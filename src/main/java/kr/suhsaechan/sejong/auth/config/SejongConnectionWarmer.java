@@ -0,0 +1,48 @@
+package kr.suhsaechan.sejong.auth.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpTransport;
+import kr.suhsaechan.sejong.auth.util.SejongExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * 세종 호스트 연결 미리 맺기
+ * - 애플리케이션 준비 완료 시 portal/classic/sjpt 호스트에 연결과 TLS 세션을 미리 확보
+ * - keep-warm-seconds 주기로 다시 연결하여 유휴 연결이 만료되지 않도록 유지
+ */
+@Slf4j
+public class SejongConnectionWarmer implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+  private final SejongHttpTransport transport;
+  private final int keepWarmSeconds;
+  private ScheduledExecutorService scheduler;
+
+  public SejongConnectionWarmer(SejongHttpTransport transport, int keepWarmSeconds) {
+    this.transport = transport;
+    this.keepWarmSeconds = keepWarmSeconds;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    log.debug("세종 호스트 연결 미리 맺기 시작");
+    transport.prewarm();
+
+    if (keepWarmSeconds > 0 && scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(
+          SejongExecutors.daemonThreadFactory("sejong-auth-warmup-"));
+      scheduler.scheduleWithFixedDelay(transport::prewarm, keepWarmSeconds, keepWarmSeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+}
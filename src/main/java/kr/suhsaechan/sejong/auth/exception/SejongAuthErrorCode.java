@@ -23,6 +23,7 @@ public enum SejongAuthErrorCode {
   // 데이터 관련
   DATA_FETCH_FAILED("SEJONG_AUTH_005", "학생 정보를 가져오는데 실패했습니다."),
   PARSE_ERROR("SEJONG_AUTH_006", "학생 정보 파싱 중 오류가 발생했습니다."),
+  RESPONSE_TOO_LARGE("SEJONG_AUTH_010", "응답 크기가 허용된 최대 크기를 초과했습니다."),
 
   // 설정 관련
   SSL_CONFIGURATION_ERROR("SEJONG_AUTH_007", "SSL 설정 중 오류가 발생했습니다.");
@@ -0,0 +1,108 @@
+package kr.suhsaechan.sejong.auth.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SejongAuthMetrics를 Micrometer MeterRegistry에 등록
+ * - Micrometer(Actuator)가 클래스패스에 있을 때만 자동 등록
+ */
+public class SejongAuthMeterBinder implements MeterBinder {
+
+  private final SejongAuthMetrics metrics;
+
+  public SejongAuthMeterBinder(SejongAuthMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("sejong.auth.sessions", metrics, SejongAuthMetrics::getSessions)
+        .description("생성된 로그인 세션 수")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.redirect.hops", metrics, SejongAuthMetrics::getRedirectHops)
+        .description("따라간 리다이렉트 응답 수")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.redirect.shortcuts", metrics, SejongAuthMetrics::getRedirectShortcuts)
+        .description("http→https 리다이렉트를 생략한 요청 수")
+        .register(registry);
+    Gauge.builder("sejong.auth.redirect.hops.per.session", metrics, SejongAuthMetrics::getRedirectHopsPerSession)
+        .description("로그인 세션당 평균 리다이렉트 수")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.retries", metrics, SejongAuthMetrics::getRetries)
+        .description("실행한 HTTP 재시도 수")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.retry.budget.exhausted", metrics, SejongAuthMetrics::getRetryBudgetExhausted)
+        .description("재시도 예산 소진으로 생략한 재시도 수")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.hedges", metrics, SejongAuthMetrics::getHedges)
+        .description("보낸 헤징 요청 수")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.hedge.wins", metrics, SejongAuthMetrics::getHedgeWins)
+        .description("헤징 요청의 응답이 먼저 도착한 수")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.hedge.budget.exhausted", metrics, SejongAuthMetrics::getHedgeBudgetExhausted)
+        .description("헤징 예산 소진으로 생략한 헤징 수")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.dns.lookups", metrics, SejongAuthMetrics::getDnsHits)
+        .description("DNS 캐시 조회 수")
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.dns.lookups", metrics, SejongAuthMetrics::getDnsMisses)
+        .description("DNS 캐시 조회 수")
+        .tag("result", "miss")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.dns.stale.fallbacks", metrics, SejongAuthMetrics::getDnsStaleFallbacks)
+        .description("DNS 조회 실패로 마지막 정상 주소를 사용한 수")
+        .register(registry);
+    FunctionTimer.builder("sejong.auth.dns.resolution", metrics,
+            SejongAuthMetrics::getDnsResolutions, SejongAuthMetrics::getDnsResolutionNanos, TimeUnit.NANOSECONDS)
+        .description("리졸버 조회 시간 (백그라운드 갱신 포함)")
+        .register(registry);
+    Gauge.builder("sejong.auth.dns.hit.ratio", metrics, SejongAuthMetrics::getDnsHitRatio)
+        .description("DNS 캐시 적중률")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.parse.classic", metrics, SejongAuthMetrics::getClassicFastParses)
+        .description("고전독서 페이지 파싱 수")
+        .tag("path", "fast")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.parse.classic", metrics, SejongAuthMetrics::getClassicParseFallbacks)
+        .description("고전독서 페이지 파싱 수")
+        .tag("path", "fallback")
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.sis.login.fallbacks", metrics, SejongAuthMetrics::getSisLoginFallbacks)
+        .description("공유 세션 SIS SSO가 거부되어 sjpt 전용 로그인으로 대체한 수")
+        .register(registry);
+    metrics.addHostListener(traffic -> bindHost(registry, traffic));
+  }
+
+  /**
+   * 호스트별 본문 바이트(전송/해제) 및 프로토콜별 응답 수 등록
+   */
+  private void bindHost(MeterRegistry registry, SejongHostTraffic traffic) {
+    Tags host = Tags.of("host", traffic.getHost());
+    FunctionCounter.builder("sejong.auth.http.wire.bytes", traffic, SejongHostTraffic::getWireBytes)
+        .description("네트워크에서 읽은 응답 본문 바이트 (압축 상태)")
+        .baseUnit("bytes")
+        .tags(host)
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.http.decoded.bytes", traffic, SejongHostTraffic::getDecodedBytes)
+        .description("압축 해제 후 응답 본문 바이트")
+        .baseUnit("bytes")
+        .tags(host)
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.http.responses", traffic, SejongHostTraffic::getHttp2Responses)
+        .description("프로토콜별 응답 수")
+        .tags(host.and("protocol", "h2"))
+        .register(registry);
+    FunctionCounter.builder("sejong.auth.http.responses", traffic, SejongHostTraffic::getHttp1Responses)
+        .description("프로토콜별 응답 수")
+        .tags(host.and("protocol", "http/1.1"))
+        .register(registry);
+  }
+}
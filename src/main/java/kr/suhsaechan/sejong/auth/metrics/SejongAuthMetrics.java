@@ -0,0 +1,252 @@
+package kr.suhsaechan.sejong.auth.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 세종 인증 엔진 지표
+ * - 엔진 전체에서 공유하는 누적 카운터 (Micrometer 없이도 조회 가능)
+ * - Micrometer가 클래스패스에 있으면 SejongAuthMeterBinder가 MeterRegistry에 등록
+ */
+public class SejongAuthMetrics {
+
+  /** 생성된 로그인 세션 수 */
+  private final LongAdder sessions = new LongAdder();
+
+  /** 따라간 리다이렉트 응답 수 */
+  private final LongAdder redirectHops = new LongAdder();
+
+  /** http→https 리다이렉트를 생략하고 바로 https로 요청한 수 */
+  private final LongAdder redirectShortcuts = new LongAdder();
+
+  /** 실행한 HTTP 재시도 수 */
+  private final LongAdder retries = new LongAdder();
+
+  /** 재시도 예산 소진으로 생략한 재시도 수 */
+  private final LongAdder retryBudgetExhausted = new LongAdder();
+
+  /** 보낸 헤징 요청 수 */
+  private final LongAdder hedges = new LongAdder();
+
+  /** 헤징 요청의 응답이 먼저 도착한 수 */
+  private final LongAdder hedgeWins = new LongAdder();
+
+  /** 헤징 예산 소진으로 생략한 헤징 수 */
+  private final LongAdder hedgeBudgetExhausted = new LongAdder();
+
+  /** DNS 캐시 적중 수 */
+  private final LongAdder dnsHits = new LongAdder();
+
+  /** DNS 캐시 미적중 수 (리졸버 동기 조회) */
+  private final LongAdder dnsMisses = new LongAdder();
+
+  /** DNS 조회 실패로 마지막 정상 주소를 사용한 수 */
+  private final LongAdder dnsStaleFallbacks = new LongAdder();
+
+  /** 리졸버 조회 수 (백그라운드 갱신 포함) */
+  private final LongAdder dnsResolutions = new LongAdder();
+
+  /** 리졸버 조회 누적 시간 (나노초) */
+  private final LongAdder dnsResolutionNanos = new LongAdder();
+
+  /** 빠른 파싱으로 읽은 고전독서 페이지 수 */
+  private final LongAdder classicFastParses = new LongAdder();
+
+  /** 페이지 구조가 달라 Jsoup 파싱으로 대체한 고전독서 페이지 수 */
+  private final LongAdder classicParseFallbacks = new LongAdder();
+
+  /** 공유 세션 sjpt SSO가 거부되어 sjpt 전용 로그인으로 대체한 수 */
+  private final LongAdder sisLoginFallbacks = new LongAdder();
+
+  /** 호스트별 응답 트래픽 */
+  private final Map<String, SejongHostTraffic> hostTraffic = new ConcurrentHashMap<>();
+
+  /** 새 호스트 등록 알림 (MeterRegistry 등록용) */
+  private final List<Consumer<SejongHostTraffic>> hostListeners = new CopyOnWriteArrayList<>();
+
+  public void recordSession() {
+    sessions.increment();
+  }
+
+  public void recordRedirectHop() {
+    redirectHops.increment();
+  }
+
+  public void recordRedirectShortcut() {
+    redirectShortcuts.increment();
+  }
+
+  public void recordRetry() {
+    retries.increment();
+  }
+
+  public void recordRetryBudgetExhausted() {
+    retryBudgetExhausted.increment();
+  }
+
+  public void recordHedge() {
+    hedges.increment();
+  }
+
+  public void recordHedgeWin() {
+    hedgeWins.increment();
+  }
+
+  public void recordHedgeBudgetExhausted() {
+    hedgeBudgetExhausted.increment();
+  }
+
+  public void recordDnsHit() {
+    dnsHits.increment();
+  }
+
+  public void recordDnsMiss() {
+    dnsMisses.increment();
+  }
+
+  public void recordDnsStaleFallback() {
+    dnsStaleFallbacks.increment();
+  }
+
+  public void recordDnsResolution(long nanos) {
+    dnsResolutions.increment();
+    dnsResolutionNanos.add(nanos);
+  }
+
+  public void recordClassicFastParse() {
+    classicFastParses.increment();
+  }
+
+  public void recordClassicParseFallback() {
+    classicParseFallbacks.increment();
+  }
+
+  public void recordSisLoginFallback() {
+    sisLoginFallbacks.increment();
+  }
+
+  /**
+   * 호스트별 트래픽 지표 조회 (없으면 생성)
+   */
+  public SejongHostTraffic hostTraffic(String host) {
+    SejongHostTraffic traffic = hostTraffic.get(host);
+    return traffic != null ? traffic : registerHost(host);
+  }
+
+  /**
+   * 지금까지 응답을 받은 호스트별 트래픽 지표
+   */
+  public Map<String, SejongHostTraffic> getHostTraffic() {
+    return Collections.unmodifiableMap(hostTraffic);
+  }
+
+  public long getSessions() {
+    return sessions.sum();
+  }
+
+  public long getRedirectHops() {
+    return redirectHops.sum();
+  }
+
+  public long getRedirectShortcuts() {
+    return redirectShortcuts.sum();
+  }
+
+  public long getRetries() {
+    return retries.sum();
+  }
+
+  public long getRetryBudgetExhausted() {
+    return retryBudgetExhausted.sum();
+  }
+
+  public long getHedges() {
+    return hedges.sum();
+  }
+
+  public long getHedgeWins() {
+    return hedgeWins.sum();
+  }
+
+  public long getHedgeBudgetExhausted() {
+    return hedgeBudgetExhausted.sum();
+  }
+
+  public long getDnsHits() {
+    return dnsHits.sum();
+  }
+
+  public long getDnsMisses() {
+    return dnsMisses.sum();
+  }
+
+  public long getDnsStaleFallbacks() {
+    return dnsStaleFallbacks.sum();
+  }
+
+  public long getDnsResolutions() {
+    return dnsResolutions.sum();
+  }
+
+  public long getDnsResolutionNanos() {
+    return dnsResolutionNanos.sum();
+  }
+
+  public long getClassicFastParses() {
+    return classicFastParses.sum();
+  }
+
+  public long getClassicParseFallbacks() {
+    return classicParseFallbacks.sum();
+  }
+
+  public long getSisLoginFallbacks() {
+    return sisLoginFallbacks.sum();
+  }
+
+  /**
+   * DNS 캐시 적중률
+   *
+   * @return 조회가 없으면 0
+   */
+  public double getDnsHitRatio() {
+    long hits = getDnsHits();
+    long total = hits + getDnsMisses();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  /**
+   * 로그인 세션당 평균 리다이렉트 수
+   *
+   * @return 세션이 없으면 0
+   */
+  public double getRedirectHopsPerSession() {
+    long sessionCount = getSessions();
+    return sessionCount == 0 ? 0 : (double) getRedirectHops() / sessionCount;
+  }
+
+  /**
+   * 기존 호스트와 이후 새로 등록되는 호스트를 모두 전달
+   */
+  synchronized void addHostListener(Consumer<SejongHostTraffic> listener) {
+    hostTraffic.values().forEach(listener);
+    hostListeners.add(listener);
+  }
+
+  private synchronized SejongHostTraffic registerHost(String host) {
+    SejongHostTraffic traffic = hostTraffic.get(host);
+    if (traffic == null) {
+      traffic = new SejongHostTraffic(host);
+      hostTraffic.put(host, traffic);
+      for (Consumer<SejongHostTraffic> listener : hostListeners) {
+        listener.accept(traffic);
+      }
+    }
+    return traffic;
+  }
+}
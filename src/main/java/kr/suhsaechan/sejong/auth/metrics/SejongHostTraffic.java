@@ -0,0 +1,72 @@
+package kr.suhsaechan.sejong.auth.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 호스트별 응답 트래픽 지표
+ * - 전송된(압축) 본문 바이트와 해제된 본문 바이트를 비교하여 압축 효과 확인
+ * - 응답을 받은 HTTP 프로토콜(h2, http/1.1) 분포 기록
+ */
+public class SejongHostTraffic {
+
+  /** 호스트 이름 */
+  private final String host;
+
+  /** 네트워크에서 읽은 본문 바이트 (Content-Encoding 적용 상태) */
+  private final LongAdder wireBytes = new LongAdder();
+
+  /** 압축 해제 후 본문 바이트 */
+  private final LongAdder decodedBytes = new LongAdder();
+
+  /** HTTP/2로 받은 응답 수 */
+  private final LongAdder http2Responses = new LongAdder();
+
+  /** HTTP/1.x로 받은 응답 수 */
+  private final LongAdder http1Responses = new LongAdder();
+
+  SejongHostTraffic(String host) {
+    this.host = host;
+  }
+
+  public void recordWireBytes(long bytes) {
+    wireBytes.add(bytes);
+  }
+
+  public void recordDecodedBytes(long bytes) {
+    decodedBytes.add(bytes);
+  }
+
+  public void recordResponse(boolean http2) {
+    (http2 ? http2Responses : http1Responses).increment();
+  }
+
+  public String getHost() {
+    return host;
+  }
+
+  public long getWireBytes() {
+    return wireBytes.sum();
+  }
+
+  public long getDecodedBytes() {
+    return decodedBytes.sum();
+  }
+
+  public long getHttp2Responses() {
+    return http2Responses.sum();
+  }
+
+  public long getHttp1Responses() {
+    return http1Responses.sum();
+  }
+
+  /**
+   * 압축률 (전송 바이트 / 해제 바이트)
+   *
+   * @return 읽은 본문이 없으면 1
+   */
+  public double getCompressionRatio() {
+    long decoded = getDecodedBytes();
+    return decoded == 0 ? 1 : (double) getWireBytes() / decoded;
+  }
+}
@@ -0,0 +1,38 @@
+package kr.suhsaechan.sejong.auth.model;
+
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 인증 항목별 결과
+ * - 성공 시 result, 실패 시 errorCode/errorMessage 채움
+ */
+@Getter
+@Builder
+public class SejongBulkAuthItem {
+
+  /** 입력 목록에서의 순번 (0부터) */
+  private final int index;
+
+  /** 학번 */
+  private final String studentId;
+
+  /** 인증 성공 여부 */
+  private final boolean success;
+
+  /** DHC 인증 결과 (성공 시) */
+  private final SejongDhcAuthResult result;
+
+  /** 에러 코드 (실패 시) */
+  private final SejongAuthErrorCode errorCode;
+
+  /** 에러 메시지 (실패 시) */
+  private final String errorMessage;
+
+  @Override
+  public String toString() {
+    return String.format("SejongBulkAuthItem{index=%d, studentId='%s', success=%s, errorCode=%s}",
+        index, studentId, success, errorCode);
+  }
+}
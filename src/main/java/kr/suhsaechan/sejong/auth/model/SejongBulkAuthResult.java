@@ -0,0 +1,36 @@
+package kr.suhsaechan.sejong.auth.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 인증 결과
+ * - 항목별 결과는 입력 순서와 동일
+ */
+@Getter
+@Builder
+public class SejongBulkAuthResult {
+
+  /** 항목별 결과 (입력 순서) */
+  private final List<SejongBulkAuthItem> items;
+
+  /** 성공 건수 */
+  private final int successCount;
+
+  /** 실패 건수 */
+  private final int failureCount;
+
+  /** 시작 시간 */
+  private final LocalDateTime startedAt;
+
+  /** 완료 시간 */
+  private final LocalDateTime completedAt;
+
+  @Override
+  public String toString() {
+    return String.format("SejongBulkAuthResult{total=%d, successCount=%d, failureCount=%d, startedAt=%s, completedAt=%s}",
+        items != null ? items.size() : 0, successCount, failureCount, startedAt, completedAt);
+  }
+}
@@ -0,0 +1,37 @@
+package kr.suhsaechan.sejong.auth.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 인증용 학번/비밀번호 쌍
+ */
+@Getter
+@Builder
+public class SejongCredential {
+
+  /** 학번 */
+  private final String studentId;
+
+  /** 비밀번호 */
+  private final String password;
+
+  /**
+   * 학번/비밀번호로 생성
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return SejongCredential
+   */
+  public static SejongCredential of(String studentId, String password) {
+    return SejongCredential.builder()
+        .studentId(studentId)
+        .password(password)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("SejongCredential{studentId='%s', password='****'}", studentId);
+  }
+}
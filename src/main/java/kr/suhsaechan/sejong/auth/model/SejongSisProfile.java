@@ -0,0 +1,37 @@
+package kr.suhsaechan.sejong.auth.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 학사정보시스템(SIS) initUserInfo.do 응답의 사용자 정보
+ * - dm_UserInfo, dm_UserInfoGam, dm_UserInfoSch를 한 번에 읽어 모든 항목을 담음 (값이 없으면 빈 문자열)
+ */
+@Getter
+@Builder
+public class SejongSisProfile {
+
+  /** 학과명 (dm_UserInfoGam, 없으면 dm_UserInfoSch) */
+  private final String major;
+
+  /** 학번 */
+  private final String studentId;
+
+  /** 이름 */
+  private final String name;
+
+  /** 영어 이름 (dm_UserInfo, 없으면 dm_UserInfoSch) */
+  private final String englishName;
+
+  /** 이메일 주소 */
+  private final String email;
+
+  /** 전화번호 (010-1234-5678 형식) */
+  private final String phoneNumber;
+
+  @Override
+  public String toString() {
+    return String.format("SejongSisProfile{major='%s', studentId='%s', name='%s', englishName='%s', email='%s', phoneNumber='%s'}",
+        major, studentId, name, englishName, email, phoneNumber);
+  }
+}
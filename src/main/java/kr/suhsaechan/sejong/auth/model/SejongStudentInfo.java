@@ -0,0 +1,34 @@
+package kr.suhsaechan.sejong.auth.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 고전독서인증현황 페이지의 사용자 정보 테이블
+ * - 테이블을 한 번만 읽어 모든 항목을 담음 (값이 없으면 빈 문자열)
+ */
+@Getter
+@Builder
+public class SejongStudentInfo {
+
+  /** 학과명 */
+  private final String major;
+
+  /** 학번 */
+  private final String studentId;
+
+  /** 이름 */
+  private final String name;
+
+  /** 학년 */
+  private final String grade;
+
+  /** 사용자 상태 (재학 등) */
+  private final String status;
+
+  @Override
+  public String toString() {
+    return String.format("SejongStudentInfo{major='%s', studentId='%s', name='%s', grade='%s', status='%s'}",
+        major, studentId, name, grade, status);
+  }
+}
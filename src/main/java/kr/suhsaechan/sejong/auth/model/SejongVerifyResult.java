@@ -0,0 +1,29 @@
+package kr.suhsaechan.sejong.auth.model;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자격 증명 확인 결과
+ * - 학번/비밀번호 일치 여부만 확인하며 학생 정보 페이지는 조회/파싱하지 않음
+ */
+@Getter
+@Builder
+public class SejongVerifyResult {
+
+  /** 인증 성공 여부 */
+  private final boolean success;
+
+  /** 확인된 학번 (예: 20171234) */
+  private final String studentId;
+
+  /** 인증 시간 */
+  private final LocalDateTime authenticatedAt;
+
+  @Override
+  public String toString() {
+    return String.format("SejongVerifyResult{success=%s, studentId='%s', authenticatedAt=%s}",
+        success, studentId, authenticatedAt);
+  }
+}
@@ -9,31 +9,20 @@ import kr.suhsaechan.sejong.auth.model.ClassicContestRecord;
 import kr.suhsaechan.sejong.auth.model.ClassicExamRecord;
 import kr.suhsaechan.sejong.auth.model.ClassicSubjectRecord;
 import kr.suhsaechan.sejong.auth.model.SejongClassicReading;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicSectionIndex.Row;
 import kr.suhsaechan.sejong.auth.util.CommonUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 
 /**
  * 세종대학교 고전독서 인증 정보 파서
  * - 영역별 인증현황, 시험현황, 대체인증, 대회, 교과연계 파싱
+ * - 섹션 행은 SejongClassicSectionIndex에서 조회 (문서 1회 탐색)
  */
 @Slf4j
 public class SejongClassicReadingParser {
 
-  private static final String CERT_SELECTOR =
-      ".b-con-box:has(h4.b-h4-tit01:contains(영역별 인증현황)) table.b-board-table tbody tr";
-  private static final String EXAM_SELECTOR =
-      ".b-con-box:has(h4.b-h4-tit01:contains(인증 시험 현황)) table.b-board-table tbody tr";
-  private static final String SUBJECT_SUB_SELECTOR =
-      ".b-con-box:has(h4.b-h4-tit01:contains(과목 대체 인증 현황)) table.b-board-table tbody tr";
-  private static final String CONTEST_SELECTOR =
-      ".b-con-box:has(h4.b-h4-tit01:contains(대회 인증 현황)) table.b-board-table tbody tr";
-  private static final String CURRICULUM_SELECTOR =
-      ".b-con-box:has(h4.b-h4-tit01:contains(교과연계 인증 현황)) table.b-board-table tbody tr";
-
   /**
    * HTML에서 고전독서 전체 정보 파싱
    *
@@ -43,14 +32,47 @@ public class SejongClassicReadingParser {
    */
   public SejongClassicReading parse(String html) {
     try {
-      Document doc = Jsoup.parse(html);
+      return parse(Jsoup.parse(html));
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
+    }
+  }
+
+  /**
+   * Document에서 고전독서 전체 정보 파싱
+   *
+   * @param doc 고전독서인증현황 페이지 Document
+   * @return 고전독서 인증 정보
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public SejongClassicReading parse(Document doc) {
+    try {
+      return parse(SejongClassicSectionIndex.of(doc));
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
+    }
+  }
 
+  /**
+   * 섹션 색인에서 고전독서 전체 정보 파싱
+   * - 같은 Document의 색인을 SejongStudentInfoParser와 공유할 수 있음
+   *
+   * @param sections 고전독서인증현황 페이지 섹션 색인
+   * @return 고전독서 인증 정보
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public SejongClassicReading parse(SejongClassicSectionIndex sections) {
+    try {
       SejongClassicReading reading = SejongClassicReading.builder()
-          .certifications(parseCertifications(doc))
-          .examRecords(parseExamRecords(doc))
-          .subjectSubstitutions(parseSubjectSubstitutions(doc))
-          .contestRecords(parseContestRecords(doc))
-          .curriculumRecords(parseCurriculumRecords(doc))
+          .certifications(parseCertifications(sections))
+          .examRecords(parseExamRecords(sections))
+          .subjectSubstitutions(parseSubjectSubstitutions(sections))
+          .contestRecords(parseContestRecords(sections))
+          .curriculumRecords(parseCurriculumRecords(sections))
           .build();
 
       log.debug("고전독서 정보 파싱 완료: {}", reading);
@@ -64,19 +86,19 @@ public class SejongClassicReadingParser {
   /**
    * 영역별 인증현황 파싱
    */
-  private List<ClassicCertification> parseCertifications(Document doc) {
+  private List<ClassicCertification> parseCertifications(SejongClassicSectionIndex sections) {
     List<ClassicCertification> list = new ArrayList<>();
-    Elements rows = doc.select(CERT_SELECTOR);
+    List<Row> rows = sections.rows(SejongClassicSection.CERTIFICATION);
 
-    for (Element row : rows) {
-      String area = CommonUtil.trimToEmpty(row.select("th").text());
-      Elements tds = row.select("td");
+    for (Row row : rows) {
+      String area = CommonUtil.trimToEmpty(row.headerText());
+      List<String> tds = row.getCells();
 
       if (CommonUtil.hasText(area) && tds.size() >= 2) {
         list.add(ClassicCertification.builder()
             .area(area)
-            .requiredCount(CommonUtil.trimToEmpty(tds.get(0).text()))
-            .certifiedCount(CommonUtil.trimToEmpty(tds.get(1).text()))
+            .requiredCount(CommonUtil.trimToEmpty(tds.get(0)))
+            .certifiedCount(CommonUtil.trimToEmpty(tds.get(1)))
             .build());
       }
     }
@@ -87,12 +109,12 @@ public class SejongClassicReadingParser {
   /**
    * 인증 시험 현황 파싱
    */
-  private List<ClassicExamRecord> parseExamRecords(Document doc) {
+  private List<ClassicExamRecord> parseExamRecords(SejongClassicSectionIndex sections) {
     List<ClassicExamRecord> list = new ArrayList<>();
-    Elements rows = doc.select(EXAM_SELECTOR);
+    List<Row> rows = sections.rows(SejongClassicSection.EXAM);
 
-    for (Element row : rows) {
-      List<String> cols = row.select("td").eachText();
+    for (Row row : rows) {
+      List<String> cols = row.getCellTexts();
 
       if (cols.size() >= 6) {
         list.add(ClassicExamRecord.builder()
@@ -112,12 +134,12 @@ public class SejongClassicReadingParser {
   /**
    * 과목 대체 인증 현황 파싱
    */
-  private List<ClassicSubjectRecord> parseSubjectSubstitutions(Document doc) {
+  private List<ClassicSubjectRecord> parseSubjectSubstitutions(SejongClassicSectionIndex sections) {
     List<ClassicSubjectRecord> list = new ArrayList<>();
-    Elements rows = doc.select(SUBJECT_SUB_SELECTOR);
+    List<Row> rows = sections.rows(SejongClassicSection.SUBJECT_SUBSTITUTION);
 
-    for (Element row : rows) {
-      List<String> cols = row.select("td").eachText();
+    for (Row row : rows) {
+      List<String> cols = row.getCellTexts();
 
       if (cols.size() >= 5) {
         list.add(ClassicSubjectRecord.builder()
@@ -136,12 +158,12 @@ public class SejongClassicReadingParser {
   /**
    * 대회 인증 현황 파싱
    */
-  private List<ClassicContestRecord> parseContestRecords(Document doc) {
+  private List<ClassicContestRecord> parseContestRecords(SejongClassicSectionIndex sections) {
     List<ClassicContestRecord> list = new ArrayList<>();
-    Elements rows = doc.select(CONTEST_SELECTOR);
+    List<Row> rows = sections.rows(SejongClassicSection.CONTEST);
 
-    for (Element row : rows) {
-      List<String> cols = row.select("td").eachText();
+    for (Row row : rows) {
+      List<String> cols = row.getCellTexts();
 
       if (cols.size() >= 4) {
         list.add(ClassicContestRecord.builder()
@@ -159,12 +181,12 @@ public class SejongClassicReadingParser {
   /**
    * 교과연계 인증 현황 파싱
    */
-  private List<ClassicSubjectRecord> parseCurriculumRecords(Document doc) {
+  private List<ClassicSubjectRecord> parseCurriculumRecords(SejongClassicSectionIndex sections) {
     List<ClassicSubjectRecord> list = new ArrayList<>();
-    Elements rows = doc.select(CURRICULUM_SELECTOR);
+    List<Row> rows = sections.rows(SejongClassicSection.CURRICULUM);
 
-    for (Element row : rows) {
-      List<String> cols = row.select("td").eachText();
+    for (Row row : rows) {
+      List<String> cols = row.getCellTexts();
 
       if (cols.size() >= 5) {
         list.add(ClassicSubjectRecord.builder()
@@ -0,0 +1,47 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 고전독서인증현황 페이지 섹션
+ * - 각 섹션은 .b-con-box 안의 h4.b-h4-tit01 제목으로 구분
+ */
+@Getter
+@AllArgsConstructor
+public enum SejongClassicSection {
+
+  USER_INFO("사용자 정보"),
+  CERTIFICATION("영역별 인증현황"),
+  EXAM("인증 시험 현황"),
+  SUBJECT_SUBSTITUTION("과목 대체 인증 현황"),
+  CONTEST("대회 인증 현황"),
+  CURRICULUM("교과연계 인증 현황");
+
+  /** 전체 섹션 */
+  public static final Set<SejongClassicSection> ALL =
+      Collections.unmodifiableSet(EnumSet.allOf(SejongClassicSection.class));
+
+  private final String title;
+
+  /**
+   * 섹션 제목으로 섹션 조회
+   *
+   * @param heading h4 제목 텍스트
+   * @return 제목을 포함하는 섹션 (없으면 null)
+   */
+  public static SejongClassicSection fromHeading(String heading) {
+    if (heading == null) {
+      return null;
+    }
+    for (SejongClassicSection section : values()) {
+      if (heading.contains(section.title)) {
+        return section;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,158 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+/**
+ * 고전독서인증현황 페이지 섹션 색인
+ * - 문서를 한 번 훑어 h4.b-h4-tit01 제목별로 .b-con-box 안의 테이블 행을 모아둠
+ * - 섹션마다 :has(:contains(...)) 선택자로 문서 전체를 다시 탐색하지 않도록 Document당 한 번만 생성
+ * - 선택자는 클래스 로딩 시 한 번만 해석하여 재사용
+ * - 행은 셀 텍스트만 보관하므로 Jsoup 없이 만든 색인(SejongClassicStatusScanner)과 같은 방식으로 사용
+ */
+@Slf4j
+public final class SejongClassicSectionIndex {
+
+  private static final Evaluator SECTION_TITLE = QueryParser.parse("h4.b-h4-tit01");
+  private static final Evaluator SECTION_BOX = QueryParser.parse(".b-con-box");
+  private static final Evaluator TABLE_ROWS = QueryParser.parse("table.b-board-table tbody tr");
+
+  private final Map<SejongClassicSection, List<Row>> rows;
+
+  private SejongClassicSectionIndex(Map<SejongClassicSection, List<Row>> rows) {
+    this.rows = rows;
+  }
+
+  /**
+   * Document에서 섹션 색인 생성
+   * - 같은 제목의 섹션이 여러 개이면 행을 순서대로 이어붙임
+   *
+   * @param doc 고전독서인증현황 페이지 Document
+   * @return 섹션 색인
+   */
+  public static SejongClassicSectionIndex of(Document doc) {
+    Map<SejongClassicSection, List<Row>> rows = new EnumMap<>(SejongClassicSection.class);
+    for (Element title : doc.select(SECTION_TITLE)) {
+      SejongClassicSection section = SejongClassicSection.fromHeading(title.text());
+      Element box = section != null ? title.closest(SECTION_BOX) : null;
+      if (box != null) {
+        List<Row> sectionRows = rows.computeIfAbsent(section, key -> new ArrayList<>());
+        for (Element row : box.select(TABLE_ROWS)) {
+          sectionRows.add(Row.of(row));
+        }
+      }
+    }
+    log.debug("고전독서 페이지 섹션 색인 생성: sections={}", rows.keySet());
+    return new SejongClassicSectionIndex(rows);
+  }
+
+  /**
+   * 섹션별 행으로 색인 생성 (스트리밍 파서용)
+   */
+  static SejongClassicSectionIndex of(Map<SejongClassicSection, List<Row>> rows) {
+    return new SejongClassicSectionIndex(new EnumMap<>(rows));
+  }
+
+  /**
+   * 섹션의 테이블 행
+   *
+   * @param section 섹션
+   * @return 테이블 행 (섹션이 없으면 빈 목록)
+   */
+  public List<Row> rows(SejongClassicSection section) {
+    List<Row> sectionRows = rows.get(section);
+    return sectionRows != null ? Collections.unmodifiableList(sectionRows) : List.of();
+  }
+
+  /**
+   * 섹션 존재 여부
+   */
+  public boolean contains(SejongClassicSection section) {
+    return rows.containsKey(section);
+  }
+
+  /**
+   * 테이블 행 (th/td 셀 텍스트)
+   * - 셀 텍스트는 Jsoup Element.text()와 같이 공백을 하나로 합치고 앞뒤 공백 제거
+   */
+  public static final class Row {
+
+    private final List<String> headers;
+    private final List<String> cells;
+    private final List<String> cellTexts;
+
+    Row(List<String> headers, List<String> cells, List<String> cellTexts) {
+      this.headers = headers;
+      this.cells = cells;
+      this.cellTexts = cellTexts;
+    }
+
+    private static Row of(Element row) {
+      Elements tds = row.select("td");
+      return new Row(texts(row.select("th")), texts(tds), tds.eachText());
+    }
+
+    private static List<String> texts(Elements elements) {
+      List<String> texts = new ArrayList<>(elements.size());
+      for (Element element : elements) {
+        texts.add(element.text());
+      }
+      return texts;
+    }
+
+    /**
+     * th 셀 텍스트 (빈 셀 포함)
+     */
+    public List<String> getHeaders() {
+      return headers;
+    }
+
+    /**
+     * td 셀 텍스트 (빈 셀 포함)
+     */
+    public List<String> getCells() {
+      return cells;
+    }
+
+    /**
+     * 텍스트가 있는 td 셀 텍스트 (Elements.eachText()와 같음)
+     */
+    public List<String> getCellTexts() {
+      return cellTexts;
+    }
+
+    /**
+     * th 셀 텍스트를 공백으로 이어붙인 값 (Elements.text()와 같음)
+     */
+    public String headerText() {
+      return join(headers);
+    }
+
+    /**
+     * td 셀 텍스트를 공백으로 이어붙인 값 (Elements.text()와 같음)
+     */
+    public String cellText() {
+      return join(cells);
+    }
+
+    private static String join(List<String> texts) {
+      StringBuilder sb = new StringBuilder();
+      for (String text : texts) {
+        if (sb.length() != 0) {
+          sb.append(' ');
+        }
+        sb.append(text);
+      }
+      return sb.toString();
+    }
+  }
+}
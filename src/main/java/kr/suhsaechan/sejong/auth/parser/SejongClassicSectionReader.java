@@ -0,0 +1,60 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+
+/**
+ * 고전독서인증현황 페이지 스트리밍 파서
+ * - Jsoup StreamParser로 .b-con-box 단위로 읽으며, 요청한 섹션을 모두 읽으면 파싱 중단
+ * - 남은 본문은 읽지 않으므로 전송 바이트와 파싱 시간이 함께 줄어듦
+ */
+@Slf4j
+public final class SejongClassicSectionReader {
+
+  private static final String SECTION_SELECTOR = ".b-con-box";
+  private static final String SECTION_TITLE_SELECTOR = "h4.b-h4-tit01";
+
+  private SejongClassicSectionReader() {
+    // 유틸리티 클래스 인스턴스화 방지
+  }
+
+  /**
+   * 요청한 섹션까지만 파싱
+   * - 섹션이 모두 나오지 않으면 문서 끝까지 파싱
+   *
+   * @param reader 페이지 본문
+   * @param baseUri 상대 URL 기준 주소
+   * @param sections 필요한 섹션
+   * @return 요청한 섹션까지 파싱된 Document
+   * @throws IOException 본문 읽기 실패 시
+   */
+  public static Document parse(Reader reader, String baseUri, Set<SejongClassicSection> sections)
+      throws IOException {
+    Set<SejongClassicSection> remaining = sections.isEmpty()
+        ? EnumSet.noneOf(SejongClassicSection.class)
+        : EnumSet.copyOf(sections);
+
+    StreamParser streamParser = new StreamParser(Parser.htmlParser()).parse(reader, baseUri);
+    Element box;
+    while (!remaining.isEmpty() && (box = streamParser.selectNext(SECTION_SELECTOR)) != null) {
+      Element title = box.selectFirst(SECTION_TITLE_SELECTOR);
+      if (title != null) {
+        remaining.remove(SejongClassicSection.fromHeading(title.text()));
+      }
+    }
+
+    if (remaining.isEmpty()) {
+      log.debug("고전독서 페이지 필요한 섹션 파싱 완료, 나머지 본문 생략: sections={}", sections);
+      streamParser.stop();
+      return streamParser.document();
+    }
+    return streamParser.complete();
+  }
+}
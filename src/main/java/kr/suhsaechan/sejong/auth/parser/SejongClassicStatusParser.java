@@ -0,0 +1,78 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고전독서인증현황 페이지 섹션 색인 파서
+ * - 빠른 경로: SejongClassicStatusScanner로 DOM 없이 필요한 테이블 셀만 읽음
+ * - 페이지 구조가 예상과 다르면 읽은 본문부터 다시 Jsoup으로 파싱 (SejongClassicSectionReader)
+ * - 두 경로 모두 SejongClassicSectionIndex를 만들므로 SejongStudentInfoParser/SejongClassicReadingParser 결과는 같음
+ * - 대체 파싱 수는 SejongAuthMetrics에 기록 (페이지 구조 변경 감지용)
+ */
+@Slf4j
+public class SejongClassicStatusParser {
+
+  private final boolean fastParse;
+  private final SejongAuthMetrics metrics;
+
+  public SejongClassicStatusParser() {
+    this(new SejongAuthProperties(), new SejongAuthMetrics());
+  }
+
+  public SejongClassicStatusParser(SejongAuthProperties properties, SejongAuthMetrics metrics) {
+    this.fastParse = properties.isClassicFastParse();
+    this.metrics = metrics;
+  }
+
+  /**
+   * 페이지 본문에서 섹션 색인 생성
+   *
+   * @param reader 페이지 본문
+   * @param baseUri 상대 URL 기준 주소 (Jsoup 대체 파싱용)
+   * @return 섹션 색인
+   * @throws IOException 본문 읽기 실패 시
+   */
+  public SejongClassicSectionIndex parse(Reader reader, String baseUri) throws IOException {
+    if (!fastParse) {
+      return parseWithJsoup(reader, baseUri);
+    }
+
+    SejongClassicStatusScanner scanner = new SejongClassicStatusScanner(reader);
+    SejongClassicSectionIndex sections = scanner.scan();
+    if (sections != null) {
+      metrics.recordClassicFastParse();
+      return sections;
+    }
+
+    metrics.recordClassicParseFallback();
+    log.debug("고전독서 페이지 구조가 예상과 달라 Jsoup으로 다시 파싱: {}", scanner.mismatch());
+    return parseWithJsoup(scanner.replay(), baseUri);
+  }
+
+  /**
+   * HTML 문자열에서 섹션 색인 생성 (원본 HTML 포함 응답용)
+   *
+   * @param html 고전독서인증현황 페이지 HTML
+   * @param baseUri 상대 URL 기준 주소
+   * @return 섹션 색인
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public SejongClassicSectionIndex parse(String html, String baseUri) {
+    try {
+      return parse(new StringReader(html), baseUri);
+    } catch (IOException e) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
+    }
+  }
+
+  private SejongClassicSectionIndex parseWithJsoup(Reader reader, String baseUri) throws IOException {
+    return SejongClassicSectionIndex.of(SejongClassicSectionReader.parse(reader, baseUri, SejongClassicSection.ALL));
+  }
+}
@@ -0,0 +1,660 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicSectionIndex.Row;
+
+/**
+ * 고전독서인증현황 페이지 전용 스트리밍 토크나이저
+ * - DOM을 만들지 않고 .b-con-box의 h4.b-h4-tit01 제목과 table.b-board-table 행의 셀 텍스트만 읽음
+ * - 셀 텍스트는 Jsoup Element.text()/hasText()와 같은 규칙으로 정규화
+ * - 페이지 구조가 예상과 다르면 scan()이 null을 반환하고, 읽은 본문은 replay()로 다시 읽을 수 있음
+ * - 모든 섹션을 읽으면 나머지 본문은 읽지 않음
+ */
+final class SejongClassicStatusScanner {
+
+  private static final int INITIAL_BUFFER = 8 * 1024;
+  private static final int MAX_ENTITY_LENGTH = 32;
+  private static final char NBSP = '\u00a0';
+
+  /** 셀/제목 안에서 허용하는 인라인 태그 (텍스트에 영향 없음) */
+  private static final Set<String> INLINE_TAGS = Set.of(
+      "span", "a", "b", "strong", "em", "i", "u", "font", "small", "label", "sup", "sub", "img", "input", "wbr");
+
+  /** 내용을 태그로 해석하지 않는 요소 */
+  private static final Set<String> RAW_TEXT_TAGS = Set.of(
+      "script", "style", "textarea", "title", "xmp", "iframe", "noembed", "noframes");
+
+  private enum Capture { NONE, TITLE, HEADER, CELL }
+
+  private final Reader in;
+  private char[] buf = new char[INITIAL_BUFFER];
+  private int len;
+  private int pos;
+  private boolean eof;
+  private String mismatch;
+
+  private final Map<SejongClassicSection, List<Row>> sections = new EnumMap<>(SejongClassicSection.class);
+
+  // 현재 섹션 (.b-con-box)
+  private String boxTag;
+  private int boxDepth;
+  private boolean boxTitled;
+  private SejongClassicSection boxSection;
+  private final List<Row> boxRows = new ArrayList<>();
+
+  // 현재 테이블/행
+  private boolean inTable;
+  private boolean inTableHead;
+  private List<String> rowHeaders;
+  private List<String> rowCells;
+  private List<String> rowCellTexts;
+
+  // 현재 제목/셀 텍스트
+  private Capture capture = Capture.NONE;
+  private final StringBuilder text = new StringBuilder();
+  private boolean pendingSpace;
+  private boolean hasText;
+
+  SejongClassicStatusScanner(Reader in) {
+    this.in = in;
+  }
+
+  /**
+   * 본문을 읽어 섹션 색인 생성
+   *
+   * @return 섹션 색인, 페이지 구조가 예상과 다르면 null (사유는 mismatch())
+   * @throws IOException 본문 읽기 실패 시
+   */
+  SejongClassicSectionIndex scan() throws IOException {
+    int c;
+    while (sections.size() < SejongClassicSection.ALL.size() && (c = read()) != -1) {
+      boolean ok;
+      if (c == '<') {
+        ok = tag();
+      } else if (capture == Capture.NONE) {
+        ok = true;
+      } else if (c == '&') {
+        ok = entity();
+      } else {
+        appendText(c);
+        ok = true;
+      }
+      if (!ok) {
+        return null;
+      }
+    }
+
+    if (boxTag != null) {
+      return mismatch("본문이 섹션 도중에 끝남");
+    }
+    if (!sections.containsKey(SejongClassicSection.USER_INFO)) {
+      return mismatch("사용자 정보 섹션 없음");
+    }
+    return SejongClassicSectionIndex.of(sections);
+  }
+
+  /**
+   * 구조 불일치 사유 (scan()이 null을 반환한 경우)
+   */
+  String mismatch() {
+    return mismatch;
+  }
+
+  /**
+   * 지금까지 읽은 본문부터 다시 읽는 Reader (나머지 본문이 이어짐)
+   */
+  Reader replay() {
+    return new Reader() {
+      private int replayPos;
+
+      @Override
+      public int read(char[] cbuf, int off, int count) throws IOException {
+        if (replayPos < len) {
+          int n = Math.min(count, len - replayPos);
+          System.arraycopy(buf, replayPos, cbuf, off, n);
+          replayPos += n;
+          return n;
+        }
+        return in.read(cbuf, off, count);
+      }
+
+      @Override
+      public void close() throws IOException {
+        in.close();
+      }
+    };
+  }
+
+  // ===== 태그 =====
+
+  /**
+   * '<' 다음 토큰 처리 (시작/종료 태그, 주석, 선언)
+   */
+  private boolean tag() throws IOException {
+    int next = peek(0);
+    if (next == '!') {
+      if (peek(1) == '-' && peek(2) == '-') {
+        pos += 3;
+        return skipPast("-->");
+      }
+      return skipPast(">");
+    }
+    if (next == '?') {
+      return skipPast(">");
+    }
+    if (next == '/' && isAsciiLetter(peek(1))) {
+      pos++;
+      String name = readTagName();
+      if (!skipPast(">")) {
+        return false;
+      }
+      return endTag(name);
+    }
+    if (isAsciiLetter(next)) {
+      String name = readTagName();
+      String[] classAttr = new String[1];
+      int end = readAttributes(classAttr);
+      if (end < 0) {
+        return fail("태그가 닫히지 않음: " + name);
+      }
+      if (RAW_TEXT_TAGS.contains(name) && end == '>') {
+        if (capture != Capture.NONE) {
+          return fail("셀 안의 " + name + " 태그");
+        }
+        return skipRawText(name);
+      }
+      return startTag(name, classAttr[0]);
+    }
+    // 태그가 아닌 '<' 문자
+    if (capture != Capture.NONE) {
+      appendText('<');
+    }
+    return true;
+  }
+
+  private boolean startTag(String name, String classAttr) {
+    if (boxTag == null) {
+      if (hasClass(classAttr, "b-con-box")) {
+        boxTag = name;
+        boxDepth = 1;
+      }
+      return true;
+    }
+    if (hasClass(classAttr, "b-con-box")) {
+      return fail("중첩된 섹션");
+    }
+    if (capture != Capture.NONE) {
+      return startTagInCapture(name);
+    }
+    if (name.equals(boxTag)) {
+      if (inTable) {
+        return fail("테이블 안의 " + name + " 태그");
+      }
+      boxDepth++;
+      return true;
+    }
+
+    switch (name) {
+      case "h4":
+        if (!hasClass(classAttr, "b-h4-tit01")) {
+          return true;
+        }
+        if (boxTitled || inTable) {
+          return fail("섹션 제목이 둘 이상이거나 테이블 안에 있음");
+        }
+        startCapture(Capture.TITLE);
+        return true;
+      case "table":
+        if (inTable) {
+          return fail("중첩된 테이블");
+        }
+        if (!hasClass(classAttr, "b-board-table")) {
+          return fail("b-board-table이 아닌 테이블");
+        }
+        inTable = true;
+        inTableHead = false;
+        return true;
+      case "thead":
+      case "tfoot":
+      case "tbody":
+        if (inTable) {
+          closeRow();
+          inTableHead = !name.equals("tbody");
+        }
+        return true;
+      case "tr":
+        if (inTable) {
+          closeRow();
+          startRow();
+        }
+        return true;
+      case "th":
+      case "td":
+        if (!inTable) {
+          return true;
+        }
+        if (rowCells == null) {
+          return fail("행 밖의 셀");
+        }
+        startCapture(name.equals("th") ? Capture.HEADER : Capture.CELL);
+        return true;
+      case "caption":
+      case "colgroup":
+      case "col":
+        return true;
+      default:
+        return !inTable || fail("테이블 안의 " + name + " 태그");
+    }
+  }
+
+  /**
+   * 제목/셀 텍스트를 읽는 중의 시작 태그
+   * - 다음 셀/행 시작은 현재 셀을 닫음 (HTML 생략 가능 종료 태그)
+   */
+  private boolean startTagInCapture(String name) {
+    if (name.equals("br")) {
+      pendingSpace = text.length() > 0;
+      return true;
+    }
+    if (INLINE_TAGS.contains(name)) {
+      return true;
+    }
+    if (capture != Capture.TITLE) {
+      if (name.equals("th") || name.equals("td")) {
+        closeCell();
+        startCapture(name.equals("th") ? Capture.HEADER : Capture.CELL);
+        return true;
+      }
+      if (name.equals("tr")) {
+        closeCell();
+        closeRow();
+        startRow();
+        return true;
+      }
+    }
+    return fail("셀/제목 안의 " + name + " 태그");
+  }
+
+  private boolean endTag(String name) {
+    if (boxTag == null) {
+      return true;
+    }
+    if (capture == Capture.TITLE) {
+      if (name.equals("h4")) {
+        boxSection = SejongClassicSection.fromHeading(finishText());
+        boxTitled = true;
+        capture = Capture.NONE;
+        return true;
+      }
+      return INLINE_TAGS.contains(name) || fail("제목 안의 종료 태그: " + name);
+    }
+    if (capture != Capture.NONE) {
+      if (INLINE_TAGS.contains(name)) {
+        return true;
+      }
+      if (!name.equals("td") && !name.equals("th") && !name.equals("tr") && !name.equals("tbody")
+          && !name.equals("thead") && !name.equals("tfoot") && !name.equals("table")) {
+        return fail("셀 안의 종료 태그: " + name);
+      }
+      closeCell();
+      if (name.equals("td") || name.equals("th")) {
+        return true;
+      }
+    }
+
+    switch (name) {
+      case "tr":
+        closeRow();
+        return true;
+      case "thead":
+      case "tfoot":
+      case "tbody":
+        closeRow();
+        inTableHead = false;
+        return true;
+      case "table":
+        closeRow();
+        inTable = false;
+        return true;
+      default:
+        if (name.equals(boxTag)) {
+          if (inTable) {
+            return fail("테이블이 닫히기 전에 섹션 종료");
+          }
+          if (--boxDepth == 0) {
+            closeBox();
+          }
+        }
+        return true;
+    }
+  }
+
+  private void startRow() {
+    rowHeaders = new ArrayList<>();
+    rowCells = new ArrayList<>();
+    rowCellTexts = new ArrayList<>();
+  }
+
+  private void closeRow() {
+    if (rowCells != null && !inTableHead) {
+      boxRows.add(new Row(rowHeaders, rowCells, rowCellTexts));
+    }
+    rowHeaders = null;
+    rowCells = null;
+    rowCellTexts = null;
+  }
+
+  private void closeCell() {
+    boolean cellHasText = hasText;
+    String value = finishText();
+    if (capture == Capture.HEADER) {
+      rowHeaders.add(value);
+    } else {
+      rowCells.add(value);
+      if (cellHasText) {
+        rowCellTexts.add(value);
+      }
+    }
+    capture = Capture.NONE;
+  }
+
+  /**
+   * 섹션 종료: 제목이 알려진 섹션이면 행 등록 (같은 섹션이 반복되면 이어붙임)
+   */
+  private void closeBox() {
+    if (boxSection != null) {
+      sections.computeIfAbsent(boxSection, key -> new ArrayList<>()).addAll(boxRows);
+    }
+    boxTag = null;
+    boxTitled = false;
+    boxSection = null;
+    boxRows.clear();
+  }
+
+  // ===== 텍스트 =====
+
+  private void startCapture(Capture kind) {
+    capture = kind;
+    text.setLength(0);
+    pendingSpace = false;
+    hasText = false;
+  }
+
+  /**
+   * 텍스트 추가 (연속 공백은 하나로, 앞뒤 공백 제거: Element.text()와 같음)
+   * - hasText는 Element.hasText()와 같이 &nbsp;도 텍스트로 봄
+   */
+  private void appendText(int c) {
+    boolean blank = c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    if (!blank) {
+      hasText = true;
+    }
+    if (blank || c == NBSP) {
+      pendingSpace = text.length() > 0;
+      return;
+    }
+    if (pendingSpace) {
+      text.append(' ');
+      pendingSpace = false;
+    }
+    text.append((char) c);
+  }
+
+  private String finishText() {
+    String value = text.toString();
+    text.setLength(0);
+    pendingSpace = false;
+    return value;
+  }
+
+  /**
+   * 문자 참조 해석 ('&' 다음부터)
+   * - 숫자 참조와 amp/lt/gt/quot/apos/nbsp만 직접 해석하고, 그 외 이름은 구조 불일치로 처리
+   */
+  private boolean entity() throws IOException {
+    int length = 0;
+    int c;
+    while (length < MAX_ENTITY_LENGTH && ((c = peek(length)) == '#' || isAsciiLetter(c) || isAsciiDigit(c))) {
+      length++;
+    }
+    if (length == 0) {
+      appendText('&');
+      return true;
+    }
+    if (peek(length) != ';') {
+      return fail("세미콜론 없는 문자 참조");
+    }
+    String name = new String(buf, pos, length);
+    pos += length + 1;
+
+    int codePoint = decodeEntity(name);
+    if (codePoint < 0) {
+      return fail("지원하지 않는 문자 참조: &" + name + ";");
+    }
+    for (char ch : Character.toChars(codePoint)) {
+      appendText(ch);
+    }
+    return true;
+  }
+
+  private static int decodeEntity(String name) {
+    switch (name) {
+      case "amp":
+        return '&';
+      case "lt":
+        return '<';
+      case "gt":
+        return '>';
+      case "quot":
+        return '"';
+      case "apos":
+        return '\'';
+      case "nbsp":
+        return NBSP;
+      default:
+        break;
+    }
+    if (name.length() < 2 || name.charAt(0) != '#') {
+      return -1;
+    }
+    try {
+      int codePoint = name.charAt(1) == 'x' || name.charAt(1) == 'X'
+          ? Integer.parseInt(name.substring(2), 16)
+          : Integer.parseInt(name.substring(1));
+      return codePoint > 0 && Character.isValidCodePoint(codePoint) ? codePoint : -1;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  // ===== 토큰 읽기 =====
+
+  private String readTagName() throws IOException {
+    StringBuilder name = new StringBuilder();
+    int c;
+    while ((c = peek(0)) != -1 && (isAsciiLetter(c) || isAsciiDigit(c))) {
+      name.append((char) Character.toLowerCase(c));
+      pos++;
+    }
+    return name.toString();
+  }
+
+  /**
+   * 속성을 건너뛰며 class 값만 추출 (처음 나온 class만 사용: Jsoup과 같음)
+   *
+   * @return 태그 끝 문자 ('>' 또는 자체 닫힘이면 '/'), 본문이 끝나면 -1
+   */
+  private int readAttributes(String[] classAttr) throws IOException {
+    while (true) {
+      int c = read();
+      if (c == -1) {
+        return -1;
+      }
+      if (c == '>') {
+        return '>';
+      }
+      if (c == '/' && peek(0) == '>') {
+        pos++;
+        return '/';
+      }
+      if (isWhitespace(c) || c == '/') {
+        continue;
+      }
+
+      StringBuilder attrName = new StringBuilder().append((char) Character.toLowerCase(c));
+      while ((c = peek(0)) != -1 && !isWhitespace(c) && c != '=' && c != '>' && c != '/') {
+        attrName.append((char) Character.toLowerCase(c));
+        pos++;
+      }
+      while (isWhitespace(peek(0))) {
+        pos++;
+      }
+      if (peek(0) != '=') {
+        continue;
+      }
+      pos++;
+      while (isWhitespace(peek(0))) {
+        pos++;
+      }
+
+      String value = readAttributeValue();
+      if (value == null) {
+        return -1;
+      }
+      if (classAttr[0] == null && attrName.toString().equals("class")) {
+        classAttr[0] = value;
+      }
+    }
+  }
+
+  private String readAttributeValue() throws IOException {
+    StringBuilder value = new StringBuilder();
+    int quote = peek(0);
+    int c;
+    if (quote == '"' || quote == '\'') {
+      pos++;
+      while ((c = read()) != quote) {
+        if (c == -1) {
+          return null;
+        }
+        value.append((char) c);
+      }
+      return value.toString();
+    }
+    while ((c = peek(0)) != -1 && !isWhitespace(c) && c != '>') {
+      value.append((char) c);
+      pos++;
+    }
+    return value.toString();
+  }
+
+  /**
+   * script/style 등은 종료 태그까지 내용을 건너뜀
+   */
+  private boolean skipRawText(String name) throws IOException {
+    String endTag = "</" + name;
+    while (skipPast(endTag)) {
+      int c = peek(0);
+      if (c == '>' || c == '/' || isWhitespace(c)) {
+        return skipPast(">");
+      }
+    }
+    return false;
+  }
+
+  /**
+   * marker 문자열 다음 위치로 이동 (대소문자 무시)
+   *
+   * @return 본문이 끝나기 전에 찾았으면 true
+   */
+  private boolean skipPast(String marker) throws IOException {
+    int matched = 0;
+    int c;
+    while ((c = read()) != -1) {
+      if (Character.toLowerCase(c) == marker.charAt(matched)) {
+        if (++matched == marker.length()) {
+          return true;
+        }
+      } else {
+        matched = Character.toLowerCase(c) == marker.charAt(0) ? 1 : 0;
+      }
+    }
+    return fail("본문이 " + marker + " 전에 끝남");
+  }
+
+  private int read() throws IOException {
+    if (pos == len && !fill()) {
+      return -1;
+    }
+    return buf[pos++];
+  }
+
+  private int peek(int offset) throws IOException {
+    while (pos + offset >= len) {
+      if (!fill()) {
+        return -1;
+      }
+    }
+    return buf[pos + offset];
+  }
+
+  /**
+   * 본문을 더 읽어 버퍼 뒤에 추가 (읽은 본문은 replay()를 위해 모두 보관)
+   */
+  private boolean fill() throws IOException {
+    if (eof) {
+      return false;
+    }
+    if (len == buf.length) {
+      buf = Arrays.copyOf(buf, buf.length * 2);
+    }
+    int n = in.read(buf, len, buf.length - len);
+    if (n < 0) {
+      eof = true;
+      return false;
+    }
+    len += n;
+    return true;
+  }
+
+  private boolean fail(String reason) {
+    mismatch = reason;
+    return false;
+  }
+
+  private SejongClassicSectionIndex mismatch(String reason) {
+    mismatch = reason;
+    return null;
+  }
+
+  private static boolean hasClass(String classAttr, String className) {
+    if (classAttr == null) {
+      return false;
+    }
+    for (String token : classAttr.trim().split("\\s+")) {
+      if (token.equals(className)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isWhitespace(int c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+  }
+
+  private static boolean isAsciiLetter(int c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isAsciiDigit(int c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -1,20 +1,41 @@
 package kr.suhsaechan.sejong.auth.parser;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.model.SejongSisProfile;
 import kr.suhsaechan.sejong.auth.util.CommonUtil;
+import kr.suhsaechan.sejong.auth.util.SejongJson;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 세종대학교 학사정보시스템(SIS) 응답 파서
  * - initUserInfo.do API 응답 JSON 파싱
+ * - 여러 항목이 필요하면 parseProfile()로 응답을 한 번만 읽어 SejongSisProfile로 받음
  */
 @Slf4j
 public class SejongSisParser {
 
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private static final Set<String> USER_INFO_FIELDS = Set.of("INTG_USR_NO", "INTG_USR_NM", "INTG_ENG_NM");
+  private static final Set<String> USER_INFO_GAM_FIELDS = Set.of(
+      "DEPT_NM", "USER_EMAIL", "USER_PHONE_NO1", "USER_PHONE_NO2", "USER_PHONE_NO3");
+  private static final Set<String> USER_INFO_SCH_FIELDS = Set.of("DEPT_NM", "NM_ENG");
+
+  private final SejongJson sejongJson;
+
+  public SejongSisParser() {
+    this(SejongJson.shared());
+  }
+
+  public SejongSisParser(SejongJson sejongJson) {
+    this.sejongJson = sejongJson;
+  }
 
   /**
    * JSON에서 학과명 파싱
@@ -24,8 +45,14 @@ public class SejongSisParser {
    * @throws SejongAuthException 파싱 실패 시
    */
   public String parseMajor(String json) {
+    return parseMajor(readTree(json));
+  }
+
+  /**
+   * JsonNode에서 학과명 파싱
+   */
+  private String parseMajor(JsonNode root) {
     try {
-      JsonNode root = objectMapper.readTree(json);
       JsonNode dmUserInfoGam = root.path("dm_UserInfoGam");
       JsonNode dmUserInfoSch = root.path("dm_UserInfoSch");
 
@@ -47,8 +74,14 @@ public class SejongSisParser {
    * @throws SejongAuthException 파싱 실패 시
    */
   public String parseStudentId(String json) {
+    return parseStudentId(readTree(json));
+  }
+
+  /**
+   * JsonNode에서 학번 파싱
+   */
+  private String parseStudentId(JsonNode root) {
     try {
-      JsonNode root = objectMapper.readTree(json);
       JsonNode dmUserInfo = root.path("dm_UserInfo");
 
       if (dmUserInfo.isMissingNode()) {
@@ -73,8 +106,14 @@ public class SejongSisParser {
    * @throws SejongAuthException 파싱 실패 시
    */
   public String parseName(String json) {
+    return parseName(readTree(json));
+  }
+
+  /**
+   * JsonNode에서 이름 파싱
+   */
+  private String parseName(JsonNode root) {
     try {
-      JsonNode root = objectMapper.readTree(json);
       JsonNode dmUserInfo = root.path("dm_UserInfo");
 
       String name = getTextValue(dmUserInfo, "INTG_USR_NM");
@@ -92,8 +131,14 @@ public class SejongSisParser {
    * @throws SejongAuthException 파싱 실패 시
    */
   public String parseEmail(String json) {
+    return parseEmail(readTree(json));
+  }
+
+  /**
+   * JsonNode에서 이메일 파싱
+   */
+  private String parseEmail(JsonNode root) {
     try {
-      JsonNode root = objectMapper.readTree(json);
       JsonNode dmUserInfoGam = root.path("dm_UserInfoGam");
       String email = getTextValue(dmUserInfoGam, "USER_EMAIL");
       return CommonUtil.defaultIfBlank(email, "");
@@ -110,8 +155,14 @@ public class SejongSisParser {
    * @throws SejongAuthException 파싱 실패 시
    */
   public String parsePhoneNumber(String json) {
+    return parsePhoneNumber(readTree(json));
+  }
+
+  /**
+   * JsonNode에서 전화번호 파싱
+   */
+  private String parsePhoneNumber(JsonNode root) {
     try {
-      JsonNode root = objectMapper.readTree(json);
       JsonNode dmUserInfoGam = root.path("dm_UserInfoGam");
       String phoneNumber = buildPhoneNumber(dmUserInfoGam);
       return CommonUtil.defaultIfBlank(phoneNumber, "");
@@ -128,8 +179,14 @@ public class SejongSisParser {
    * @throws SejongAuthException 파싱 실패 시
    */
   public String parseEnglishName(String json) {
+    return parseEnglishName(readTree(json));
+  }
+
+  /**
+   * JsonNode에서 영어 이름 파싱
+   */
+  private String parseEnglishName(JsonNode root) {
     try {
-      JsonNode root = objectMapper.readTree(json);
       JsonNode dmUserInfo = root.path("dm_UserInfo");
       JsonNode dmUserInfoSch = root.path("dm_UserInfoSch");
 
@@ -143,6 +200,112 @@ public class SejongSisParser {
     }
   }
 
+  /**
+   * JSON에서 사용자 정보 전체 파싱 (트리를 만들지 않고 한 번만 읽음)
+   *
+   * @param json initUserInfo.do API 응답 JSON
+   * @return 사용자 정보
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public SejongSisProfile parseProfile(String json) {
+    try (JsonParser parser = sejongJson.createParser(json)) {
+      return parseProfile(parser);
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
+    }
+  }
+
+  /**
+   * JsonNode에서 사용자 정보 전체 파싱
+   *
+   * @param root initUserInfo.do API 응답 JSON 트리
+   * @return 사용자 정보
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public SejongSisProfile parseProfile(JsonNode root) {
+    try (JsonParser parser = root.traverse(sejongJson.getTreeReader())) {
+      return parseProfile(parser);
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
+    }
+  }
+
+  /**
+   * JsonParser 스트림에서 사용자 정보 전체 파싱
+   * - dm_UserInfo, dm_UserInfoGam, dm_UserInfoSch의 필요한 필드만 읽고 나머지 값은 건너뜀
+   * - 응답 본문 스트림에 바로 연결하면 JSON 트리를 만들지 않음
+   *
+   * @param parser 시작 전이거나 최상위 객체 시작 위치의 JsonParser (닫지 않음)
+   * @return 사용자 정보
+   * @throws IOException 본문 읽기 실패 시
+   * @throws SejongAuthException 최상위 객체나 dm_UserInfo가 없는 경우
+   */
+  public SejongSisProfile parseProfile(JsonParser parser) throws IOException {
+    JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+    if (token != JsonToken.START_OBJECT) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR,
+          "initUserInfo API 응답이 JSON 객체가 아닙니다.");
+    }
+
+    Map<String, String> userInfo = null;
+    Map<String, String> userInfoGam = Map.of();
+    Map<String, String> userInfoSch = Map.of();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String section = parser.currentName();
+      parser.nextToken();
+      switch (section) {
+        case "dm_UserInfo":
+          userInfo = readFields(parser, USER_INFO_FIELDS);
+          break;
+        case "dm_UserInfoGam":
+          userInfoGam = readFields(parser, USER_INFO_GAM_FIELDS);
+          break;
+        case "dm_UserInfoSch":
+          userInfoSch = readFields(parser, USER_INFO_SCH_FIELDS);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+
+    if (userInfo == null) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR,
+          "dm_UserInfo 필드를 찾을 수 없습니다.");
+    }
+
+    SejongSisProfile profile = SejongSisProfile.builder()
+        .major(firstText(userInfoGam.get("DEPT_NM"), userInfoSch.get("DEPT_NM")))
+        .studentId(firstText(userInfo.get("INTG_USR_NO"), null))
+        .name(firstText(userInfo.get("INTG_USR_NM"), null))
+        .englishName(firstText(userInfo.get("INTG_ENG_NM"), userInfoSch.get("NM_ENG")))
+        .email(firstText(userInfoGam.get("USER_EMAIL"), null))
+        .phoneNumber(buildPhoneNumber(userInfoGam.get("USER_PHONE_NO1"),
+            userInfoGam.get("USER_PHONE_NO2"), userInfoGam.get("USER_PHONE_NO3")))
+        .build();
+    log.debug("SIS 사용자 정보 파싱 완료: studentId={}", profile.getStudentId());
+    return profile;
+  }
+
+  /**
+   * JSON 문자열을 트리로 변환
+   * - 이미 만든 트리를 parseProfile(JsonNode)에 전달할 때 사용
+   *
+   * @param json initUserInfo.do API 응답 JSON
+   * @return JSON 트리
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public JsonNode readTree(String json) {
+    try {
+      return sejongJson.readTree(json);
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
+    }
+  }
+
   /**
    * JsonNode에서 텍스트 값 추출
    */
@@ -157,6 +320,39 @@ public class SejongSisParser {
     return field.asText("");
   }
 
+  /**
+   * 객체 값에서 fields에 해당하는 필드만 텍스트로 읽음 (그 외 필드와 객체가 아닌 값은 건너뜀)
+   * - 텍스트 변환은 JsonNode.asText("")와 같음 (null, 객체, 배열은 빈 문자열)
+   */
+  private Map<String, String> readFields(JsonParser parser, Set<String> fields) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return Map.of();
+    }
+
+    Map<String, String> values = new HashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (fields.contains(field) && value.isScalarValue()) {
+        values.put(field, value == JsonToken.VALUE_NULL ? "" : parser.getText());
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return values;
+  }
+
+  /**
+   * 첫 번째 값이 비어있으면 두 번째 값 사용 (둘 다 없으면 빈 문자열)
+   */
+  private String firstText(String value, String fallback) {
+    if (CommonUtil.isBlank(value)) {
+      value = fallback;
+    }
+    return CommonUtil.defaultIfBlank(value, "");
+  }
+
   /**
    * 전화번호 조합 (NO1-NO2-NO3)
    */
@@ -165,10 +361,15 @@ public class SejongSisParser {
       return "";
     }
 
-    String no1 = getTextValue(dmUserInfoGam, "USER_PHONE_NO1");
-    String no2 = getTextValue(dmUserInfoGam, "USER_PHONE_NO2");
-    String no3 = getTextValue(dmUserInfoGam, "USER_PHONE_NO3");
+    return buildPhoneNumber(getTextValue(dmUserInfoGam, "USER_PHONE_NO1"),
+        getTextValue(dmUserInfoGam, "USER_PHONE_NO2"),
+        getTextValue(dmUserInfoGam, "USER_PHONE_NO3"));
+  }
 
+  /**
+   * 전화번호 조합 (NO1-NO2-NO3, 비어있는 부분은 생략)
+   */
+  private String buildPhoneNumber(String no1, String no2, String no3) {
     // 모두 비어있으면 빈 문자열
     if (CommonUtil.isBlank(no1) && CommonUtil.isBlank(no2) && CommonUtil.isBlank(no3)) {
       return "";
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.model.SejongStudentInfo;
 import kr.suhsaechan.sejong.auth.util.CommonUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
@@ -11,13 +12,45 @@ import org.jsoup.nodes.Document;
 
 /**
  * 세종대학교 학생 기본 정보 파서
- * - 고전독서인증현황 페이지에서 사용자 정보 테이블 파싱
+ * - 고전독서인증현황 페이지에서 사용자 정보 테이블 파싱 (SejongClassicSectionIndex 사용)
+ * - 여러 항목이 필요하면 parse()로 테이블을 한 번만 읽어 SejongStudentInfo로 받음
  */
 @Slf4j
 public class SejongStudentInfoParser {
 
-  private static final String USER_INFO_SELECTOR =
-      ".b-con-box:has(h4.b-h4-tit01:contains(사용자 정보)) table.b-board-table tbody tr";
+  /**
+   * HTML에서 사용자 정보 전체 파싱
+   *
+   * @param html 고전독서인증현황 페이지 HTML
+   * @return 사용자 정보
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public SejongStudentInfo parse(String html) {
+    return toStudentInfo(parseTableData(html));
+  }
+
+  /**
+   * Document에서 사용자 정보 전체 파싱 (테이블 1회 조회)
+   *
+   * @param doc 고전독서인증현황 페이지 Document
+   * @return 사용자 정보
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public SejongStudentInfo parse(Document doc) {
+    return toStudentInfo(parseTableData(doc));
+  }
+
+  /**
+   * 섹션 색인에서 사용자 정보 전체 파싱
+   * - 같은 Document의 색인을 SejongClassicReadingParser와 공유할 수 있음
+   *
+   * @param sections 고전독서인증현황 페이지 섹션 색인
+   * @return 사용자 정보
+   * @throws SejongAuthException 파싱 실패 시
+   */
+  public SejongStudentInfo parse(SejongClassicSectionIndex sections) {
+    return toStudentInfo(parseTableData(sections));
+  }
 
   /**
    * HTML에서 학과명 파싱
@@ -79,13 +112,53 @@ public class SejongStudentInfoParser {
     return CommonUtil.defaultIfBlank(data.get("사용자 상태"), "");
   }
 
+  /**
+   * 라벨-값 쌍을 SejongStudentInfo로 변환
+   */
+  private SejongStudentInfo toStudentInfo(Map<String, String> data) {
+    SejongStudentInfo info = SejongStudentInfo.builder()
+        .major(CommonUtil.defaultIfBlank(data.get("학과명"), ""))
+        .studentId(CommonUtil.defaultIfBlank(data.get("학번"), ""))
+        .name(CommonUtil.defaultIfBlank(data.get("이름"), ""))
+        .grade(CommonUtil.defaultIfBlank(data.get("학년"), ""))
+        .status(CommonUtil.defaultIfBlank(data.get("사용자 상태"), ""))
+        .build();
+    log.debug("사용자 정보 파싱 완료: {}", info);
+    return info;
+  }
+
   /**
    * HTML에서 테이블 데이터 파싱 (내부 캐싱용)
    */
   private Map<String, String> parseTableData(String html) {
     try {
-      Document doc = Jsoup.parse(html);
-      Map<String, String> data = extractTableData(doc);
+      return parseTableData(Jsoup.parse(html));
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
+    }
+  }
+
+  /**
+   * Document에서 테이블 데이터 파싱
+   */
+  private Map<String, String> parseTableData(Document doc) {
+    try {
+      return parseTableData(SejongClassicSectionIndex.of(doc));
+    } catch (SejongAuthException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR, e);
+    }
+  }
+
+  /**
+   * 섹션 색인에서 테이블 데이터 파싱
+   */
+  private Map<String, String> parseTableData(SejongClassicSectionIndex sections) {
+    try {
+      Map<String, String> data = extractTableData(sections);
 
       if (data.isEmpty()) {
         throw new SejongAuthException(SejongAuthErrorCode.PARSE_ERROR,
@@ -103,12 +176,12 @@ public class SejongStudentInfoParser {
   /**
    * 테이블에서 라벨-값 쌍 추출
    */
-  private Map<String, String> extractTableData(Document doc) {
+  private Map<String, String> extractTableData(SejongClassicSectionIndex sections) {
     Map<String, String> data = new HashMap<>();
 
-    doc.select(USER_INFO_SELECTOR).forEach(row -> {
-      String label = CommonUtil.trimToEmpty(row.select("th").text());
-      String value = CommonUtil.trimToEmpty(row.select("td").text());
+    sections.rows(SejongClassicSection.USER_INFO).forEach(row -> {
+      String label = CommonUtil.trimToEmpty(row.headerText());
+      String value = CommonUtil.trimToEmpty(row.cellText());
       if (CommonUtil.hasText(label)) {
         data.put(label, value);
       }
@@ -0,0 +1,98 @@
+package kr.suhsaechan.sejong.auth.service;
+
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.model.SejongAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongDhcAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongSisAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongVerifyResult;
+import reactor.core.publisher.Mono;
+
+/**
+ * 세종대학교 인증 서비스 (Reactive)
+ * - Spring WebFlux 환경용 Mono 기반 API
+ * - 내부적으로 SuhSejongAuthEngine의 비동기(enqueue 기반) 흐름을 사용하여 boundedElastic 오프로딩 불필요
+ * - 구독 시점에 요청을 시작하고, 구독 취소 시 진행 중인 HTTP 요청도 취소
+ */
+public class ReactiveSuhSejongAuthEngine {
+
+  private final SuhSejongAuthEngine engine;
+
+  public ReactiveSuhSejongAuthEngine(SuhSejongAuthEngine engine) {
+    this.engine = engine;
+  }
+
+  /**
+   * 세종대학교 통합 인증 (DHC + SIS)
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 통합 인증 결과 (실패 시 SejongAuthException 에러 시그널)
+   */
+  public Mono<SejongAuthResult> authenticate(String studentId, String password) {
+    return Mono.fromFuture(() -> engine.authenticateAsync(studentId, password));
+  }
+
+  /**
+   * 대양휴머니티칼리지(DHC) 인증
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return DHC 인증 결과 (실패 시 SejongAuthException 에러 시그널)
+   */
+  public Mono<SejongDhcAuthResult> authenticateWithDHC(String studentId, String password) {
+    return Mono.fromFuture(() -> engine.authenticateWithDHCAsync(studentId, password));
+  }
+
+  /**
+   * 학사정보시스템(SIS) 인증
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return SIS 인증 결과 (실패 시 SejongAuthException 에러 시그널)
+   */
+  public Mono<SejongSisAuthResult> authenticateWithSIS(String studentId, String password) {
+    return Mono.fromFuture(() -> engine.authenticateWithSISAsync(studentId, password));
+  }
+
+  /**
+   * DHC 인증 (원본 HTML 포함)
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return DHC 인증 결과 (원본 HTML 포함)
+   */
+  public Mono<SejongDhcAuthResult> authenticateWithDHCRaw(String studentId, String password) {
+    return Mono.fromFuture(() -> engine.authenticateWithDHCRawAsync(studentId, password));
+  }
+
+  /**
+   * SIS 인증 (원본 JSON 포함)
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return SIS 인증 결과 (원본 JSON 포함)
+   */
+  public Mono<SejongSisAuthResult> authenticateWithSISRaw(String studentId, String password) {
+    return Mono.fromFuture(() -> engine.authenticateWithSISRawAsync(studentId, password));
+  }
+
+  /**
+   * 학번/비밀번호 일치 여부만 확인 (학생 정보 조회/파싱 생략)
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 확인 결과 (실패 시 SejongAuthException 에러 시그널)
+   */
+  public Mono<SejongVerifyResult> verify(String studentId, String password) {
+    return Mono.fromFuture(() -> engine.verifyAsync(studentId, password));
+  }
+
+  /**
+   * 로그인 직전 연결 준비 힌트
+   *
+   * @return 연결 준비가 끝나면 완료되는 Mono
+   */
+  public Mono<Void> prepare() {
+    return Mono.fromFuture(engine::prepare);
+  }
+}
@@ -0,0 +1,139 @@
+package kr.suhsaechan.sejong.auth.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.model.SejongBulkAuthItem;
+import kr.suhsaechan.sejong.auth.model.SejongBulkAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongCredential;
+import kr.suhsaechan.sejong.auth.model.SejongDhcAuthResult;
+import kr.suhsaechan.sejong.auth.util.SejongRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일괄 인증 실행기
+ * - 동시 실행 수(parallelism)와 초당 시작 수(rate)를 제한하며 DHC 비동기 인증 수행
+ * - 한 항목의 실패가 전체를 중단시키지 않고 항목별 결과로 기록
+ */
+@Slf4j
+class SejongBulkAuthRunner {
+
+  private final SuhSejongAuthEngine engine;
+  private final int parallelism;
+  private final double ratePerSecond;
+
+  SejongBulkAuthRunner(SuhSejongAuthEngine engine, int parallelism, double ratePerSecond) {
+    this.engine = engine;
+    this.parallelism = Math.max(1, parallelism);
+    this.ratePerSecond = ratePerSecond;
+  }
+
+  /**
+   * 일괄 인증 실행 (모든 항목 완료 시 반환)
+   */
+  SejongBulkAuthResult run(List<SejongCredential> credentials, SejongBulkProgressListener listener) {
+    int total = credentials.size();
+    LocalDateTime startedAt = LocalDateTime.now();
+    log.info("세종대학교 일괄 인증 시작: total={}, parallelism={}, ratePerSecond={}", total, parallelism, ratePerSecond);
+
+    SejongBulkAuthItem[] items = new SejongBulkAuthItem[total];
+    Semaphore permits = new Semaphore(parallelism);
+    SejongRateLimiter rateLimiter = new SejongRateLimiter(ratePerSecond);
+    AtomicInteger completed = new AtomicInteger();
+    List<CompletableFuture<Void>> futures = new ArrayList<>(total);
+
+    try {
+      for (int i = 0; i < total; i++) {
+        permits.acquire();
+        rateLimiter.acquire();
+
+        int index = i;
+        SejongCredential credential = credentials.get(i);
+        String studentId = credential != null ? credential.getStudentId() : null;
+        String password = credential != null ? credential.getPassword() : null;
+
+        futures.add(engine.authenticateWithDHCAsync(studentId, password)
+            .handle((result, error) -> {
+              permits.release();
+              SejongBulkAuthItem item = toItem(index, studentId, result, error);
+              items[index] = item;
+              notifyProgress(listener, completed.incrementAndGet(), total, item);
+              return null;
+            }));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new SejongAuthException(SejongAuthErrorCode.CONNECTION_FAILED,
+          "일괄 인증이 중단되었습니다: " + completed.get() + "/" + total);
+    }
+
+    List<SejongBulkAuthItem> itemList = Arrays.asList(items);
+    int successCount = (int) itemList.stream().filter(SejongBulkAuthItem::isSuccess).count();
+
+    SejongBulkAuthResult bulkResult = SejongBulkAuthResult.builder()
+        .items(itemList)
+        .successCount(successCount)
+        .failureCount(total - successCount)
+        .startedAt(startedAt)
+        .completedAt(LocalDateTime.now())
+        .build();
+
+    log.info("세종대학교 일괄 인증 완료: {}", bulkResult);
+    return bulkResult;
+  }
+
+  /**
+   * 항목별 결과 생성
+   */
+  private SejongBulkAuthItem toItem(int index, String studentId, SejongDhcAuthResult result, Throwable error) {
+    if (error == null) {
+      return SejongBulkAuthItem.builder()
+          .index(index)
+          .studentId(studentId)
+          .success(true)
+          .result(result)
+          .build();
+    }
+
+    Throwable cause = error;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    SejongAuthErrorCode errorCode = cause instanceof SejongAuthException
+        ? ((SejongAuthException) cause).getErrorCode()
+        : SejongAuthErrorCode.CONNECTION_FAILED;
+
+    return SejongBulkAuthItem.builder()
+        .index(index)
+        .studentId(studentId)
+        .success(false)
+        .errorCode(errorCode)
+        .errorMessage(cause.getMessage())
+        .build();
+  }
+
+  /**
+   * 진행 상황 알림 (리스너 예외는 무시)
+   */
+  private void notifyProgress(SejongBulkProgressListener listener, int done, int total, SejongBulkAuthItem item) {
+    if (listener == null) {
+      return;
+    }
+    try {
+      listener.onProgress(done, total, item);
+    } catch (Exception e) {
+      log.warn("일괄 인증 진행 리스너 예외 (무시됨): {}", e.getMessage());
+    }
+  }
+}
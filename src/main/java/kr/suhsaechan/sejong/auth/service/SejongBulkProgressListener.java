@@ -0,0 +1,20 @@
+package kr.suhsaechan.sejong.auth.service;
+
+import kr.suhsaechan.sejong.auth.model.SejongBulkAuthItem;
+
+/**
+ * 일괄 인증 진행 상황 리스너
+ * - 항목 하나가 완료될 때마다 호출 (HTTP 응답 스레드에서 호출되므로 가볍게 처리)
+ */
+@FunctionalInterface
+public interface SejongBulkProgressListener {
+
+  /**
+   * 항목 완료 알림
+   *
+   * @param completed 완료된 항목 수
+   * @param total 전체 항목 수
+   * @param item 방금 완료된 항목 결과
+   */
+  void onProgress(int completed, int total, SejongBulkAuthItem item);
+}
@@ -0,0 +1,194 @@
+package kr.suhsaechan.sejong.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동일 인증 요청 병합기 (Single-flight)
+ * - 같은 학번/비밀번호/메서드로 동시에 들어온 요청은 하나의 상류 실행과 결과를 공유
+ * - 키는 학번 + 비밀번호 HMAC-SHA256 (엔진 인스턴스마다 임의 생성한 키 사용, 비밀번호 원문 미보관)
+ * - 비동기 요청은 모든 대기자가 취소한 경우에만 상류 요청을 취소
+ */
+@Slf4j
+class SejongSingleFlight {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  private final Map<String, Flight<?>> flights = new ConcurrentHashMap<>();
+  private final SecretKeySpec keySpec;
+
+  SejongSingleFlight() {
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    this.keySpec = new SecretKeySpec(secret, HMAC_ALGORITHM);
+  }
+
+  /**
+   * 병합 키 생성
+   *
+   * @param operation 엔진 메서드 구분자
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 병합 키 (비밀번호는 HMAC 값으로만 포함)
+   */
+  String key(String operation, String studentId, String password) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(keySpec);
+      byte[] digest = mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+      return operation + ":" + studentId + ":" + Base64.getEncoder().encodeToString(digest);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC-SHA256을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * 동기 실행 (같은 키가 진행 중이면 그 결과를 기다림)
+   *
+   * @param key 병합 키
+   * @param call 실제 인증 수행
+   * @return 인증 결과
+   */
+  <T> T execute(String key, Supplier<T> call) {
+    boolean[] owner = new boolean[1];
+    Flight<T> flight = join(key, owner);
+    if (!owner[0]) {
+      log.debug("진행 중인 동일 인증 요청에 합류: {}", operation(key));
+      return await(flight.shared);
+    }
+
+    try {
+      T result = call.get();
+      complete(key, flight, result, null);
+      return result;
+    } catch (RuntimeException e) {
+      complete(key, flight, null, e);
+      throw e;
+    }
+  }
+
+  /**
+   * 비동기 실행 (같은 키가 진행 중이면 그 Future를 공유)
+   *
+   * @param key 병합 키
+   * @param call 실제 인증 수행
+   * @return 호출자별 Future (취소해도 다른 대기자에게 영향 없음)
+   */
+  <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> call) {
+    boolean[] owner = new boolean[1];
+    Flight<T> flight = join(key, owner);
+
+    if (owner[0]) {
+      try {
+        CompletableFuture<T> upstream = call.get();
+        flight.upstream = upstream;
+        upstream.whenComplete((result, error) -> complete(key, flight, result, error));
+        if (flight.isAbandoned()) {
+          upstream.cancel(true);
+        }
+      } catch (RuntimeException e) {
+        complete(key, flight, null, e);
+      }
+    } else {
+      log.debug("진행 중인 동일 인증 요청에 합류 (비동기): {}", operation(key));
+    }
+
+    CompletableFuture<T> copy = flight.shared.thenApply(Function.identity());
+    copy.whenComplete((result, error) -> {
+      if (copy.isCancelled() && flight.leave()) {
+        flights.remove(key, flight);
+        CompletableFuture<T> upstream = flight.upstream;
+        if (upstream != null) {
+          upstream.cancel(true);
+        }
+      }
+    });
+    return copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Flight<T> join(String key, boolean[] owner) {
+    return (Flight<T>) flights.compute(key, (k, existing) -> {
+      if (existing != null && existing.tryJoin()) {
+        return existing;
+      }
+      owner[0] = true;
+      return new Flight<T>();
+    });
+  }
+
+  private <T> void complete(String key, Flight<T> flight, T result, Throwable error) {
+    flights.remove(key, flight);
+    if (error == null) {
+      flight.shared.complete(result);
+      return;
+    }
+    Throwable cause = error;
+    while (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    flight.shared.completeExceptionally(cause);
+  }
+
+  private <T> T await(CompletableFuture<T> shared) {
+    try {
+      return shared.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 로그용 메서드 구분자 (학번/해시 제외)
+   */
+  private String operation(String key) {
+    int separator = key.indexOf(':');
+    return separator > 0 ? key.substring(0, separator) : key;
+  }
+
+  /**
+   * 진행 중인 단일 실행
+   */
+  private static final class Flight<T> {
+
+    private final CompletableFuture<T> shared = new CompletableFuture<>();
+    private volatile CompletableFuture<T> upstream;
+    private int waiters = 1;
+    private boolean abandoned;
+
+    synchronized boolean tryJoin() {
+      if (abandoned || shared.isDone()) {
+        return false;
+      }
+      waiters++;
+      return true;
+    }
+
+    synchronized boolean leave() {
+      waiters--;
+      if (waiters <= 0 && !shared.isDone()) {
+        abandoned = true;
+        return true;
+      }
+      return false;
+    }
+
+    synchronized boolean isAbandoned() {
+      return abandoned;
+    }
+  }
+}
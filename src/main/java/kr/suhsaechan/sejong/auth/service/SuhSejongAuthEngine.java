@@ -1,24 +1,44 @@
 package kr.suhsaechan.sejong.auth.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import kr.suhsaechan.sejong.auth.client.SejongPortalClient;
+import kr.suhsaechan.sejong.auth.client.SejongPortalSession;
 import kr.suhsaechan.sejong.auth.client.SejongSisClient;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
 import kr.suhsaechan.sejong.auth.model.SejongAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongBulkAuthResult;
 import kr.suhsaechan.sejong.auth.model.SejongClassicReading;
+import kr.suhsaechan.sejong.auth.model.SejongCredential;
 import kr.suhsaechan.sejong.auth.model.SejongDhcAuthResult;
 import kr.suhsaechan.sejong.auth.model.SejongSisAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongSisProfile;
+import kr.suhsaechan.sejong.auth.model.SejongStudentInfo;
+import kr.suhsaechan.sejong.auth.model.SejongVerifyResult;
 import kr.suhsaechan.sejong.auth.parser.SejongClassicReadingParser;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicSectionIndex;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicStatusParser;
 import kr.suhsaechan.sejong.auth.parser.SejongSisParser;
 import kr.suhsaechan.sejong.auth.parser.SejongStudentInfoParser;
 import kr.suhsaechan.sejong.auth.util.CommonUtil;
+import kr.suhsaechan.sejong.auth.util.SejongExecutors;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 세종대학교 인증 서비스
  * - 포털 로그인 및 학생 정보 조회 기능 제공
  * - DHC(대양휴머니티칼리지) 및 SIS(학사정보시스템) 데이터 소스 지원
+ * - 동기 메서드와 CompletableFuture 기반 비동기(*Async) 메서드 제공
+ * - single-flight 설정 시 동시에 들어온 동일 학번/비밀번호 요청은 한 번만 실행하고 결과 공유
  */
 @Slf4j
 public class SuhSejongAuthEngine {
@@ -26,25 +46,82 @@ public class SuhSejongAuthEngine {
   private final SejongPortalClient portalClient;
   private final SejongStudentInfoParser studentInfoParser;
   private final SejongClassicReadingParser classicReadingParser;
+  private final SejongClassicStatusParser classicStatusParser;
   private final SejongSisClient sisClient;
   private final SejongSisParser sisParser;
+  private final SejongAuthProperties properties;
+  private final Executor executor;
+  private final SejongSingleFlight singleFlight = new SejongSingleFlight();
 
+  /**
+   * 기본 설정과 라이브러리 기본 Executor로 생성
+   * - 기본 Executor는 이 생성자로 만든 엔진이 함께 쓰는 전용 데몬 스레드 풀 (executor-threads 기본값 크기)
+   */
   public SuhSejongAuthEngine(
       SejongPortalClient portalClient,
       SejongStudentInfoParser studentInfoParser,
       SejongClassicReadingParser classicReadingParser,
       SejongSisClient sisClient,
       SejongSisParser sisParser) {
+    this(portalClient, studentInfoParser, classicReadingParser, sisClient, sisParser,
+        new SejongAuthProperties(), DefaultExecutorHolder.INSTANCE);
+  }
+
+  /**
+   * @param executor 비동기 작업용 Executor (블로킹 본문 읽기/파싱을 실행하므로 ForkJoinPool.commonPool()이 아닌 전용 풀 사용)
+   */
+  public SuhSejongAuthEngine(
+      SejongPortalClient portalClient,
+      SejongStudentInfoParser studentInfoParser,
+      SejongClassicReadingParser classicReadingParser,
+      SejongSisClient sisClient,
+      SejongSisParser sisParser,
+      SejongAuthProperties properties,
+      Executor executor) {
+    this(portalClient, studentInfoParser, classicReadingParser, new SejongClassicStatusParser(),
+        sisClient, sisParser, properties, executor);
+  }
+
+  /**
+   * @param classicStatusParser 고전독서 페이지 본문 파서 (빠른 파싱 + Jsoup 대체)
+   * @param executor 비동기 작업용 Executor (블로킹 본문 읽기/파싱을 실행하므로 ForkJoinPool.commonPool()이 아닌 전용 풀 사용)
+   */
+  public SuhSejongAuthEngine(
+      SejongPortalClient portalClient,
+      SejongStudentInfoParser studentInfoParser,
+      SejongClassicReadingParser classicReadingParser,
+      SejongClassicStatusParser classicStatusParser,
+      SejongSisClient sisClient,
+      SejongSisParser sisParser,
+      SejongAuthProperties properties,
+      Executor executor) {
     this.portalClient = portalClient;
     this.studentInfoParser = studentInfoParser;
     this.classicReadingParser = classicReadingParser;
+    this.classicStatusParser = classicStatusParser;
     this.sisClient = sisClient;
     this.sisParser = sisParser;
+    this.properties = properties;
+    this.executor = executor;
+  }
+
+  /**
+   * 로그인 직전 연결 준비 힌트
+   * - 로그인 화면에서 사용자가 입력하는 동안 호출하면 인증 요청 시 핸드셰이크 시간 절약
+   * - 짧은 시간 안의 반복 호출은 무시되며, 실패해도 예외 없이 완료
+   *
+   * @return 연결 준비가 끝나면 완료되는 Future
+   */
+  public CompletableFuture<Void> prepare() {
+    return portalClient.prepare();
   }
 
   /**
    * 세종대학교 통합 인증 수행
    * - DHC(고전독서 정보) + SIS(연락처 정보) 모두 조회
+   * - 포털 로그인은 한 번만 수행하고 DHC/SIS SSO가 같은 세션을 공유 (SIS SSO가 되지 않으면 sjpt 전용 로그인 추가, sis-shared-login 설정)
+   * - parallel-fetch 설정 시 DHC/SIS 조회를 병렬로 수행 (SIS는 sis-timeout-seconds까지만 대기)
+   * - 전체 소요 시간은 deadline-seconds 이내로 제한 (초과 시 CONNECTION_TIMEOUT)
    *
    * @param studentId 학번
    * @param password 비밀번호
@@ -53,48 +130,104 @@ public class SuhSejongAuthEngine {
    */
   public SejongAuthResult authenticate(String studentId, String password) {
     validateCredentials(studentId, password);
+    return coalesce("authenticate", studentId, password, () -> fetchAuthResult(studentId, password));
+  }
+
+  /**
+   * 통합 인증 동기 흐름
+   */
+  private SejongAuthResult fetchAuthResult(String studentId, String password) {
     log.info("세종대학교 통합 인증 시작: studentId={}", studentId);
 
-    // 1. DHC에서 정보 가져오기
-    String html = portalClient.authenticateAndFetchHtml(studentId, password);
-    String major = studentInfoParser.parseMajor(html);
-    String parsedStudentId = studentInfoParser.parseStudentId(html);
-    String name = studentInfoParser.parseName(html);
-    String grade = studentInfoParser.parseGrade(html);
-    String status = studentInfoParser.parseStatus(html);
-    SejongClassicReading classicReading = classicReadingParser.parse(html);
-
-    // 2. SIS에서 연락처 정보 가져오기
-    String email = null;
-    String phoneNumber = null;
-    String englishName = null;
+    // 1. 포털 로그인 (DHC/SIS 공용 세션)
+    SejongPortalSession session = portalClient.login(studentId, password);
+
+    // 2~5. 조회가 끝나면 세션의 남은 요청 취소
+    // - 시간 초과/실패로 버린 SIS 조회의 SSO/initUserInfo 요청(sjpt 전용 로그인 포함)도 전송 계층에서 중단됨
+    // - Future.cancel()은 실행 중인 작업을 멈추지 않으므로 세션 취소로 정리
     try {
-      String json = sisClient.authenticateAndFetchJson(studentId, password);
-      email = sisParser.parseEmail(json);
-      phoneNumber = sisParser.parsePhoneNumber(json);
-      englishName = sisParser.parseEnglishName(json);
+      return fetchAuthResult(session, studentId, password);
+    } finally {
+      session.cancel();
+    }
+  }
+
+  /**
+   * 로그인된 세션으로 DHC/SIS 조회 후 통합 인증 결과 생성
+   */
+  private SejongAuthResult fetchAuthResult(SejongPortalSession session, String studentId, String password) {
+    // 2. 병렬 모드: SIS 조회를 먼저 시작하여 DHC 조회와 동시에 진행
+    CompletableFuture<SejongSisProfile> sisFuture = null;
+    if (properties.isParallelFetch()) {
+      sisFuture = CompletableFuture.supplyAsync(
+          () -> sisClient.fetchUserInfoProfile(session, studentId, password, sisParser), executor);
+    }
+
+    // 3. DHC 페이지를 스트림으로 파싱 (실패 시 SIS 조회는 호출부의 세션 취소로 중단)
+    SejongClassicSectionIndex sections = portalClient.fetchClassicStatusSections(session, classicStatusParser);
+
+    // 4. 같은 세션으로 SIS에서 사용자 정보 가져오기 (실패 시 무시)
+    SejongSisProfile profile = null;
+    try {
+      profile = sisFuture != null
+          ? sisFuture.get(sisWaitMillis(session), TimeUnit.MILLISECONDS)
+          : sisClient.fetchUserInfoProfile(session, studentId, password, sisParser);
+    } catch (TimeoutException e) {
+      log.warn("SIS 연락처 정보 조회 시간 초과 (무시됨): {}ms", sisWaitMillis(session));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("SIS 연락처 정보 조회 중단 (무시됨)");
+    } catch (ExecutionException e) {
+      log.warn("SIS 연락처 정보 조회 실패 (무시됨): {}", e.getCause().getMessage());
     } catch (Exception e) {
       log.warn("SIS 연락처 정보 조회 실패 (무시됨): {}", e.getMessage());
       // SIS 실패 시에도 DHC 정보만으로 결과 반환
     }
 
-    // 3. 결과 반환
-    SejongAuthResult result = SejongAuthResult.builder()
-        .success(true)
-        .major(major)
-        .studentId(parsedStudentId)
-        .name(name)
-        .grade(grade)
-        .status(status)
-        .classicReading(classicReading)
-        .email(email)
-        .phoneNumber(phoneNumber)
-        .englishName(englishName)
-        .authenticatedAt(LocalDateTime.now())
-        .build();
+    // 5. 결과 반환
+    return buildAuthResult(studentId, sections, profile);
+  }
 
-    log.info("세종대학교 통합 인증 완료: studentId={}, name={}", studentId, name);
-    return result;
+  /**
+   * 세종대학교 통합 인증 비동기 수행
+   * - DHC/SIS 조회는 항상 병렬로 진행되며, SIS는 DHC 완료 후 sis-timeout-seconds까지만 대기
+   * - 반환된 Future를 취소하면 진행 중인 HTTP 요청도 취소됨
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 통합 인증 결과 (실패 시 SejongAuthException으로 완료)
+   */
+  public CompletableFuture<SejongAuthResult> authenticateAsync(String studentId, String password) {
+    CompletableFuture<SejongAuthResult> invalid = validateCredentialsAsync(studentId, password);
+    if (invalid != null) {
+      return invalid;
+    }
+    return coalesceAsync("authenticate", studentId, password, () -> startAuthResult(studentId, password));
+  }
+
+  /**
+   * 통합 인증 비동기 흐름
+   */
+  private CompletableFuture<SejongAuthResult> startAuthResult(String studentId, String password) {
+    log.info("세종대학교 통합 인증 시작 (비동기): studentId={}", studentId);
+
+    SejongPortalSession session = portalClient.openSession(studentId);
+    CompletableFuture<SejongAuthResult> future = portalClient.loginAsync(session, studentId, password)
+        .thenCompose(loggedIn -> {
+          CompletableFuture<SejongSisProfile> sisFuture =
+              sisClient.fetchUserInfoProfileAsync(loggedIn, studentId, password, sisParser, executor);
+          return portalClient.fetchClassicStatusSectionsAsync(loggedIn, classicStatusParser, executor)
+              .thenCompose(sections -> sisFuture
+                  .completeOnTimeout(null, sisWaitMillis(loggedIn), TimeUnit.MILLISECONDS)
+                  .exceptionally(e -> {
+                    log.warn("SIS 연락처 정보 조회 실패 (무시됨): {}", e.getMessage());
+                    return null;
+                  })
+                  // DHC 조회는 끝났으므로 시간 초과로 버린 SIS 요청(sjpt 전용 로그인 포함)을 전송 계층에서 중단
+                  .whenComplete((profile, error) -> loggedIn.cancel())
+                  .thenApplyAsync(profile -> buildAuthResult(studentId, sections, profile), executor));
+        });
+    return bindSession(future, session);
   }
 
   /**
@@ -109,35 +242,29 @@ public class SuhSejongAuthEngine {
    */
   public SejongDhcAuthResult authenticateWithDHC(String studentId, String password) {
     validateCredentials(studentId, password);
-    log.info("세종대학교 DHC 인증 시작: studentId={}", studentId);
+    return coalesce("dhc", studentId, password, () -> {
+      log.info("세종대학교 DHC 인증 시작: studentId={}", studentId);
 
-    // 1. 포털 로그인 및 HTML 가져오기
-    String html = portalClient.authenticateAndFetchHtml(studentId, password);
+      // 1. 포털 로그인
+      SejongPortalSession session = portalClient.login(studentId, password);
 
-    // 2. 학생 기본정보 파싱
-    String major = studentInfoParser.parseMajor(html);
-    String parsedStudentId = studentInfoParser.parseStudentId(html);
-    String name = studentInfoParser.parseName(html);
-    String grade = studentInfoParser.parseGrade(html);
-    String status = studentInfoParser.parseStatus(html);
+      // 2. 페이지 파싱 (본문을 스트림으로 파싱)
+      SejongClassicSectionIndex sections = portalClient.fetchClassicStatusSections(session, classicStatusParser);
 
-    // 3. 고전독서 정보 파싱
-    SejongClassicReading classicReading = classicReadingParser.parse(html);
-
-    // 4. 결과 반환
-    SejongDhcAuthResult result = SejongDhcAuthResult.builder()
-        .success(true)
-        .major(major)
-        .studentId(parsedStudentId)
-        .name(name)
-        .grade(grade)
-        .status(status)
-        .classicReading(classicReading)
-        .authenticatedAt(LocalDateTime.now())
-        .build();
+      // 3. 결과 반환
+      return buildDhcResult(studentId, sections, null);
+    });
+  }
 
-    log.info("세종대학교 DHC 인증 완료: studentId={}, name={}", studentId, name);
-    return result;
+  /**
+   * 대양휴머니티칼리지(DHC) 인증 비동기 수행
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return DHC 인증 결과 (실패 시 SejongAuthException으로 완료)
+   */
+  public CompletableFuture<SejongDhcAuthResult> authenticateWithDHCAsync(String studentId, String password) {
+    return authenticateWithDHCAsync(studentId, password, false);
   }
 
   /**
@@ -152,37 +279,26 @@ public class SuhSejongAuthEngine {
    */
   public SejongSisAuthResult authenticateWithSIS(String studentId, String password) {
     validateCredentials(studentId, password);
-    log.info("세종대학교 SIS 인증 시작: studentId={}", studentId);
-
-    // 1. SIS 로그인 및 JSON 가져오기
-    String json = sisClient.authenticateAndFetchJson(studentId, password);
+    return coalesce("sis", studentId, password, () -> {
+      log.info("세종대학교 SIS 인증 시작: studentId={}", studentId);
 
-    // 2. 학생 기본정보 파싱
-    String major = sisParser.parseMajor(json);
-    String parsedStudentId = sisParser.parseStudentId(json);
-    String name = sisParser.parseName(json);
+      // 1. SIS 로그인 및 사용자 정보 파싱 (본문 스트림을 한 번만 읽음)
+      SejongSisProfile profile = sisClient.authenticateAndFetchProfile(studentId, password, sisParser);
 
-    // 3. 연락처 정보 파싱
-    String email = sisParser.parseEmail(json);
-    String phoneNumber = sisParser.parsePhoneNumber(json);
-    String englishName = sisParser.parseEnglishName(json);
-
-    // 4. 결과 반환
-    SejongSisAuthResult result = SejongSisAuthResult.builder()
-        .success(true)
-        .major(major)
-        .studentId(parsedStudentId)
-        .name(name)
-        .grade("")  // SIS에서는 제공하지 않음
-        .status("") // SIS에서는 제공하지 않음
-        .email(email)
-        .phoneNumber(phoneNumber)
-        .englishName(englishName)
-        .authenticatedAt(LocalDateTime.now())
-        .build();
+      // 2. 결과 반환
+      return buildSisResult(studentId, profile, null);
+    });
+  }
 
-    log.info("세종대학교 SIS 인증 완료: studentId={}, name={}", studentId, name);
-    return result;
+  /**
+   * 학사정보시스템(SIS) 인증 비동기 수행
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return SIS 인증 결과 (실패 시 SejongAuthException으로 완료)
+   */
+  public CompletableFuture<SejongSisAuthResult> authenticateWithSISAsync(String studentId, String password) {
+    return authenticateWithSISAsync(studentId, password, false);
   }
 
   /**
@@ -196,36 +312,26 @@ public class SuhSejongAuthEngine {
    */
   public SejongDhcAuthResult authenticateWithDHCRaw(String studentId, String password) {
     validateCredentials(studentId, password);
-    log.info("세종대학교 DHC 인증 시작 (원본 HTML 포함): studentId={}", studentId);
-
-    // 1. 포털 로그인 및 HTML 가져오기
-    String html = portalClient.authenticateAndFetchHtml(studentId, password);
-
-    // 2. 학생 기본정보 파싱
-    String major = studentInfoParser.parseMajor(html);
-    String parsedStudentId = studentInfoParser.parseStudentId(html);
-    String name = studentInfoParser.parseName(html);
-    String grade = studentInfoParser.parseGrade(html);
-    String status = studentInfoParser.parseStatus(html);
+    return coalesce("dhcRaw", studentId, password, () -> {
+      log.info("세종대학교 DHC 인증 시작 (원본 HTML 포함): studentId={}", studentId);
 
-    // 3. 고전독서 정보 파싱
-    SejongClassicReading classicReading = classicReadingParser.parse(html);
+      // 1. 포털 로그인 및 HTML 가져오기
+      String html = portalClient.authenticateAndFetchHtml(studentId, password);
 
-    // 4. 결과 반환 (원본 HTML 포함)
-    SejongDhcAuthResult result = SejongDhcAuthResult.builder()
-        .success(true)
-        .major(major)
-        .studentId(parsedStudentId)
-        .name(name)
-        .grade(grade)
-        .status(status)
-        .classicReading(classicReading)
-        .authenticatedAt(LocalDateTime.now())
-        .rawHtml(html)
-        .build();
+      // 2. 파싱 및 결과 반환 (원본 HTML 포함)
+      return buildDhcResult(studentId, toSections(html), html);
+    });
+  }
 
-    log.info("세종대학교 DHC 인증 완료 (원본 HTML 포함): studentId={}, name={}", studentId, name);
-    return result;
+  /**
+   * DHC 인증 비동기 수행 (원본 HTML 포함)
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return DHC 인증 결과 (원본 HTML 포함)
+   */
+  public CompletableFuture<SejongDhcAuthResult> authenticateWithDHCRawAsync(String studentId, String password) {
+    return authenticateWithDHCAsync(studentId, password, true);
   }
 
   /**
@@ -239,40 +345,296 @@ public class SuhSejongAuthEngine {
    */
   public SejongSisAuthResult authenticateWithSISRaw(String studentId, String password) {
     validateCredentials(studentId, password);
-    log.info("세종대학교 SIS 인증 시작 (원본 JSON 포함): studentId={}", studentId);
+    return coalesce("sisRaw", studentId, password, () -> {
+      log.info("세종대학교 SIS 인증 시작 (원본 JSON 포함): studentId={}", studentId);
 
-    // 1. SIS 로그인 및 JSON 가져오기
-    String json = sisClient.authenticateAndFetchJson(studentId, password);
+      // 1. SIS 로그인 및 JSON 가져오기
+      String json = sisClient.authenticateAndFetchJson(studentId, password);
 
-    // 2. 학생 기본정보 파싱
-    String major = sisParser.parseMajor(json);
-    String parsedStudentId = sisParser.parseStudentId(json);
-    String name = sisParser.parseName(json);
+      // 2. 파싱 및 결과 반환 (원본 JSON 포함)
+      return buildSisResult(studentId, sisParser.parseProfile(json), json);
+    });
+  }
 
-    // 3. 연락처 정보 파싱
-    String email = sisParser.parseEmail(json);
-    String phoneNumber = sisParser.parsePhoneNumber(json);
-    String englishName = sisParser.parseEnglishName(json);
+  /**
+   * SIS 인증 비동기 수행 (원본 JSON 포함)
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return SIS 인증 결과 (원본 JSON 포함)
+   */
+  public CompletableFuture<SejongSisAuthResult> authenticateWithSISRawAsync(String studentId, String password) {
+    return authenticateWithSISAsync(studentId, password, true);
+  }
 
-    // 4. 결과 반환 (원본 JSON 포함)
+  /**
+   * 학번/비밀번호 일치 여부만 확인
+   * - 자격 증명이 확인되는 즉시 종료하며 학생 정보 페이지 조회 및 HTML/JSON 파싱을 생략
+   * - 학번 확인 용도로 authenticateWithDHC보다 가볍게 사용 가능
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 확인 결과 (학번 + 인증 시간)
+   * @throws SejongAuthException 인증 실패 시
+   */
+  public SejongVerifyResult verify(String studentId, String password) {
+    validateCredentials(studentId, password);
+    return coalesce("verify", studentId, password, () -> {
+      log.info("세종대학교 인증 확인 시작: studentId={}", studentId);
+      portalClient.verifyCredentials(studentId, password);
+      return buildVerifyResult(studentId);
+    });
+  }
+
+  /**
+   * 학번/비밀번호 일치 여부 비동기 확인
+   *
+   * @param studentId 학번
+   * @param password 비밀번호
+   * @return 확인 결과 (실패 시 SejongAuthException으로 완료)
+   */
+  public CompletableFuture<SejongVerifyResult> verifyAsync(String studentId, String password) {
+    CompletableFuture<SejongVerifyResult> invalid = validateCredentialsAsync(studentId, password);
+    if (invalid != null) {
+      return invalid;
+    }
+    return coalesceAsync("verify", studentId, password, () -> {
+      log.info("세종대학교 인증 확인 시작 (비동기): studentId={}", studentId);
+
+      SejongPortalSession session = portalClient.openSession(studentId);
+      CompletableFuture<SejongVerifyResult> future = portalClient
+          .verifyCredentialsAsync(session, studentId, password)
+          .thenApply(verified -> buildVerifyResult(studentId));
+      return bindSession(future, session);
+    });
+  }
+
+  /**
+   * 일괄 DHC 인증 수행
+   * - bulk.parallelism / bulk.rate-per-second 설정에 따라 동시 실행 수와 시작 속도 제한
+   * - 실패한 항목은 예외 대신 항목별 에러 코드로 기록
+   *
+   * @param credentials 학번/비밀번호 목록
+   * @return 항목별 결과 (입력 순서)
+   */
+  public SejongBulkAuthResult authenticateAll(Collection<SejongCredential> credentials) {
+    return authenticateAll(credentials, null);
+  }
+
+  /**
+   * 일괄 DHC 인증 수행 (진행 상황 알림)
+   *
+   * @param credentials 학번/비밀번호 목록
+   * @param listener 항목 완료 시마다 호출되는 리스너 (null 허용)
+   * @return 항목별 결과 (입력 순서)
+   */
+  public SejongBulkAuthResult authenticateAll(
+      Collection<SejongCredential> credentials, SejongBulkProgressListener listener) {
+    if (credentials == null) {
+      throw new SejongAuthException(SejongAuthErrorCode.INVALID_INPUT, "인증 목록이 비어있습니다.");
+    }
+    SejongAuthProperties.BulkConfig bulk = properties.getBulk();
+    return new SejongBulkAuthRunner(this, bulk.getParallelism(), bulk.getRatePerSecond())
+        .run(new ArrayList<>(credentials), listener);
+  }
+
+  /**
+   * DHC 비동기 인증 공통 흐름
+   * - HTTP 요청은 전송 계층 비동기 호출로, 파싱은 엔진 Executor에서 수행
+   */
+  private CompletableFuture<SejongDhcAuthResult> authenticateWithDHCAsync(
+      String studentId, String password, boolean includeRaw) {
+    CompletableFuture<SejongDhcAuthResult> invalid = validateCredentialsAsync(studentId, password);
+    if (invalid != null) {
+      return invalid;
+    }
+    return coalesceAsync(includeRaw ? "dhcRaw" : "dhc", studentId, password, () -> {
+      log.info("세종대학교 DHC 인증 시작 (비동기{}): studentId={}", includeRaw ? ", 원본 HTML 포함" : "", studentId);
+
+      SejongPortalSession session = portalClient.openSession(studentId);
+      CompletableFuture<SejongPortalSession> loggedIn = portalClient.loginAsync(session, studentId, password);
+      CompletableFuture<SejongDhcAuthResult> future = includeRaw
+          ? loggedIn.thenCompose(portalClient::fetchClassicStatusHtmlAsync)
+              .thenApplyAsync(html -> buildDhcResult(studentId, toSections(html), html), executor)
+          : loggedIn.thenCompose(portalSession ->
+                  portalClient.fetchClassicStatusSectionsAsync(portalSession, classicStatusParser, executor))
+              .thenApply(sections -> buildDhcResult(studentId, sections, null));
+      return bindSession(future, session);
+    });
+  }
+
+  /**
+   * SIS 비동기 인증 공통 흐름
+   */
+  private CompletableFuture<SejongSisAuthResult> authenticateWithSISAsync(
+      String studentId, String password, boolean includeRaw) {
+    CompletableFuture<SejongSisAuthResult> invalid = validateCredentialsAsync(studentId, password);
+    if (invalid != null) {
+      return invalid;
+    }
+    return coalesceAsync(includeRaw ? "sisRaw" : "sis", studentId, password, () -> {
+      log.info("세종대학교 SIS 인증 시작 (비동기{}): studentId={}", includeRaw ? ", 원본 JSON 포함" : "", studentId);
+
+      SejongPortalSession session = sisClient.openSession(studentId);
+      CompletableFuture<SejongSisAuthResult> future = includeRaw
+          ? sisClient.authenticateAndFetchJsonAsync(session, studentId, password)
+              .thenApplyAsync(json -> buildSisResult(studentId, sisParser.parseProfile(json), json), executor)
+          : sisClient.authenticateAndFetchProfileAsync(session, studentId, password, sisParser, executor)
+              .thenApply(profile -> buildSisResult(studentId, profile, null));
+      return bindSession(future, session);
+    });
+  }
+
+  /**
+   * 통합 인증 결과 생성
+   * - profile이 null이면 (SIS 조회/파싱 실패) 연락처 정보 없이 반환
+   */
+  private SejongAuthResult buildAuthResult(String studentId, SejongClassicSectionIndex sections,
+      SejongSisProfile profile) {
+    // 1. DHC 정보 파싱 (페이지 1회 파싱, 섹션 색인 공유)
+    SejongStudentInfo studentInfo = studentInfoParser.parse(sections);
+    SejongClassicReading classicReading = classicReadingParser.parse(sections);
+
+    // 2. 결과 반환 (SIS 연락처 정보는 조회 시 이미 파싱됨)
+    SejongAuthResult result = SejongAuthResult.builder()
+        .success(true)
+        .major(studentInfo.getMajor())
+        .studentId(studentInfo.getStudentId())
+        .name(studentInfo.getName())
+        .grade(studentInfo.getGrade())
+        .status(studentInfo.getStatus())
+        .classicReading(classicReading)
+        .email(profile != null ? profile.getEmail() : null)
+        .phoneNumber(profile != null ? profile.getPhoneNumber() : null)
+        .englishName(profile != null ? profile.getEnglishName() : null)
+        .authenticatedAt(LocalDateTime.now())
+        .build();
+
+    log.info("세종대학교 통합 인증 완료: studentId={}, name={}", studentId, studentInfo.getName());
+    return result;
+  }
+
+  /**
+   * DHC 인증 결과 생성
+   *
+   * @param rawHtml 결과에 포함할 원본 HTML (null이면 미포함)
+   */
+  private SejongDhcAuthResult buildDhcResult(String studentId, SejongClassicSectionIndex sections, String rawHtml) {
+    boolean includeRaw = rawHtml != null;
+
+    // 1. 학생 기본정보 파싱
+    SejongStudentInfo studentInfo = studentInfoParser.parse(sections);
+
+    // 2. 고전독서 정보 파싱 (같은 섹션 색인 재사용)
+    SejongClassicReading classicReading = classicReadingParser.parse(sections);
+
+    // 3. 결과 반환
+    SejongDhcAuthResult result = SejongDhcAuthResult.builder()
+        .success(true)
+        .major(studentInfo.getMajor())
+        .studentId(studentInfo.getStudentId())
+        .name(studentInfo.getName())
+        .grade(studentInfo.getGrade())
+        .status(studentInfo.getStatus())
+        .classicReading(classicReading)
+        .authenticatedAt(LocalDateTime.now())
+        .rawHtml(rawHtml)
+        .build();
+
+    log.info("세종대학교 DHC 인증 완료{}: studentId={}, name={}",
+        includeRaw ? " (원본 HTML 포함)" : "", studentId, studentInfo.getName());
+    return result;
+  }
+
+  /**
+   * SIS 인증 결과 생성
+   *
+   * @param rawJson 결과에 포함할 원본 JSON (null이면 미포함)
+   */
+  private SejongSisAuthResult buildSisResult(String studentId, SejongSisProfile profile, String rawJson) {
+    boolean includeRaw = rawJson != null;
+
+    // 1. 결과 반환 (학생 기본정보/연락처 정보는 SejongSisProfile에 한 번에 파싱됨)
     SejongSisAuthResult result = SejongSisAuthResult.builder()
         .success(true)
-        .major(major)
-        .studentId(parsedStudentId)
-        .name(name)
+        .major(profile.getMajor())
+        .studentId(profile.getStudentId())
+        .name(profile.getName())
         .grade("")  // SIS에서는 제공하지 않음
         .status("") // SIS에서는 제공하지 않음
-        .email(email)
-        .phoneNumber(phoneNumber)
-        .englishName(englishName)
+        .email(profile.getEmail())
+        .phoneNumber(profile.getPhoneNumber())
+        .englishName(profile.getEnglishName())
         .authenticatedAt(LocalDateTime.now())
-        .rawJson(json)
+        .rawJson(rawJson)
         .build();
 
-    log.info("세종대학교 SIS 인증 완료 (원본 JSON 포함): studentId={}, name={}", studentId, name);
+    log.info("세종대학교 SIS 인증 완료{}: studentId={}, name={}",
+        includeRaw ? " (원본 JSON 포함)" : "", studentId, profile.getName());
     return result;
   }
 
+  /**
+   * 원본 HTML을 섹션 색인으로 변환 (원본 포함 응답용)
+   */
+  private SejongClassicSectionIndex toSections(String html) {
+    return classicStatusParser.parse(html, properties.getClassicStatusUrl());
+  }
+
+  /**
+   * 인증 확인 결과 생성
+   */
+  private SejongVerifyResult buildVerifyResult(String studentId) {
+    log.info("세종대학교 인증 확인 완료: studentId={}", studentId);
+    return SejongVerifyResult.builder()
+        .success(true)
+        .studentId(studentId)
+        .authenticatedAt(LocalDateTime.now())
+        .build();
+  }
+
+  /**
+   * SIS 결과 최대 대기 시간 (밀리초)
+   * - sis-timeout-seconds와 세션의 남은 제한 시간 중 짧은 값
+   */
+  private long sisWaitMillis(SejongPortalSession session) {
+    long sisTimeoutMillis = TimeUnit.SECONDS.toMillis(properties.getSisTimeoutSeconds());
+    return Math.min(sisTimeoutMillis, session.getDeadline().remainingMillis());
+  }
+
+  /**
+   * 비동기 작업 완료(성공/실패/취소) 시 세션의 남은 요청 정리
+   * - 호출자가 Future를 취소하면 진행 중인 HTTP 요청도 함께 취소됨
+   */
+  private <T> CompletableFuture<T> bindSession(CompletableFuture<T> future, SejongPortalSession session) {
+    future.whenComplete((result, error) -> session.cancel());
+    return future;
+  }
+
+  /**
+   * 동일 요청 병합 실행 (single-flight 비활성화 시 바로 실행)
+   *
+   * @param operation 메서드 구분자 (동기/비동기 버전이 같은 값을 사용하여 결과 공유)
+   */
+  private <T> T coalesce(String operation, String studentId, String password, Supplier<T> call) {
+    if (!properties.isSingleFlight()) {
+      return call.get();
+    }
+    return singleFlight.execute(singleFlight.key(operation, studentId, password), call);
+  }
+
+  /**
+   * 동일 요청 병합 비동기 실행
+   * - 병합된 호출자 중 일부가 취소해도 나머지가 기다리는 동안 상류 요청은 유지됨
+   */
+  private <T> CompletableFuture<T> coalesceAsync(
+      String operation, String studentId, String password, Supplier<CompletableFuture<T>> call) {
+    if (!properties.isSingleFlight()) {
+      return call.get();
+    }
+    return singleFlight.executeAsync(singleFlight.key(operation, studentId, password), call);
+  }
+
   /**
    * 입력값 검증
    *
@@ -288,4 +650,30 @@ public class SuhSejongAuthEngine {
       throw new SejongAuthException(SejongAuthErrorCode.INVALID_INPUT, "비밀번호가 비어있습니다.");
     }
   }
+
+  /**
+   * 비동기 메서드용 입력값 검증
+   *
+   * @return 유효하지 않으면 실패한 Future, 유효하면 null
+   */
+  private <T> CompletableFuture<T> validateCredentialsAsync(String studentId, String password) {
+    try {
+      validateCredentials(studentId, password);
+      return null;
+    } catch (SejongAuthException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * 라이브러리 기본 Executor 지연 생성 (데몬 스레드이므로 별도 종료 불필요)
+   */
+  private static final class DefaultExecutorHolder {
+    private static final Executor INSTANCE = createDefaultExecutor();
+
+    private static Executor createDefaultExecutor() {
+      SejongAuthProperties defaults = new SejongAuthProperties();
+      return SejongExecutors.newExecutor("sejong-auth-", defaults.getExecutorThreads(), defaults.isVirtualThreads());
+    }
+  }
 }
@@ -0,0 +1,22 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.IOException;
+
+/**
+ * 응답 본문이 요청에 지정된 최대 크기를 초과한 경우 발생
+ * - 본문을 읽는 도중(해제 후 바이트 기준) 초과 시점에 즉시 발생하여 그 이상 메모리를 사용하지 않음
+ */
+public class SejongBodyTooLargeException extends IOException {
+
+  private final long maxBytes;
+
+  public SejongBodyTooLargeException(long maxBytes) {
+    super("응답 본문 최대 크기 초과: " + maxBytes + " bytes");
+    this.maxBytes = maxBytes;
+  }
+
+  /** 허용된 최대 본문 크기 (바이트) */
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+}
@@ -0,0 +1,179 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import kr.suhsaechan.sejong.auth.metrics.SejongHostTraffic;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content-Encoding(gzip, deflate) 스트리밍 해제 입력 스트림
+ * - 본문 전체를 메모리에 모으지 않고 읽는 만큼만 해제
+ * - 첫 읽기 시점에 해제 스트림 생성 (빈 본문이면 해제하지 않음)
+ * - 전송 바이트와 해제 바이트를 호스트별 지표에 기록
+ * - 최대 크기가 지정되면 해제 후 바이트가 초과하는 즉시 SejongBodyTooLargeException 발생
+ */
+@Slf4j
+final class SejongDecodingInputStream extends InputStream {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final InputStream wire;
+  private final String contentEncoding;
+  private final SejongHostTraffic traffic;
+  private final long maxBytes;
+  private long decodedBytes;
+  private InputStream decoded;
+  private Inflater inflater;
+
+  SejongDecodingInputStream(InputStream raw, String contentEncoding, SejongHostTraffic traffic) {
+    this(raw, contentEncoding, traffic, 0);
+  }
+
+  /**
+   * @param maxBytes 해제 후 최대 바이트 수 (0 이하이면 제한 없음)
+   */
+  SejongDecodingInputStream(InputStream raw, String contentEncoding, SejongHostTraffic traffic, long maxBytes) {
+    this.wire = new WireCountingInputStream(raw, traffic);
+    this.contentEncoding = contentEncoding;
+    this.traffic = traffic;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * 요청에 붙일 Accept-Encoding 값
+   * - 압축 비활성화 시 identity로 명시하여 전송 계층의 자동 압축 요청도 막음
+   */
+  static String acceptEncoding(boolean compression) {
+    return compression ? "gzip, deflate" : "identity";
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = decoded().read();
+    if (b >= 0) {
+      recordDecoded(1);
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) throws IOException {
+    int read = decoded().read(buffer, offset, length);
+    if (read > 0) {
+      recordDecoded(read);
+    }
+    return read;
+  }
+
+  @Override
+  public int available() throws IOException {
+    return decoded != null ? decoded.available() : 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      (decoded != null ? decoded : wire).close();
+    } finally {
+      if (inflater != null) {
+        inflater.end();
+      }
+    }
+  }
+
+  private void recordDecoded(int bytes) throws SejongBodyTooLargeException {
+    traffic.recordDecodedBytes(bytes);
+    decodedBytes += bytes;
+    if (maxBytes > 0 && decodedBytes > maxBytes) {
+      throw new SejongBodyTooLargeException(maxBytes);
+    }
+  }
+
+  private InputStream decoded() throws IOException {
+    if (decoded == null) {
+      decoded = open();
+    }
+    return decoded;
+  }
+
+  /**
+   * Content-Encoding에 맞는 해제 스트림 생성
+   * - deflate는 zlib 헤더 유무를 확인하여 raw deflate 응답도 처리
+   */
+  private InputStream open() throws IOException {
+    String encoding = contentEncoding != null ? contentEncoding.trim().toLowerCase(Locale.ROOT) : "";
+    if (encoding.isEmpty() || "identity".equals(encoding)) {
+      return wire;
+    }
+
+    PushbackInputStream in = new PushbackInputStream(wire, 2);
+    int first = in.read();
+    if (first < 0) {
+      return in;
+    }
+    int second = in.read();
+    if (second >= 0) {
+      in.unread(second);
+    }
+    in.unread(first);
+
+    switch (encoding) {
+      case "gzip":
+      case "x-gzip":
+        return new GZIPInputStream(in, BUFFER_SIZE);
+      case "deflate":
+        boolean zlib = second >= 0 && (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0;
+        inflater = new Inflater(!zlib);
+        return new InflaterInputStream(in, inflater, BUFFER_SIZE);
+      default:
+        log.debug("지원하지 않는 Content-Encoding (원본 그대로 사용): {}", contentEncoding);
+        return in;
+    }
+  }
+
+  /**
+   * 네트워크에서 읽은 본문 바이트 집계
+   */
+  private static final class WireCountingInputStream extends FilterInputStream {
+
+    private final SejongHostTraffic traffic;
+
+    private WireCountingInputStream(InputStream in, SejongHostTraffic traffic) {
+      super(in);
+      this.traffic = traffic;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = in.read();
+      if (b >= 0) {
+        traffic.recordWireBytes(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = in.read(buffer, offset, length);
+      if (read > 0) {
+        traffic.recordWireBytes(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = in.skip(n);
+      if (skipped > 0) {
+        traffic.recordWireBytes(skipped);
+      }
+      return skipped;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.util.SejongExecutors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호스트 주소 캐시 (DNS)
+ * - 조회 결과를 ttl-seconds 동안 보관하여 로그인마다 시스템 리졸버를 거치지 않음
+ * - 만료 refresh-ahead-seconds 전부터는 캐시 값을 바로 반환하고 백그라운드에서 갱신
+ * - 조회 실패 시 stale-seconds 이내의 마지막 정상 주소로 대체
+ * - 조회 지연 시간, 적중/실패 수를 SejongAuthMetrics에 기록
+ */
+@Slf4j
+public class SejongDnsCache implements AutoCloseable {
+
+  /** 갱신/조회 실패 후 다시 시도하기까지의 최소 간격 */
+  private static final long RETRY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  /**
+   * 실제 주소 조회 함수
+   */
+  @FunctionalInterface
+  public interface Resolver {
+    List<InetAddress> resolve(String host) throws UnknownHostException;
+  }
+
+  private final Resolver resolver;
+  private final long ttlNanos;
+  private final long refreshAheadNanos;
+  private final long staleNanos;
+  private final SejongAuthMetrics metrics;
+  private final Executor refreshExecutor;
+  private final ExecutorService ownedExecutor;
+  private final LongSupplier clock;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  public SejongDnsCache(SejongAuthProperties.DnsConfig config, SejongAuthMetrics metrics) {
+    this(host -> List.of(InetAddress.getAllByName(host)), config, metrics,
+        SejongExecutors.newExecutor("sejong-dns-", 1), System::nanoTime);
+  }
+
+  SejongDnsCache(Resolver resolver, SejongAuthProperties.DnsConfig config, SejongAuthMetrics metrics,
+      Executor refreshExecutor, LongSupplier clock) {
+    this.resolver = resolver;
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, config.getTtlSeconds()));
+    this.refreshAheadNanos = Math.min(ttlNanos, TimeUnit.SECONDS.toNanos(Math.max(0, config.getRefreshAheadSeconds())));
+    this.staleNanos = TimeUnit.SECONDS.toNanos(Math.max(0, config.getStaleSeconds()));
+    this.metrics = metrics;
+    this.refreshExecutor = refreshExecutor;
+    this.ownedExecutor = refreshExecutor instanceof ExecutorService ? (ExecutorService) refreshExecutor : null;
+    this.clock = clock;
+  }
+
+  /**
+   * 호스트 주소 조회
+   *
+   * @param host 호스트 이름
+   * @return 주소 목록 (비어있지 않음)
+   * @throws UnknownHostException 조회에 실패하고 사용할 수 있는 이전 주소도 없는 경우
+   */
+  public List<InetAddress> lookup(String host) throws UnknownHostException {
+    long now = clock.getAsLong();
+    Entry entry = entries.get(host);
+    if (entry != null && now - entry.expiresAt < 0) {
+      metrics.recordDnsHit();
+      if (now - entry.refreshAt >= 0) {
+        refreshInBackground(host, entry, now);
+      }
+      return entry.addresses;
+    }
+
+    metrics.recordDnsMiss();
+    try {
+      return resolve(host).addresses;
+    } catch (UnknownHostException e) {
+      if (entry != null && now - entry.resolvedAt < staleNanos) {
+        metrics.recordDnsStaleFallback();
+        log.warn("DNS 조회 실패, 마지막 정상 주소 사용: host={}, {}", host, e.getMessage());
+        entries.put(host, entry.extendTo(now + RETRY_INTERVAL_NANOS));
+        return entry.addresses;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 백그라운드 갱신 스레드 종료
+   */
+  @Override
+  public void close() {
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdownNow();
+    }
+  }
+
+  private Entry resolve(String host) throws UnknownHostException {
+    long startNanos = System.nanoTime();
+    try {
+      List<InetAddress> addresses = resolver.resolve(host);
+      if (addresses == null || addresses.isEmpty()) {
+        throw new UnknownHostException(host);
+      }
+      long now = clock.getAsLong();
+      Entry entry = new Entry(List.copyOf(addresses), now, now + ttlNanos - refreshAheadNanos, now + ttlNanos);
+      entries.put(host, entry);
+      return entry;
+    } finally {
+      metrics.recordDnsResolution(System.nanoTime() - startNanos);
+    }
+  }
+
+  /**
+   * 호스트당 하나의 갱신 작업만 실행 (실패 시 캐시 값 유지, RETRY_INTERVAL 후 재시도)
+   */
+  private void refreshInBackground(String host, Entry entry, long now) {
+    if (!entry.refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          resolve(host);
+          log.debug("DNS 백그라운드 갱신 완료: host={}", host);
+        } catch (UnknownHostException e) {
+          log.debug("DNS 백그라운드 갱신 실패 (캐시 유지): host={}, {}", host, e.getMessage());
+          entry.refreshAt = now + RETRY_INTERVAL_NANOS;
+        } finally {
+          entry.refreshing.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      entry.refreshing.set(false);
+    }
+  }
+
+  /**
+   * 캐시 항목 (시각은 clock 기준 나노초)
+   */
+  private static final class Entry {
+
+    private final List<InetAddress> addresses;
+    private final long resolvedAt;
+    private final long expiresAt;
+    private volatile long refreshAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private Entry(List<InetAddress> addresses, long resolvedAt, long refreshAt, long expiresAt) {
+      this.addresses = addresses;
+      this.resolvedAt = resolvedAt;
+      this.refreshAt = refreshAt;
+      this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 같은 주소로 만료 시각만 연장 (조회 실패 시 대체용, 정상 조회 시각은 유지)
+     */
+    private Entry extendTo(long expiresAt) {
+      return new Entry(addresses, resolvedAt, expiresAt, expiresAt);
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 전송 계층 독립 HTTP 요청
+ * - 포털/SIS 클라이언트가 생성하고 SejongHttpTransport 구현체가 실제 요청으로 변환
+ */
+public final class SejongHttpRequest {
+
+  private final String method;
+  private final String url;
+  private final Map<String, String> headers;
+  private final byte[] body;
+  private final String contentType;
+  private final long maxBodyBytes;
+  private final boolean oneShot;
+
+  private SejongHttpRequest(Builder builder) {
+    this.method = builder.method;
+    this.url = builder.url;
+    this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(builder.headers));
+    this.body = builder.body;
+    this.contentType = builder.contentType;
+    this.maxBodyBytes = builder.maxBodyBytes;
+    this.oneShot = builder.oneShot;
+  }
+
+  /**
+   * GET 요청 빌더
+   */
+  public static Builder get(String url) {
+    return new Builder("GET", url);
+  }
+
+  /**
+   * POST 요청 빌더
+   */
+  public static Builder post(String url) {
+    return new Builder("POST", url);
+  }
+
+  /**
+   * HEAD 요청 빌더
+   */
+  public static Builder head(String url) {
+    return new Builder("HEAD", url);
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  /** 요청 헤더 (이름 → 값, 입력 순서 유지) */
+  public Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  /** 요청 본문 (없으면 null) */
+  public byte[] getBody() {
+    return body;
+  }
+
+  /** 요청 본문 Content-Type (없으면 null) */
+  public String getContentType() {
+    return contentType;
+  }
+
+  /** 응답 본문 최대 크기 (바이트, 0 이하이면 제한 없음) */
+  public long getMaxBodyBytes() {
+    return maxBodyBytes;
+  }
+
+  /** 서버에 한 번만 전달되어야 하는 요청 여부 (헤징 제외, 연결 단계 실패만 재시도) */
+  public boolean isOneShot() {
+    return oneShot;
+  }
+
+  /**
+   * 로그/에러 메시지용 경로
+   */
+  public String getPath() {
+    try {
+      String path = URI.create(url).getRawPath();
+      return path != null ? path : url;
+    } catch (IllegalArgumentException e) {
+      return url;
+    }
+  }
+
+  /**
+   * SejongHttpRequest 빌더
+   */
+  public static final class Builder {
+
+    private final String method;
+    private final String url;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private final StringBuilder form = new StringBuilder();
+    private byte[] body;
+    private String contentType;
+    private long maxBodyBytes;
+    private boolean oneShot;
+
+    private Builder(String method, String url) {
+      this.method = method;
+      this.url = url;
+    }
+
+    /**
+     * 헤더 설정 (같은 이름이 있으면 대체)
+     */
+    public Builder header(String name, String value) {
+      headers.put(name, value);
+      return this;
+    }
+
+    /**
+     * application/x-www-form-urlencoded 본문 항목 추가
+     */
+    public Builder formField(String name, String value) {
+      if (form.length() > 0) {
+        form.append('&');
+      }
+      form.append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+          .append('=')
+          .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+      this.body = form.toString().getBytes(StandardCharsets.UTF_8);
+      this.contentType = "application/x-www-form-urlencoded";
+      return this;
+    }
+
+    /**
+     * 문자열 본문 설정 (UTF-8)
+     */
+    public Builder body(String content, String contentType) {
+      this.body = content.getBytes(StandardCharsets.UTF_8);
+      this.contentType = contentType;
+      return this;
+    }
+
+    /**
+     * 응답 본문 최대 크기 설정 (압축 해제 후 기준)
+     * - 초과하면 본문을 읽는 도중 SejongBodyTooLargeException 발생
+     *
+     * @param maxBodyBytes 최대 바이트 수 (0 이하이면 제한 없음)
+     */
+    public Builder maxBodyBytes(long maxBodyBytes) {
+      this.maxBodyBytes = maxBodyBytes;
+      return this;
+    }
+
+    /**
+     * 한 번만 전송해야 하는 요청으로 지정
+     * - SSO 토큰 교환처럼 서버에 두 번 도달하면 안 되는 GET 요청에 사용
+     * - 헤징하지 않고, 요청이 서버에 전달되지 않은 연결 단계 실패만 재시도
+     */
+    public Builder oneShot() {
+      this.oneShot = true;
+      return this;
+    }
+
+    public SejongHttpRequest build() {
+      return new SejongHttpRequest(this);
+    }
+  }
+}
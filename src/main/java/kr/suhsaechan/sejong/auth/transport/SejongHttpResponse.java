@@ -0,0 +1,90 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 전송 계층 독립 HTTP 응답
+ * - 리다이렉트를 모두 따라간 뒤의 최종 응답
+ * - 본문은 스트림으로 제공되며, 사용 후 반드시 close()
+ */
+public interface SejongHttpResponse extends Closeable {
+
+  /** 응답 코드 */
+  int code();
+
+  /** 리다이렉트 이후 최종 요청 URL */
+  String finalUrl();
+
+  /**
+   * 응답 헤더 값
+   *
+   * @param name 헤더 이름 (대소문자 무시)
+   * @return 첫 번째 값, 없으면 null
+   */
+  String header(String name);
+
+  /**
+   * 응답 본문 스트림 (한 번만 읽을 수 있음)
+   *
+   * @return 본문이 없으면 빈 스트림
+   */
+  InputStream body();
+
+  /**
+   * 2xx 응답 여부
+   */
+  default boolean isSuccessful() {
+    return code() >= 200 && code() < 300;
+  }
+
+  /**
+   * Content-Type의 charset (없으면 UTF-8)
+   */
+  default Charset charset() {
+    Charset declared = declaredCharset();
+    return declared != null ? declared : StandardCharsets.UTF_8;
+  }
+
+  /**
+   * Content-Type에 명시된 charset
+   *
+   * @return 명시되지 않았거나 알 수 없는 charset이면 null
+   */
+  default Charset declaredCharset() {
+    String contentType = header("Content-Type");
+    if (contentType == null) {
+      return null;
+    }
+    for (String part : contentType.split(";")) {
+      String trimmed = part.trim();
+      if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+        try {
+          return Charset.forName(trimmed.substring("charset=".length()).replace("\"", "").trim());
+        } catch (IllegalArgumentException e) {
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 응답 본문 전체를 문자열로 읽기
+   */
+  default String bodyString() throws IOException {
+    try (InputStream in = body()) {
+      return new String(in.readAllBytes(), charset());
+    }
+  }
+
+  /**
+   * 응답 자원 해제 (예외 없음)
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,37 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP 전송 계층 SPI
+ * - 포털/SIS 클라이언트는 이 인터페이스만 사용하며, 구현체는 엔진 전체에서 하나를 공유
+ * - 기본 구현: SejongOkHttpTransport (OkHttp), SejongJdkHttpTransport (java.net.http.HttpClient)
+ * - 테스트에서는 임의 구현체를 주입하여 네트워크 없이 클라이언트 검증 가능
+ */
+public interface SejongHttpTransport extends AutoCloseable {
+
+  /**
+   * 로그인 1회용 세션 생성 (빈 쿠키 저장소)
+   */
+  SejongTransportSession newSession();
+
+  /**
+   * 세종 호스트(portal/classic/sjpt)에 미리 연결
+   *
+   * @return 연결 시도가 끝나면 완료되는 Future (실패해도 정상 완료)
+   */
+  CompletableFuture<Void> prewarm();
+
+  /**
+   * 로그인 직전 연결 준비 힌트 (짧은 시간 안의 반복 호출은 무시)
+   *
+   * @return 연결 시도가 끝나면 완료되는 Future (실패해도 정상 완료)
+   */
+  CompletableFuture<Void> prepare();
+
+  /**
+   * 스레드 및 유휴 연결 정리
+   */
+  @Override
+  void close();
+}
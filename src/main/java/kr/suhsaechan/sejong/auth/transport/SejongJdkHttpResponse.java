@@ -0,0 +1,142 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import kr.suhsaechan.sejong.auth.metrics.SejongHostTraffic;
+
+/**
+ * JDK HttpClient 응답 래퍼
+ * - JDK HttpClient는 압축 해제를 지원하지 않으므로 Content-Encoding에 따라 직접 스트리밍 해제
+ * - 요청 제한 시간이 지나거나 세션이 취소되면 원본 스트림을 닫아 본문 읽기 중단 (닫으면 타이머 취소)
+ */
+final class SejongJdkHttpResponse implements SejongHttpResponse {
+
+  private final HttpResponse<InputStream> response;
+  private final AbortableInputStream wire;
+  private final InputStream body;
+  private final ScheduledFuture<?> deadline;
+  private final Consumer<SejongJdkHttpResponse> onClose;
+
+  /**
+   * @param deadline 요청 제한 시간 타이머 (제한 없으면 null)
+   * @param onClose 응답을 닫은 뒤 실행할 작업 (세션의 응답 추적 해제)
+   */
+  SejongJdkHttpResponse(HttpResponse<InputStream> response, SejongHostTraffic traffic, long maxBodyBytes,
+      ScheduledFuture<?> deadline, Consumer<SejongJdkHttpResponse> onClose) {
+    this.response = response;
+    this.wire = new AbortableInputStream(response.body());
+    this.body = new SejongDecodingInputStream(wire, header("Content-Encoding"), traffic, maxBodyBytes);
+    this.deadline = deadline;
+    this.onClose = onClose;
+    traffic.recordResponse(response.version() == HttpClient.Version.HTTP_2);
+  }
+
+  @Override
+  public int code() {
+    return response.statusCode();
+  }
+
+  @Override
+  public String finalUrl() {
+    return response.uri().toString();
+  }
+
+  @Override
+  public String header(String name) {
+    return response.headers().firstValue(name).orElse(null);
+  }
+
+  @Override
+  public InputStream body() {
+    return body;
+  }
+
+  @Override
+  public void close() {
+    if (deadline != null) {
+      deadline.cancel(false);
+    }
+    try {
+      body.close();
+    } catch (IOException ignored) {
+      // 이미 닫힌 스트림
+    } finally {
+      onClose.accept(this);
+    }
+  }
+
+  /**
+   * 제한 시간 만료 시 본문 읽기 중단
+   * - 해제 스트림(Inflater)은 읽는 스레드가 close()로 정리하도록 원본 스트림만 닫음
+   */
+  void expire() {
+    wire.abort(true);
+  }
+
+  /**
+   * 세션 취소 시 본문 읽기 중단
+   */
+  void cancel() {
+    wire.abort(false);
+  }
+
+  /**
+   * 중단 후 읽기 실패를 원인에 맞는 예외로 알리는 원본 스트림
+   * - 제한 시간 만료는 HttpTimeoutException, 취소는 OkHttp와 같은 "Canceled" IOException
+   */
+  private static final class AbortableInputStream extends FilterInputStream {
+
+    private volatile boolean expired;
+    private volatile boolean cancelled;
+
+    private AbortableInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      try {
+        return super.read();
+      } catch (IOException e) {
+        throw translate(e);
+      }
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      try {
+        return super.read(buffer, offset, length);
+      } catch (IOException e) {
+        throw translate(e);
+      }
+    }
+
+    private void abort(boolean timedOut) {
+      if (timedOut) {
+        expired = true;
+      } else {
+        cancelled = true;
+      }
+      try {
+        in.close();
+      } catch (IOException ignored) {
+        // 이미 닫힌 스트림
+      }
+    }
+
+    private IOException translate(IOException e) {
+      if (expired) {
+        HttpTimeoutException timeout = new HttpTimeoutException("응답 본문 제한 시간 초과");
+        timeout.initCause(e);
+        return timeout;
+      }
+      return cancelled ? new IOException("Canceled", e) : e;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * java.net.http.HttpClient 기반 전송 구현체 (논블로킹)
+ * - 하나의 HttpClient(연결 풀, SSLContext)를 모든 로그인이 공유
+ * - 쿠키는 세션별 CookieManager로 직접 관리하고, 리다이렉트도 직접 따라가며 쿠키 반영
+ * - 연결 풀 크기는 JDK 시스템 프로퍼티(jdk.httpclient.connectionPoolSize 등)를 따름
+ * - HTTP/2 우선 사용, gzip/deflate 응답은 직접 스트리밍 해제
+ * - 리졸버를 교체할 API가 없어 SejongDnsCache는 적용되지 않음 (JVM DNS 캐시 networkaddress.cache.ttl을 따름)
+ */
+@Slf4j
+public class SejongJdkHttpTransport implements SejongHttpTransport {
+
+  private final HttpClient client;
+  private final SejongAuthMetrics metrics;
+  private final SejongRedirectTracker redirectTracker;
+  private final SejongWarmup warmup;
+  private final Duration requestTimeout;
+  private final String acceptEncoding;
+
+  public SejongJdkHttpTransport(SejongAuthProperties properties) {
+    this(properties, new SejongAuthMetrics(), null);
+  }
+
+  /**
+   * @param properties 인증 설정
+   * @param metrics 엔진 지표
+   * @param executor 응답 처리용 Executor (null이면 HttpClient 기본 Executor)
+   */
+  public SejongJdkHttpTransport(SejongAuthProperties properties, SejongAuthMetrics metrics, Executor executor) {
+    this.metrics = metrics;
+    this.redirectTracker = new SejongRedirectTracker(metrics);
+    this.requestTimeout = Duration.ofSeconds(properties.getTimeoutSeconds());
+    this.client = buildClient(properties, executor);
+    this.warmup = new SejongWarmup(properties);
+    this.acceptEncoding = SejongDecodingInputStream.acceptEncoding(properties.isCompression());
+  }
+
+  @Override
+  public SejongTransportSession newSession() {
+    metrics.recordSession();
+    return new SejongJdkHttpTransportSession(client, redirectTracker, requestTimeout, metrics, acceptEncoding);
+  }
+
+  /**
+   * 세종 호스트에 미리 연결 (TCP + TLS 핸드셰이크)
+   */
+  @Override
+  public CompletableFuture<Void> prewarm() {
+    List<CompletableFuture<Void>> calls = new ArrayList<>();
+    for (String url : warmup.urls()) {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+          .method("HEAD", HttpRequest.BodyPublishers.noBody())
+          .timeout(requestTimeout)
+          .build();
+      calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .handle((response, error) -> {
+            if (error != null) {
+              log.debug("연결 미리 맺기 실패 (무시됨): url={}, {}", url, error.getMessage());
+            } else {
+              log.debug("연결 미리 맺기 완료: url={}, 응답코드={}", url, response.statusCode());
+            }
+            return null;
+          }));
+    }
+    return CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]));
+  }
+
+  @Override
+  public CompletableFuture<Void> prepare() {
+    return warmup.prepare(this::prewarm);
+  }
+
+  /**
+   * HttpClient는 별도 종료 API가 없으므로(Java 21 미만) 참조 해제에 맡김
+   */
+  @Override
+  public void close() {
+    log.debug("세종 인증 HTTP 클라이언트 종료 (JDK)");
+  }
+
+  /**
+   * 공용 HttpClient 생성
+   * - 리다이렉트는 세션에서 직접 처리 (쿠키 반영 및 홉 집계)
+   */
+  private HttpClient buildClient(SejongAuthProperties properties, Executor executor) {
+    try {
+      HttpClient.Builder builder = HttpClient.newBuilder()
+          .connectTimeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
+          .followRedirects(HttpClient.Redirect.NEVER)
+          .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+          .sslContext(SejongSslContexts.sslContext(properties, SejongSslContexts.trustManager(properties)));
+      if (executor != null) {
+        builder.executor(executor);
+      }
+      if (!properties.isSslVerification()) {
+        log.debug("SSL 검증 비활성화됨 (JDK)");
+      }
+      return builder.build();
+
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.SSL_CONFIGURATION_ERROR, e);
+    }
+  }
+}
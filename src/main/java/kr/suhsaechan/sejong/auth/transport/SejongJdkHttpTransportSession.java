@@ -0,0 +1,364 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.CookieStore;
+import java.net.ProtocolException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.util.SejongExecutors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JDK HttpClient 전송 세션
+ * - 세션별 CookieManager로 요청마다 Cookie 헤더를 붙이고 응답의 Set-Cookie를 저장
+ * - 리다이렉트를 직접 따라가며 홉마다 쿠키 반영 (OkHttp와 같은 메서드 변경 규칙)
+ * - Host 등 JDK HttpClient가 허용하지 않는 헤더는 제외하고 전송
+ * - Accept-Encoding을 직접 지정하고 응답 본문은 SejongDecodingInputStream으로 해제
+ * - 제한 시간은 본문 읽기까지 적용 (만료 시 본문 스트림을 닫아 멈춘 읽기를 깨움)
+ * - 닫히지 않은 응답을 추적하여 cancelAll() 시 본문 읽기까지 일괄 취소
+ */
+@Slf4j
+final class SejongJdkHttpTransportSession implements SejongTransportSession {
+
+  /** 최대 리다이렉트 횟수 (OkHttp 기본값과 동일) */
+  private static final int MAX_REDIRECTS = 20;
+
+  /** JDK HttpClient가 직접 설정을 허용하지 않는 헤더 */
+  private static final Set<String> RESTRICTED_HEADERS = Set.of(
+      "host", "connection", "content-length", "expect", "upgrade");
+
+  private final HttpClient client;
+  private final SejongRedirectTracker redirectTracker;
+  private final Duration requestTimeout;
+  private final SejongAuthMetrics metrics;
+  private final String acceptEncoding;
+  private final CookieManager cookieManager = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+  private final Set<CompletableFuture<?>> activeCalls = ConcurrentHashMap.newKeySet();
+  private final Set<SejongJdkHttpResponse> openResponses = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger redirectHops = new AtomicInteger();
+  private volatile boolean cancelled;
+
+  SejongJdkHttpTransportSession(HttpClient client, SejongRedirectTracker redirectTracker, Duration requestTimeout,
+      SejongAuthMetrics metrics, String acceptEncoding) {
+    this.client = client;
+    this.redirectTracker = redirectTracker;
+    this.requestTimeout = requestTimeout;
+    this.metrics = metrics;
+    this.acceptEncoding = acceptEncoding;
+  }
+
+  @Override
+  public SejongHttpResponse execute(SejongHttpRequest request, long timeoutMillis) throws IOException {
+    CompletableFuture<SejongHttpResponse> future = executeAsync(request, timeoutMillis);
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("요청 중단: " + request.getPath());
+    } catch (CancellationException e) {
+      throw new IOException("Canceled", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  @Override
+  public CompletableFuture<SejongHttpResponse> executeAsync(SejongHttpRequest request, long timeoutMillis) {
+    CompletableFuture<SejongHttpResponse> result = new CompletableFuture<>();
+    if (cancelled) {
+      result.completeExceptionally(new IOException("Canceled"));
+      return result;
+    }
+
+    // 리다이렉트와 본문 읽기를 포함한 전체 제한 시간 (응답을 닫으면 타이머 취소)
+    AtomicReference<SejongJdkHttpResponse> delivered = new AtomicReference<>();
+    ScheduledFuture<?> deadline = timeoutMillis > 0
+        ? TimeoutTimer.INSTANCE.schedule(() -> ForkJoinPool.commonPool().execute(() ->
+            expire(result, delivered, request)), timeoutMillis, TimeUnit.MILLISECONDS)
+        : null;
+
+    AtomicReference<CompletableFuture<?>> current = new AtomicReference<>();
+    Hop first = new Hop(URI.create(request.getUrl()), request.getMethod(), request.getBody(),
+        request.getContentType(), request.getHeaders());
+    send(first, 0, current).whenComplete((response, error) -> {
+      if (error != null) {
+        result.completeExceptionally(unwrap(error));
+        return;
+      }
+      SejongJdkHttpResponse wrapped = new SejongJdkHttpResponse(response,
+          metrics.hostTraffic(response.uri().getHost()), request.getMaxBodyBytes(), deadline, openResponses::remove);
+      delivered.set(wrapped);
+      openResponses.add(wrapped);
+      if (cancelled) {
+        wrapped.cancel();
+      }
+      if (!result.complete(wrapped)) {
+        wrapped.close();
+      }
+    });
+
+    // 취소/시간 초과 시 진행 중인 요청과 타이머 취소
+    result.whenComplete((response, error) -> {
+      if (error == null) {
+        return;
+      }
+      if (deadline != null) {
+        deadline.cancel(false);
+      }
+      CompletableFuture<?> call = current.get();
+      if (call != null) {
+        call.cancel(true);
+      }
+    });
+    return result;
+  }
+
+  @Override
+  public CookieStore cookieStore() {
+    return cookieManager.getCookieStore();
+  }
+
+  @Override
+  public int redirectHops() {
+    return redirectHops.get();
+  }
+
+  @Override
+  public void cancelAll() {
+    cancelled = true;
+    activeCalls.forEach(call -> call.cancel(true));
+    openResponses.forEach(SejongJdkHttpResponse::cancel);
+  }
+
+  /**
+   * 요청 1회 전송 후 리다이렉트면 다음 홉 전송
+   */
+  private CompletableFuture<HttpResponse<InputStream>> send(
+      Hop hop, int redirects, AtomicReference<CompletableFuture<?>> current) {
+    URI uri = redirectTracker.shortcut(hop.uri);
+    CompletableFuture<HttpResponse<InputStream>> call =
+        client.sendAsync(buildRequest(uri, hop), HttpResponse.BodyHandlers.ofInputStream());
+    register(call);
+    current.set(call);
+
+    return call.thenCompose(response -> {
+      storeCookies(uri, response);
+
+      int code = response.statusCode();
+      String location = response.headers().firstValue("Location").orElse(null);
+      if (!isRedirect(code) || location == null) {
+        return CompletableFuture.completedFuture(response);
+      }
+      closeQuietly(response.body());
+
+      URI target;
+      try {
+        target = uri.resolve(location);
+      } catch (IllegalArgumentException e) {
+        return CompletableFuture.<HttpResponse<InputStream>>failedFuture(
+            new ProtocolException("잘못된 리다이렉트 위치: " + location));
+      }
+      redirectTracker.onRedirect(uri, target, code);
+      redirectHops.incrementAndGet();
+
+      if (redirects >= MAX_REDIRECTS) {
+        return CompletableFuture.<HttpResponse<InputStream>>failedFuture(
+            new ProtocolException("Too many follow-up requests: " + (redirects + 1)));
+      }
+      return send(hop.redirectTo(target, code), redirects + 1, current);
+    });
+  }
+
+  /**
+   * JDK HttpRequest 생성
+   * - 세션 쿠키를 Cookie 헤더로 추가 (요청에 지정된 Cookie 헤더와 병합)
+   */
+  private HttpRequest buildRequest(URI uri, Hop hop) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(requestTimeout);
+
+    String requestCookie = null;
+    boolean hasAcceptEncoding = false;
+    for (Map.Entry<String, String> header : hop.headers.entrySet()) {
+      String name = header.getKey().toLowerCase(Locale.ROOT);
+      if ("cookie".equals(name)) {
+        requestCookie = header.getValue();
+      } else if ("accept-encoding".equals(name)) {
+        hasAcceptEncoding = true;
+        builder.setHeader(header.getKey(), header.getValue());
+      } else if (!RESTRICTED_HEADERS.contains(name)) {
+        builder.setHeader(header.getKey(), header.getValue());
+      }
+    }
+    if (!hasAcceptEncoding) {
+      builder.setHeader("Accept-Encoding", acceptEncoding);
+    }
+    if (hop.body != null && hop.contentType != null) {
+      builder.setHeader("Content-Type", hop.contentType);
+    }
+
+    String cookieHeader = cookieHeader(uri, requestCookie);
+    if (cookieHeader != null) {
+      builder.setHeader("Cookie", cookieHeader);
+    }
+
+    HttpRequest.BodyPublisher body = hop.body != null
+        ? HttpRequest.BodyPublishers.ofByteArray(hop.body)
+        : HttpRequest.BodyPublishers.noBody();
+    return builder.method(hop.method, body).build();
+  }
+
+  private String cookieHeader(URI uri, String requestCookie) {
+    StringBuilder header = new StringBuilder();
+    if (requestCookie != null && !requestCookie.isBlank()) {
+      header.append(requestCookie);
+    }
+    try {
+      List<String> cookies = cookieManager.get(uri, Map.of()).get("Cookie");
+      if (cookies != null) {
+        for (String cookie : cookies) {
+          if (header.length() > 0) {
+            header.append("; ");
+          }
+          header.append(cookie);
+        }
+      }
+    } catch (IOException e) {
+      log.debug("쿠키 조회 실패 (무시됨): {}", e.getMessage());
+    }
+    return header.length() > 0 ? header.toString() : null;
+  }
+
+  private void storeCookies(URI uri, HttpResponse<?> response) {
+    try {
+      cookieManager.put(uri, response.headers().map());
+    } catch (IOException e) {
+      log.debug("쿠키 저장 실패 (무시됨): {}", e.getMessage());
+    }
+  }
+
+  private void register(CompletableFuture<?> call) {
+    activeCalls.add(call);
+    call.whenComplete((response, error) -> activeCalls.remove(call));
+    if (cancelled) {
+      call.cancel(true);
+    }
+  }
+
+  /**
+   * 제한 시간 만료 처리
+   * - 응답 전이면 요청을 실패시키고, 이미 응답을 넘겼으면 본문 스트림을 닫아 읽기를 중단
+   */
+  private static void expire(CompletableFuture<SejongHttpResponse> result,
+      AtomicReference<SejongJdkHttpResponse> delivered, SejongHttpRequest request) {
+    if (result.completeExceptionally(new HttpTimeoutException("요청 제한 시간 초과: " + request.getPath()))) {
+      return;
+    }
+    SejongJdkHttpResponse response = delivered.get();
+    if (response != null) {
+      response.expire();
+    }
+  }
+
+  private static boolean isRedirect(int code) {
+    return code == 300 || code == 301 || code == 302 || code == 303 || code == 307 || code == 308;
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    Throwable cause = error;
+    while (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  private static void closeQuietly(InputStream body) {
+    try {
+      body.close();
+    } catch (IOException ignored) {
+      // 이미 닫힌 스트림
+    }
+  }
+
+  /**
+   * 리다이렉트 홉 단위 요청 정보
+   */
+  private static final class Hop {
+
+    private final URI uri;
+    private final String method;
+    private final byte[] body;
+    private final String contentType;
+    private final Map<String, String> headers;
+
+    private Hop(URI uri, String method, byte[] body, String contentType, Map<String, String> headers) {
+      this.uri = uri;
+      this.method = method;
+      this.body = body;
+      this.contentType = contentType;
+      this.headers = headers;
+    }
+
+    /**
+     * 다음 홉 생성
+     * - 307/308은 메서드와 본문 유지, 그 외에는 GET(HEAD는 HEAD)으로 변경하고 본문 제거
+     */
+    private Hop redirectTo(URI target, int code) {
+      if (code == 307 || code == 308) {
+        return new Hop(target, method, body, contentType, headers);
+      }
+      Map<String, String> nextHeaders = new LinkedHashMap<>(headers);
+      nextHeaders.keySet().removeIf(name -> "content-type".equalsIgnoreCase(name));
+      return new Hop(target, "HEAD".equals(method) ? "HEAD" : "GET", null, null, nextHeaders);
+    }
+  }
+
+  /**
+   * 요청 제한 시간 타이머
+   * - 모든 세션이 데몬 스레드 1개를 공유하고 취소된 작업은 큐에서 바로 제거
+   * - 만료 처리는 공용 풀에서 실행하여 타이머 스레드를 점유하지 않음
+   */
+  private static final class TimeoutTimer {
+
+    private static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+    private static ScheduledThreadPoolExecutor create() {
+      ScheduledThreadPoolExecutor timer =
+          new ScheduledThreadPoolExecutor(1, SejongExecutors.daemonThreadFactory("sejong-auth-jdk-timeout-"));
+      timer.setRemoveOnCancelPolicy(true);
+      return timer;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import kr.suhsaechan.sejong.auth.metrics.SejongHostTraffic;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * OkHttp 응답 래퍼
+ * - 본문은 Content-Encoding에 따라 스트리밍 해제 (자동 해제 대신 직접 처리하여 전송 바이트 집계)
+ */
+final class SejongOkHttpResponse implements SejongHttpResponse {
+
+  private final Response response;
+  private final SejongHostTraffic traffic;
+  private final long maxBodyBytes;
+  private final Runnable onClose;
+  private InputStream body;
+
+  /**
+   * @param onClose 응답을 닫은 뒤 실행할 작업 (세션의 Call 추적 해제)
+   */
+  SejongOkHttpResponse(Response response, SejongHostTraffic traffic, long maxBodyBytes, Runnable onClose) {
+    this.response = response;
+    this.traffic = traffic;
+    this.maxBodyBytes = maxBodyBytes;
+    this.onClose = onClose;
+    traffic.recordResponse(response.protocol() == Protocol.HTTP_2
+        || response.protocol() == Protocol.H2_PRIOR_KNOWLEDGE);
+  }
+
+  @Override
+  public int code() {
+    return response.code();
+  }
+
+  @Override
+  public String finalUrl() {
+    return response.request().url().toString();
+  }
+
+  @Override
+  public String header(String name) {
+    return response.header(name);
+  }
+
+  @Override
+  public InputStream body() {
+    if (body == null) {
+      ResponseBody responseBody = response.body();
+      body = responseBody != null
+          ? new SejongDecodingInputStream(
+              responseBody.byteStream(), response.header("Content-Encoding"), traffic, maxBodyBytes)
+          : InputStream.nullInputStream();
+    }
+    return body;
+  }
+
+  /**
+   * 본문 스트림(압축 해제용 Inflater 포함)을 닫은 뒤 응답 닫기
+   */
+  @Override
+  public void close() {
+    try {
+      if (body != null) {
+        body.close();
+      }
+    } catch (IOException ignored) {
+      // 이미 닫힌 스트림
+    } finally {
+      response.close();
+      onClose.run();
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.X509TrustManager;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.JavaNetCookieJar;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * OkHttp 기반 전송 구현체 (기본값)
+ * - ConnectionPool, Dispatcher, SSLContext를 하나만 생성하여 모든 로그인이 공유
+ * - 로그인마다 newBuilder()로 쿠키 저장소만 분리한 경량 클라이언트 발급
+ * - 하나의 SSLContext를 재사용하여 TLS 세션 재개(resumption) 지원
+ * - 리다이렉트 횟수를 지표로 기록하고, 학습된 http→https 리다이렉트는 생략
+ * - gzip/deflate 응답을 직접 해제하여 호스트별 전송/해제 바이트와 프로토콜(h2, http/1.1) 기록
+ * - 호스트 주소는 SejongDnsCache로 캐싱 (dns.enabled=false이면 시스템 리졸버 직접 사용)
+ * - 애플리케이션 종료 시 close()로 Dispatcher 스레드와 유휴 연결 정리
+ */
+@Slf4j
+public class SejongOkHttpTransport implements SejongHttpTransport {
+
+  private final OkHttpClient client;
+  private final SejongAuthMetrics metrics;
+  private final SejongRedirectTracker redirectTracker;
+  private final SejongWarmup warmup;
+  private final String acceptEncoding;
+  private final SejongDnsCache dnsCache;
+
+  public SejongOkHttpTransport(SejongAuthProperties properties) {
+    this(properties, new SejongAuthMetrics());
+  }
+
+  public SejongOkHttpTransport(SejongAuthProperties properties, SejongAuthMetrics metrics) {
+    this.metrics = metrics;
+    this.redirectTracker = new SejongRedirectTracker(metrics);
+    this.dnsCache = properties.getDns().isEnabled() ? new SejongDnsCache(properties.getDns(), metrics) : null;
+    this.client = buildClient(properties);
+    this.warmup = new SejongWarmup(properties);
+    this.acceptEncoding = SejongDecodingInputStream.acceptEncoding(properties.isCompression());
+  }
+
+  /**
+   * 로그인 세션 생성
+   * - 연결 풀/스레드/SSL 설정은 공유하고 쿠키 저장소만 새로 생성
+   */
+  @Override
+  public SejongTransportSession newSession() {
+    metrics.recordSession();
+    CookieManager cookieManager = new CookieManager();
+    cookieManager.setCookiePolicy(CookiePolicy.ACCEPT_ALL);
+    OkHttpClient sessionClient = client.newBuilder()
+        .cookieJar(new JavaNetCookieJar(cookieManager))
+        .build();
+    return new SejongOkHttpTransportSession(sessionClient, cookieManager, metrics, acceptEncoding);
+  }
+
+  /**
+   * 세종 호스트에 미리 연결 (TCP + TLS 핸드셰이크)
+   * - 각 호스트에 HEAD 요청을 보내 연결 풀에 유휴 연결을 확보
+   */
+  @Override
+  public CompletableFuture<Void> prewarm() {
+    List<CompletableFuture<Void>> calls = new ArrayList<>();
+    for (String url : warmup.urls()) {
+      calls.add(warm(url));
+    }
+    return CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]));
+  }
+
+  @Override
+  public CompletableFuture<Void> prepare() {
+    return warmup.prepare(this::prewarm);
+  }
+
+  /**
+   * Dispatcher 스레드 종료 및 유휴 연결 정리
+   */
+  @Override
+  public void close() {
+    client.dispatcher().cancelAll();
+    client.dispatcher().executorService().shutdown();
+    client.connectionPool().evictAll();
+    if (dnsCache != null) {
+      dnsCache.close();
+    }
+    log.debug("세종 인증 HTTP 클라이언트 종료");
+  }
+
+  /**
+   * 연결 미리 맺기용 HEAD 요청
+   */
+  private CompletableFuture<Void> warm(String url) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    Request request = new Request.Builder().url(url).head().build();
+    client.newCall(request).enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException e) {
+        log.debug("연결 미리 맺기 실패 (무시됨): url={}, {}", url, e.getMessage());
+        future.complete(null);
+      }
+
+      @Override
+      public void onResponse(Call call, Response response) {
+        response.close();
+        log.debug("연결 미리 맺기 완료: url={}, 응답코드={}", url, response.code());
+        future.complete(null);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * 공용 OkHttpClient 생성
+   * - SSL 검증 설정 적용
+   * - 연결 풀/Dispatcher 설정 적용
+   * - 타임아웃 설정
+   */
+  private OkHttpClient buildClient(SejongAuthProperties properties) {
+    try {
+      OkHttpClient.Builder builder = new OkHttpClient.Builder();
+
+      // 타임아웃 설정
+      int timeout = properties.getTimeoutSeconds();
+      builder.connectTimeout(timeout, TimeUnit.SECONDS);
+      builder.readTimeout(timeout, TimeUnit.SECONDS);
+      builder.writeTimeout(timeout, TimeUnit.SECONDS);
+
+      // 연결 풀 및 동시 요청 수 설정
+      SejongAuthProperties.PoolConfig pool = properties.getPool();
+      builder.connectionPool(new ConnectionPool(
+          pool.getMaxIdleConnections(), pool.getKeepAliveSeconds(), TimeUnit.SECONDS));
+      Dispatcher dispatcher = new Dispatcher();
+      dispatcher.setMaxRequests(pool.getMaxRequests());
+      dispatcher.setMaxRequestsPerHost(pool.getMaxRequestsPerHost());
+      builder.dispatcher(dispatcher);
+
+      // 호스트 주소 캐시 (백그라운드 갱신, 조회 실패 시 마지막 정상 주소 사용)
+      if (dnsCache != null) {
+        builder.dns(dnsCache::lookup);
+      }
+
+      // HTTP/2는 ALPN으로 협상 (비활성화 시 HTTP/1.1만 사용)
+      if (!properties.isHttp2()) {
+        builder.protocols(List.of(Protocol.HTTP_1_1));
+      }
+
+      // 리다이렉트 추적 및 http→https 리다이렉트 생략
+      builder.addInterceptor(shortcutInterceptor());
+      builder.addNetworkInterceptor(hopInterceptor());
+
+      // SSL 설정 (SSLContext를 공유하여 TLS 세션 재개)
+      X509TrustManager trustManager = SejongSslContexts.trustManager(properties);
+      builder.sslSocketFactory(SejongSslContexts.sslContext(properties, trustManager).getSocketFactory(),
+          trustManager);
+
+      // SSL 검증 비활성화 (설정에 따라)
+      if (!properties.isSslVerification()) {
+        builder.hostnameVerifier((hostname, session) -> true);
+        log.debug("SSL 검증 비활성화됨");
+      }
+
+      return builder.build();
+
+    } catch (Exception e) {
+      throw new SejongAuthException(SejongAuthErrorCode.SSL_CONFIGURATION_ERROR, e);
+    }
+  }
+
+  /**
+   * 애플리케이션 인터셉터: 학습된 호스트의 http 요청을 https로 변경
+   */
+  private Interceptor shortcutInterceptor() {
+    return chain -> {
+      Request request = chain.request();
+      HttpUrl url = request.url();
+      if (!url.isHttps()) {
+        HttpUrl target = HttpUrl.get(redirectTracker.shortcut(url.uri()));
+        if (target != null && target.isHttps()) {
+          return chain.proceed(request.newBuilder().url(target).build());
+        }
+      }
+      return chain.proceed(request);
+    };
+  }
+
+  /**
+   * 네트워크 인터셉터: 리다이렉트 응답 집계
+   */
+  private Interceptor hopInterceptor() {
+    return chain -> {
+      Request request = chain.request();
+      Response response = chain.proceed(request);
+      if (response.isRedirect()) {
+        String location = response.header("Location");
+        HttpUrl target = location != null ? request.url().resolve(location) : null;
+        redirectTracker.onRedirect(request.url().uri(), target != null ? target.uri() : null, response.code());
+        SejongOkHttpTransportSession session = request.tag(SejongOkHttpTransportSession.class);
+        if (session != null) {
+          session.recordRedirectHop();
+        }
+      }
+      return response;
+    };
+  }
+}
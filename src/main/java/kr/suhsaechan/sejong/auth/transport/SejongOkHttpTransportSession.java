@@ -0,0 +1,153 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookieStore;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * OkHttp 전송 세션
+ * - 공용 클라이언트에서 쿠키 저장소만 분리한 클라이언트 사용
+ * - 실행 중인 Call을 응답이 닫힐 때까지 추적하여 cancelAll() 시 본문 읽기까지 일괄 취소
+ * - Accept-Encoding을 직접 지정하고 응답 본문은 SejongDecodingInputStream으로 해제
+ */
+final class SejongOkHttpTransportSession implements SejongTransportSession {
+
+  private final OkHttpClient client;
+  private final CookieManager cookieManager;
+  private final SejongAuthMetrics metrics;
+  private final String acceptEncoding;
+  private final Set<Call> activeCalls = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger redirectHops = new AtomicInteger();
+  private volatile boolean cancelled;
+
+  SejongOkHttpTransportSession(OkHttpClient client, CookieManager cookieManager, SejongAuthMetrics metrics,
+      String acceptEncoding) {
+    this.client = client;
+    this.cookieManager = cookieManager;
+    this.metrics = metrics;
+    this.acceptEncoding = acceptEncoding;
+  }
+
+  @Override
+  public SejongHttpResponse execute(SejongHttpRequest request, long timeoutMillis) throws IOException {
+    Call call = register(newCall(request, timeoutMillis));
+    try {
+      return wrap(request, call, call.execute());
+    } catch (IOException | RuntimeException e) {
+      activeCalls.remove(call);
+      throw e;
+    }
+  }
+
+  @Override
+  public CompletableFuture<SejongHttpResponse> executeAsync(SejongHttpRequest request, long timeoutMillis) {
+    CompletableFuture<SejongHttpResponse> future = new CompletableFuture<>();
+    Call call = register(newCall(request, timeoutMillis));
+
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Call failedCall, IOException e) {
+        activeCalls.remove(failedCall);
+        future.completeExceptionally(e);
+      }
+
+      @Override
+      public void onResponse(Call completedCall, Response response) {
+        SejongHttpResponse wrapped = wrap(request, completedCall, response);
+        if (!future.complete(wrapped)) {
+          wrapped.close();
+        }
+      }
+    });
+
+    future.whenComplete((response, error) -> {
+      if (future.isCancelled()) {
+        call.cancel();
+      }
+    });
+    return future;
+  }
+
+  @Override
+  public CookieStore cookieStore() {
+    return cookieManager.getCookieStore();
+  }
+
+  @Override
+  public int redirectHops() {
+    return redirectHops.get();
+  }
+
+  @Override
+  public void cancelAll() {
+    cancelled = true;
+    activeCalls.forEach(Call::cancel);
+  }
+
+  void recordRedirectHop() {
+    redirectHops.incrementAndGet();
+  }
+
+  /**
+   * OkHttp Call 생성
+   * - 제한 시간을 전체 호출 타임아웃으로 설정
+   * - 리다이렉트 추적용으로 요청에 세션 태그 추가
+   */
+  private Call newCall(SejongHttpRequest request, long timeoutMillis) {
+    Call call = client.newCall(toOkHttpRequest(request));
+    if (timeoutMillis > 0) {
+      call.timeout().timeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    return call;
+  }
+
+  private Request toOkHttpRequest(SejongHttpRequest request) {
+    Request.Builder builder = new Request.Builder()
+        .url(request.getUrl())
+        .tag(SejongOkHttpTransportSession.class, this);
+    request.getHeaders().forEach(builder::header);
+    if (!hasHeader(request, "Accept-Encoding")) {
+      builder.header("Accept-Encoding", acceptEncoding);
+    }
+
+    RequestBody body = null;
+    if (request.getBody() != null) {
+      MediaType mediaType = request.getContentType() != null ? MediaType.parse(request.getContentType()) : null;
+      body = RequestBody.create(request.getBody(), mediaType);
+    }
+    return builder.method(request.getMethod(), body).build();
+  }
+
+  /**
+   * 응답 래퍼 생성 (응답을 닫을 때 Call 추적 해제)
+   */
+  private SejongHttpResponse wrap(SejongHttpRequest request, Call call, Response response) {
+    return new SejongOkHttpResponse(response, metrics.hostTraffic(response.request().url().host()),
+        request.getMaxBodyBytes(), () -> activeCalls.remove(call));
+  }
+
+  private static boolean hasHeader(SejongHttpRequest request, String name) {
+    return request.getHeaders().keySet().stream().anyMatch(name::equalsIgnoreCase);
+  }
+
+  private Call register(Call call) {
+    activeCalls.add(call);
+    if (cancelled) {
+      call.cancel();
+    }
+    return call;
+  }
+}
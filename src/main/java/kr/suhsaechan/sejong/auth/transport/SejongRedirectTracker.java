@@ -0,0 +1,74 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리다이렉트 추적기 (전송 구현체 공용)
+ * - 모든 리다이렉트 응답을 세어 지표에 기록
+ * - 같은 경로를 https로만 바꾸는 리다이렉트(http→https)를 학습하고,
+ *   이후 같은 호스트의 http 요청은 처음부터 https로 보내 왕복 1회와 평문 연결을 생략
+ */
+@Slf4j
+final class SejongRedirectTracker {
+
+  private final SejongAuthMetrics metrics;
+
+  /** http→https 리다이렉트가 확인된 호스트 */
+  private final Set<String> httpsHosts = ConcurrentHashMap.newKeySet();
+
+  SejongRedirectTracker(SejongAuthMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * 학습된 호스트의 http 요청이면 https URI 반환
+   *
+   * @param uri 요청 URI
+   * @return https로 바꾼 URI, 해당 없으면 원래 URI
+   */
+  URI shortcut(URI uri) {
+    if (!"http".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null
+        || !httpsHosts.contains(uri.getHost())) {
+      return uri;
+    }
+    // 경로/쿼리는 인코딩된 그대로 유지
+    String rawPath = uri.getRawPath() != null ? uri.getRawPath() : "";
+    String rawQuery = uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "";
+    metrics.recordRedirectShortcut();
+    log.debug("http→https 리다이렉트 생략: host={}", uri.getHost());
+    return URI.create("https://" + uri.getHost() + rawPath + rawQuery);
+  }
+
+  /**
+   * 리다이렉트 응답 기록 및 http→https 리다이렉트 학습
+   *
+   * @param from 리다이렉트 응답을 받은 요청 URI
+   * @param to Location이 가리키는 URI (해석 불가 시 null)
+   * @param code 응답 코드
+   */
+  void onRedirect(URI from, URI to, int code) {
+    metrics.recordRedirectHop();
+    log.debug("리다이렉트: {} -> {} ({})", from.getRawPath(),
+        to != null ? to.getHost() + to.getRawPath() : "-", code);
+
+    if (to != null && isSchemeUpgrade(from, to) && httpsHosts.add(to.getHost())) {
+      log.debug("http→https 리다이렉트 학습: host={}", to.getHost());
+    }
+  }
+
+  /**
+   * 호스트/경로/쿼리는 같고 스킴만 https로 바뀌는 리다이렉트인지 확인
+   */
+  private boolean isSchemeUpgrade(URI from, URI to) {
+    return "http".equalsIgnoreCase(from.getScheme()) && "https".equalsIgnoreCase(to.getScheme())
+        && from.getHost() != null && from.getHost().equalsIgnoreCase(to.getHost())
+        && (to.getPort() == -1 || to.getPort() == 443)
+        && Objects.equals(from.getRawPath(), to.getRawPath())
+        && Objects.equals(from.getRawQuery(), to.getRawQuery());
+  }
+}
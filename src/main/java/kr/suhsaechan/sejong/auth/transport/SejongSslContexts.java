@@ -0,0 +1,99 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+
+/**
+ * 전송 구현체 공용 SSLContext 생성
+ * - 하나의 SSLContext를 재사용하여 TLS 세션 재개(resumption) 지원
+ * - ssl-verification: false이면 모든 인증서/호스트를 신뢰
+ */
+final class SejongSslContexts {
+
+  private SejongSslContexts() {
+    // 유틸리티 클래스 인스턴스화 방지
+  }
+
+  /**
+   * 설정에 맞는 TrustManager 생성
+   */
+  static X509TrustManager trustManager(SejongAuthProperties properties) throws GeneralSecurityException {
+    return properties.isSslVerification() ? defaultTrustManager() : trustAllManager();
+  }
+
+  /**
+   * TLS 세션 캐시 설정이 적용된 SSLContext 생성
+   */
+  static SSLContext sslContext(SejongAuthProperties properties, X509TrustManager trustManager)
+      throws GeneralSecurityException {
+    SejongAuthProperties.PoolConfig pool = properties.getPool();
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, new TrustManager[]{trustManager}, new SecureRandom());
+    SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+    sessionContext.setSessionCacheSize(pool.getTlsSessionCacheSize());
+    sessionContext.setSessionTimeout(pool.getTlsSessionTimeoutSeconds());
+    return sslContext;
+  }
+
+  /**
+   * JDK 기본 신뢰 저장소를 사용하는 TrustManager 생성
+   */
+  private static X509TrustManager defaultTrustManager() throws GeneralSecurityException {
+    TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    factory.init((KeyStore) null);
+    for (TrustManager trustManager : factory.getTrustManagers()) {
+      if (trustManager instanceof X509TrustManager) {
+        return (X509TrustManager) trustManager;
+      }
+    }
+    throw new GeneralSecurityException("X509TrustManager를 찾을 수 없습니다.");
+  }
+
+  /**
+   * 모든 인증서를 신뢰하는 TrustManager 생성
+   * - X509ExtendedTrustManager로 구현하여 JDK HttpClient의 호스트 이름 검사도 생략
+   */
+  private static X509TrustManager trustAllManager() {
+    return new X509ExtendedTrustManager() {
+      @Override
+      public void checkClientTrusted(X509Certificate[] chain, String authType) {
+      }
+
+      @Override
+      public void checkServerTrusted(X509Certificate[] chain, String authType) {
+      }
+
+      @Override
+      public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+      }
+
+      @Override
+      public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+      }
+
+      @Override
+      public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+      }
+
+      @Override
+      public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+      }
+
+      @Override
+      public X509Certificate[] getAcceptedIssuers() {
+        return new X509Certificate[0];
+      }
+    };
+  }
+}
@@ -0,0 +1,47 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.IOException;
+import java.net.CookieStore;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로그인 1회용 전송 세션
+ * - 세션마다 독립된 쿠키 저장소를 가지며, 연결 풀 등은 SejongHttpTransport가 공유
+ * - 리다이렉트는 세션 안에서 따라가고 쿠키를 자동 반영
+ */
+public interface SejongTransportSession {
+
+  /**
+   * 동기 요청 실행
+   *
+   * @param request 요청
+   * @param timeoutMillis 리다이렉트 포함 전체 제한 시간 (0 이하이면 제한 없음)
+   * @return 최종 응답
+   */
+  SejongHttpResponse execute(SejongHttpRequest request, long timeoutMillis) throws IOException;
+
+  /**
+   * 비동기 요청 실행
+   * - 반환된 Future를 취소하면 진행 중인 요청도 취소
+   *
+   * @param request 요청
+   * @param timeoutMillis 리다이렉트 포함 전체 제한 시간 (0 이하이면 제한 없음)
+   * @return 최종 응답 (실패 시 IOException으로 완료)
+   */
+  CompletableFuture<SejongHttpResponse> executeAsync(SejongHttpRequest request, long timeoutMillis);
+
+  /**
+   * 세션 쿠키 저장소
+   */
+  CookieStore cookieStore();
+
+  /**
+   * 이 세션에서 따라간 리다이렉트 수
+   */
+  int redirectHops();
+
+  /**
+   * 진행 중인 요청을 모두 취소하고, 이후 요청도 즉시 취소
+   */
+  void cancelAll();
+}
@@ -0,0 +1,60 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+
+/**
+ * 연결 미리 맺기 대상 및 호출 간격 관리 (전송 구현체 공용)
+ */
+final class SejongWarmup {
+
+  /** SIS(학사정보시스템) 호스트 */
+  private static final String SJPT_URL = "https://sjpt.sejong.ac.kr/";
+
+  /** prepare() 연속 호출 시 재연결을 생략할 최소 간격 (밀리초) */
+  private static final long PREPARE_MIN_INTERVAL_MILLIS = 5_000L;
+
+  private final List<String> urls;
+  private final AtomicLong lastWarmAt = new AtomicLong();
+
+  SejongWarmup(SejongAuthProperties properties) {
+    Set<String> hosts = new LinkedHashSet<>();
+    for (String url : List.of(properties.getPortalLoginUrl(), properties.getClassicStatusUrl(), SJPT_URL)) {
+      try {
+        URI uri = URI.create(url);
+        if (uri.getScheme() != null && uri.getHost() != null) {
+          hosts.add(uri.getScheme() + "://" + uri.getHost() + "/");
+        }
+      } catch (IllegalArgumentException ignored) {
+        // 잘못된 URL은 미리 연결 대상에서 제외
+      }
+    }
+    this.urls = List.copyOf(hosts);
+  }
+
+  /**
+   * 미리 연결할 호스트 루트 URL (포털, 고전독서, 학사정보시스템)
+   */
+  List<String> urls() {
+    lastWarmAt.set(System.currentTimeMillis());
+    return urls;
+  }
+
+  /**
+   * 최소 간격이 지났을 때만 prewarm 실행
+   */
+  CompletableFuture<Void> prepare(Supplier<CompletableFuture<Void>> prewarm) {
+    long now = System.currentTimeMillis();
+    long last = lastWarmAt.get();
+    if (now - last < PREPARE_MIN_INTERVAL_MILLIS || !lastWarmAt.compareAndSet(last, now)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return prewarm.get();
+  }
+}
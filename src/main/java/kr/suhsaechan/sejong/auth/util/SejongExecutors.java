@@ -0,0 +1,66 @@
+package kr.suhsaechan.sejong.auth.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증 엔진 전용 Executor 생성 유틸리티
+ * - DHC/SIS 병렬 조회 등 엔진 내부 비동기 작업에 사용
+ * - Java 21+ 런타임에서는 Multi-Release JAR의 META-INF/versions/21 구현이 대신 로드되어 가상 스레드 사용
+ */
+public final class SejongExecutors {
+
+  private SejongExecutors() {
+    // 유틸리티 클래스 인스턴스화 방지
+  }
+
+  /**
+   * 엔진 작업용 Executor 생성
+   * - Java 17 런타임에서는 가상 스레드를 지원하지 않으므로 항상 고정 크기 스레드 풀 사용
+   *
+   * @param threadNamePrefix 스레드 이름 접두사
+   * @param threads 플랫폼 스레드 풀 크기
+   * @param virtualThreads 가상 스레드 사용 요청 여부
+   * @return ExecutorService
+   */
+  public static ExecutorService newExecutor(String threadNamePrefix, int threads, boolean virtualThreads) {
+    return newExecutor(threadNamePrefix, threads);
+  }
+
+  /**
+   * 현재 런타임의 가상 스레드 지원 여부
+   *
+   * @return Java 21 이상이면 true
+   */
+  public static boolean isVirtualThreadSupported() {
+    return false;
+  }
+
+  /**
+   * 고정 크기 스레드 풀 생성 (데몬 스레드)
+   *
+   * @param threadNamePrefix 스레드 이름 접두사
+   * @param threads 스레드 수
+   * @return ExecutorService
+   */
+  public static ExecutorService newExecutor(String threadNamePrefix, int threads) {
+    return Executors.newFixedThreadPool(Math.max(1, threads), daemonThreadFactory(threadNamePrefix));
+  }
+
+  /**
+   * 이름이 지정된 데몬 스레드 팩토리 생성
+   *
+   * @param threadNamePrefix 스레드 이름 접두사
+   * @return ThreadFactory
+   */
+  public static ThreadFactory daemonThreadFactory(String threadNamePrefix) {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, threadNamePrefix + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,89 @@
+package kr.suhsaechan.sejong.auth.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * 라이브러리 공용 JSON 처리기
+ * - ObjectMapper 하나와 미리 만든 ObjectReader를 SIS 클라이언트/파서가 함께 사용 (매퍼 메타데이터 중복 방지)
+ * - 애플리케이션 ObjectMapper 설정에 영향받지 않도록 라이브러리 전용 매퍼 사용
+ * - 스레드 안전하므로 인스턴스 하나를 공유
+ */
+public final class SejongJson {
+
+  private final ObjectMapper objectMapper;
+  private final ObjectReader treeReader;
+
+  public SejongJson(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.treeReader = objectMapper.readerFor(JsonNode.class);
+  }
+
+  /**
+   * 라이브러리 기본 인스턴스 (Spring Bean과 Spring 없이 생성한 클라이언트/파서가 공유)
+   */
+  public static SejongJson shared() {
+    return SharedHolder.INSTANCE;
+  }
+
+  /**
+   * 공유 ObjectMapper
+   */
+  public ObjectMapper getObjectMapper() {
+    return objectMapper;
+  }
+
+  /**
+   * JsonNode 트리용 ObjectReader
+   */
+  public ObjectReader getTreeReader() {
+    return treeReader;
+  }
+
+  /**
+   * 바이트 스트림용 JsonParser 생성 (인코딩 자동 감지)
+   */
+  public JsonParser createParser(InputStream in) throws IOException {
+    return treeReader.createParser(in);
+  }
+
+  /**
+   * 문자 스트림용 JsonParser 생성
+   */
+  public JsonParser createParser(Reader reader) throws IOException {
+    return treeReader.createParser(reader);
+  }
+
+  /**
+   * 문자열용 JsonParser 생성
+   */
+  public JsonParser createParser(String json) throws IOException {
+    return treeReader.createParser(json);
+  }
+
+  /**
+   * JSON 문자열을 트리로 변환
+   */
+  public JsonNode readTree(String json) throws IOException {
+    return treeReader.readTree(json);
+  }
+
+  /**
+   * JsonParser 스트림을 트리로 변환 (본문이 비어있으면 null)
+   */
+  public JsonNode readTree(JsonParser parser) throws IOException {
+    return treeReader.readTree(parser);
+  }
+
+  /**
+   * 기본 인스턴스 지연 생성
+   */
+  private static final class SharedHolder {
+    private static final SejongJson INSTANCE = new SejongJson(new ObjectMapper());
+  }
+}
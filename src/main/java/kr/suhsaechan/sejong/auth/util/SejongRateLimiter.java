@@ -0,0 +1,42 @@
+package kr.suhsaechan.sejong.auth.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 요청 수 제한기
+ * - 요청 시작 간격을 균등하게 벌려 상류 서버 부하를 일정하게 유지
+ */
+public class SejongRateLimiter {
+
+  private final long intervalNanos;
+  private long nextFreeNanos;
+
+  /**
+   * @param permitsPerSecond 초당 허용 수 (0 이하이면 제한 없음)
+   */
+  public SejongRateLimiter(double permitsPerSecond) {
+    this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+    this.nextFreeNanos = System.nanoTime();
+  }
+
+  /**
+   * 다음 허용 시점까지 대기
+   *
+   * @throws InterruptedException 대기 중 인터럽트 발생 시
+   */
+  public void acquire() throws InterruptedException {
+    if (intervalNanos == 0L) {
+      return;
+    }
+    long waitNanos;
+    synchronized (this) {
+      long now = System.nanoTime();
+      long slot = Math.max(nextFreeNanos, now);
+      nextFreeNanos = slot + intervalNanos;
+      waitNanos = slot - now;
+    }
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package kr.suhsaechan.sejong.auth.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증 엔진 전용 Executor 생성 유틸리티 (Java 21+ 구현)
+ * - Multi-Release JAR의 META-INF/versions/21에 포함되어 Java 21 이상에서만 로드
+ * - 가상 스레드 사용 시 블로킹 OkHttp 호출이 캐리어 스레드를 점유하지 않음
+ */
+public final class SejongExecutors {
+
+  private SejongExecutors() {
+    // 유틸리티 클래스 인스턴스화 방지
+  }
+
+  /**
+   * 엔진 작업용 Executor 생성
+   * - virtualThreads가 true이면 작업마다 가상 스레드 생성 (threads 값은 무시)
+   *
+   * @param threadNamePrefix 스레드 이름 접두사
+   * @param threads 플랫폼 스레드 풀 크기
+   * @param virtualThreads 가상 스레드 사용 여부
+   * @return ExecutorService
+   */
+  public static ExecutorService newExecutor(String threadNamePrefix, int threads, boolean virtualThreads) {
+    if (virtualThreads) {
+      return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+    }
+    return newExecutor(threadNamePrefix, threads);
+  }
+
+  /**
+   * 현재 런타임의 가상 스레드 지원 여부
+   *
+   * @return Java 21 이상이면 true
+   */
+  public static boolean isVirtualThreadSupported() {
+    return true;
+  }
+
+  /**
+   * 고정 크기 스레드 풀 생성 (데몬 스레드)
+   *
+   * @param threadNamePrefix 스레드 이름 접두사
+   * @param threads 스레드 수
+   * @return ExecutorService
+   */
+  public static ExecutorService newExecutor(String threadNamePrefix, int threads) {
+    return Executors.newFixedThreadPool(Math.max(1, threads), daemonThreadFactory(threadNamePrefix));
+  }
+
+  /**
+   * 이름이 지정된 데몬 스레드 팩토리 생성
+   *
+   * @param threadNamePrefix 스레드 이름 접두사
+   * @return ThreadFactory
+   */
+  public static ThreadFactory daemonThreadFactory(String threadNamePrefix) {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, threadNamePrefix + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
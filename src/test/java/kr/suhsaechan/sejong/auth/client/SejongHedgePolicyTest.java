@@ -0,0 +1,162 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.sejong.auth.client.SejongStubTransport.Reply;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongHedgePolicy 단위 테스트
+ * - 헤징 대상 판정과 응답 시간 백분위 기반 헤징 시점 계산 테스트
+ * - 테스트용 전송 계층으로 헤징 요청 전송과 예산 소진 시 동작 테스트
+ */
+@Slf4j
+class SejongHedgePolicyTest {
+
+  private static final String URL = "https://classic.sejong.ac.kr/classic/reading/status.do";
+
+  @Test
+  void 활성화된_경우_GET_요청에만_헤징_적용() {
+    log.info("============ 헤징 대상 판정 ============");
+
+    // Given
+    SejongAuthProperties properties = new SejongAuthProperties();
+    SejongHedgePolicy disabled = new SejongHedgePolicy(properties);
+    properties.getHedge().setEnabled(true);
+    SejongHedgePolicy enabled = new SejongHedgePolicy(properties);
+
+    SejongHttpRequest get = SejongHttpRequest.get("https://classic.sejong.ac.kr/classic/reading/status.do").build();
+    SejongHttpRequest post = SejongHttpRequest.post("https://portal.sejong.ac.kr/jsp/login/login_action.jsp")
+        .formField("id", "20171234")
+        .build();
+
+    // When & Then
+    assertFalse(disabled.appliesTo(get));
+    assertTrue(enabled.appliesTo(get));
+    assertFalse(enabled.appliesTo(post));
+  }
+
+  @Test
+  void SSO_토큰_교환_요청은_헤징_제외() {
+    log.info("============ 헤징 대상 판정 - SSO 토큰 교환 ============");
+
+    // Given
+    SejongAuthProperties properties = new SejongAuthProperties();
+    properties.getHedge().setEnabled(true);
+    SejongHedgePolicy policy = new SejongHedgePolicy(properties);
+
+    SejongHttpRequest sso = SejongHttpRequest.get("https://sjpt.sejong.ac.kr/main/view/Login/doSsoLogin.do?p=")
+        .oneShot()
+        .build();
+
+    // When & Then
+    assertFalse(policy.appliesTo(sso));
+  }
+
+  @Test
+  void 헤징_시점은_최근_응답시간_백분위를_상하한으로_제한() {
+    log.info("============ 적응형 헤징 시점 ============");
+
+    // Given
+    SejongAuthProperties properties = new SejongAuthProperties();
+    properties.getHedge().setPercentile(90);
+    properties.getHedge().setInitialDelayMillis(700);
+    properties.getHedge().setMinDelayMillis(50);
+    properties.getHedge().setMaxDelayMillis(1000);
+    properties.getHedge().setMinSamples(10);
+    properties.getHedge().setWindowSize(10);
+    SejongHedgePolicy policy = new SejongHedgePolicy(properties);
+    SejongHedgePolicy.LatencyWindow window = new SejongHedgePolicy.LatencyWindow(10);
+
+    // When & Then: 표본 부족 시 초기값
+    assertEquals(700, policy.hedgeDelayMillis(window));
+
+    // 100 ~ 1000ms 표본의 90백분위
+    for (int i = 1; i <= 10; i++) {
+      window.record(i * 100L);
+    }
+    assertEquals(900, policy.hedgeDelayMillis(window));
+
+    // 빠른 응답만 남으면 하한 적용 (순환 버퍼로 오래된 표본 교체)
+    for (int i = 0; i < 10; i++) {
+      window.record(5);
+    }
+    assertEquals(50, policy.hedgeDelayMillis(window));
+
+    // 느린 응답만 남으면 상한 적용
+    for (int i = 0; i < 10; i++) {
+      window.record(5000);
+    }
+    assertEquals(1000, policy.hedgeDelayMillis(window));
+  }
+
+  @Test
+  void 응답이_늦으면_헤징_요청의_응답_사용() throws Exception {
+    log.info("============ 헤징 요청 전송 ============");
+
+    // Given: 원본 요청은 응답 없음, 헤징 요청은 바로 응답
+    SejongAuthMetrics metrics = new SejongAuthMetrics();
+    SejongHedgePolicy policy = new SejongHedgePolicy(hedgeProperties(1), metrics);
+    SejongStubTransport transport = new SejongStubTransport().on(URL, Reply.stall(), Reply.html("ok"));
+    SejongPortalSession session =
+        new SejongPortalSession("20171234", transport.newSession(), SejongDeadline.afterSeconds(5));
+
+    // When
+    try (SejongHttpResponse response = policy.enqueue(session, SejongHttpRequest.get(URL).build())
+        .get(3, TimeUnit.SECONDS)) {
+
+      // Then: 응답 없는 원본 대신 헤징 요청의 응답 사용
+      assertEquals(200, response.code());
+      assertEquals(2, transport.count(URL));
+      assertEquals(1, metrics.getHedges());
+      assertEquals(1, metrics.getHedgeWins());
+    }
+  }
+
+  @Test
+  void 헤징_예산이_없으면_원본_요청_결과를_그대로_전달() {
+    log.info("============ 헤징 예산 소진 ============");
+
+    // Given: 예산 0, 원본 요청은 전체 제한 시간까지 응답 없음
+    SejongAuthMetrics metrics = new SejongAuthMetrics();
+    SejongHedgePolicy policy = new SejongHedgePolicy(hedgeProperties(0), metrics);
+    SejongStubTransport transport = new SejongStubTransport().on(URL, Reply.stall());
+    SejongPortalSession session =
+        new SejongPortalSession("20171234", transport.newSession(), SejongDeadline.afterSeconds(1));
+
+    // When
+    CompletableFuture<SejongHttpResponse> future = policy.enqueue(session, SejongHttpRequest.get(URL).build());
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(3, TimeUnit.SECONDS));
+
+    // Then: 헤징 요청 없이 원본 요청의 실패로 완료
+    SejongAuthException cause = assertInstanceOf(SejongAuthException.class, exception.getCause());
+    assertEquals(SejongAuthErrorCode.CONNECTION_TIMEOUT, cause.getErrorCode());
+    assertEquals(1, transport.count(URL));
+    assertEquals(0, metrics.getHedges());
+    assertEquals(1, metrics.getHedgeBudgetExhausted());
+  }
+
+  /**
+   * 20ms 후 헤징하는 설정 (헤징 예산은 burst만큼, 적립 없음)
+   */
+  private static SejongAuthProperties hedgeProperties(int budgetBurst) {
+    SejongAuthProperties properties = new SejongAuthProperties();
+    properties.getHedge().setEnabled(true);
+    properties.getHedge().setInitialDelayMillis(20);
+    properties.getHedge().setMinDelayMillis(1);
+    properties.getHedge().setMaxDelayMillis(20);
+    properties.getHedge().setBudgetPercent(0);
+    properties.getHedge().setBudgetBurst(budgetBurst);
+    return properties;
+  }
+}
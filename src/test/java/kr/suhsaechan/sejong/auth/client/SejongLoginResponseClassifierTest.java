@@ -0,0 +1,127 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.io.InputStream;
+import java.net.HttpCookie;
+import java.net.URI;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import kr.suhsaechan.sejong.auth.transport.SejongOkHttpTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongLoginResponseClassifier 단위 테스트
+ * - login_action.jsp 응답 판정 테스트
+ */
+@Slf4j
+class SejongLoginResponseClassifierTest {
+
+  private static final String LOGIN_URL = "https://portal.sejong.ac.kr/jsp/login/login_action.jsp";
+
+  private SejongPortalSession session;
+
+  @BeforeEach
+  void setUp() {
+    SejongOkHttpTransport transport = new SejongOkHttpTransport(new SejongAuthProperties());
+    session = new SejongPortalSession("20171234", transport.newSession(), SejongDeadline.none());
+  }
+
+  @Test
+  void SSO토큰_쿠키_발급시_성공() {
+    log.info("============ 로그인 판정 - SSO 토큰 발급 ============");
+
+    // Given
+    HttpCookie ssoToken = new HttpCookie("ssotoken", "abc123");
+    ssoToken.setDomain(".sejong.ac.kr");
+    ssoToken.setPath("/");
+    session.getTransport().cookieStore().add(URI.create(LOGIN_URL), ssoToken);
+
+    // When
+    SejongLoginOutcome outcome = SejongLoginResponseClassifier.classify(session, response(LOGIN_URL), "");
+
+    // Then
+    assertEquals(SejongLoginOutcome.SUCCESS, outcome);
+  }
+
+  @Test
+  void 실패_문구_응답시_실패() {
+    log.info("============ 로그인 판정 - 실패 문구 ============");
+
+    // Given
+    String body = "<script>alert('아이디 또는 비밀번호를 확인해주세요.');history.back();</script>";
+
+    // When
+    SejongLoginOutcome outcome = SejongLoginResponseClassifier.classify(session, response(LOGIN_URL), body);
+
+    // Then
+    assertEquals(SejongLoginOutcome.FAILURE, outcome);
+  }
+
+  @Test
+  void 정상_로그인_페이지의_안내_문구는_보류() {
+    log.info("============ 로그인 판정 - 정상 페이지 안내 문구 ============");
+
+    // Given - 정상 로그인 페이지에도 있는 안내 문구/스크립트
+    String body = """
+        <html><body>
+        <p class="help">아이디 또는 비밀번호를 잊으셨나요?</p>
+        <script>
+          function loginFail() { location.href = '/jsp/login/login_fail.jsp'; }
+          function check(form) {
+            if (!form.id.value) { alert('아이디 또는 비밀번호를 입력하세요.'); return false; }
+            return true;
+          }
+        </script>
+        </body></html>
+        """;
+
+    // When
+    SejongLoginOutcome outcome = SejongLoginResponseClassifier.classify(session, response(LOGIN_URL), body);
+
+    // Then
+    assertEquals(SejongLoginOutcome.UNKNOWN, outcome);
+  }
+
+  @Test
+  void 판정_불가_응답시_보류() {
+    log.info("============ 로그인 판정 - 판정 보류 ============");
+
+    // When
+    SejongLoginOutcome outcome = SejongLoginResponseClassifier.classify(
+        session, response(LOGIN_URL), "<html><body>redirecting...</body></html>");
+
+    // Then
+    assertEquals(SejongLoginOutcome.UNKNOWN, outcome);
+  }
+
+  private SejongHttpResponse response(String url) {
+    return new SejongHttpResponse() {
+      @Override
+      public int code() {
+        return 200;
+      }
+
+      @Override
+      public String finalUrl() {
+        return url;
+      }
+
+      @Override
+      public String header(String name) {
+        return null;
+      }
+
+      @Override
+      public InputStream body() {
+        return InputStream.nullInputStream();
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+}
@@ -0,0 +1,205 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import javax.net.ssl.SSLHandshakeException;
+import kr.suhsaechan.sejong.auth.client.SejongStubTransport.Reply;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.transport.SejongBodyTooLargeException;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongRetryPolicy 단위 테스트
+ * - 재시도 대상 분류, 한 번만 전송하는 요청의 재시도 대상, 지수 백오프 + 지터 범위, 재시도 예산 테스트
+ * - 테스트용 전송 계층 응답으로 동기/비동기 재시도 흐름 테스트
+ */
+@Slf4j
+class SejongRetryPolicyTest {
+
+  private static final String URL = "https://classic.sejong.ac.kr/classic/reading/status.do";
+
+  @Test
+  void 일시적인_응답코드와_예외만_재시도() {
+    log.info("============ 재시도 대상 분류 ============");
+
+    assertTrue(SejongRetryPolicy.isRetryableStatus(503));
+    assertTrue(SejongRetryPolicy.isRetryableStatus(429));
+    assertFalse(SejongRetryPolicy.isRetryableStatus(401));
+    assertFalse(SejongRetryPolicy.isRetryableStatus(404));
+    assertFalse(SejongRetryPolicy.isRetryableStatus(501));
+
+    assertTrue(SejongRetryPolicy.isRetryableException(new SocketTimeoutException("timeout")));
+    assertTrue(SejongRetryPolicy.isRetryableException(new ConnectException("refused")));
+    assertTrue(SejongRetryPolicy.isRetryableException(new EOFException("unexpected end of stream")));
+    assertFalse(SejongRetryPolicy.isRetryableException(new SSLHandshakeException("handshake")));
+    assertFalse(SejongRetryPolicy.isRetryableException(new SejongBodyTooLargeException(1024)));
+    assertFalse(SejongRetryPolicy.isRetryableException(new IOException("Canceled")));
+    assertFalse(SejongRetryPolicy.isRetryableException(new IllegalStateException()));
+  }
+
+  @Test
+  void 한_번만_전송하는_요청은_연결_단계_실패만_재시도() {
+    log.info("============ 연결 단계 실패 분류 ============");
+
+    assertTrue(SejongRetryPolicy.isConnectFailure(new ConnectException("Failed to connect")));
+    assertTrue(SejongRetryPolicy.isConnectFailure(new UnknownHostException("sjpt.sejong.ac.kr")));
+    assertTrue(SejongRetryPolicy.isConnectFailure(new HttpConnectTimeoutException("HTTP connect timed out")));
+    assertTrue(SejongRetryPolicy.isConnectFailure(new SocketTimeoutException("Connect timed out")));
+    assertFalse(SejongRetryPolicy.isConnectFailure(new SocketTimeoutException("timeout")));
+    assertFalse(SejongRetryPolicy.isConnectFailure(new SocketTimeoutException("Read timed out")));
+    assertFalse(SejongRetryPolicy.isConnectFailure(new EOFException("unexpected end of stream")));
+    assertFalse(SejongRetryPolicy.isConnectFailure(new IOException("Canceled")));
+  }
+
+  @Test
+  void 백오프는_지수적으로_증가하고_상한과_지터_범위_안에_있음() {
+    log.info("============ 지수 백오프 + 지터 ============");
+
+    // Given
+    SejongAuthProperties properties = new SejongAuthProperties();
+    properties.getRetry().setInitialBackoffMillis(100);
+    properties.getRetry().setMaxBackoffMillis(1000);
+    properties.getRetry().setMultiplier(2.0);
+    properties.getRetry().setJitter(0.5);
+    SejongRetryPolicy policy = new SejongRetryPolicy(properties);
+
+    // When & Then
+    for (int i = 0; i < 100; i++) {
+      long first = policy.backoffMillis(1);
+      long third = policy.backoffMillis(3);
+      long capped = policy.backoffMillis(10);
+      assertTrue(first >= 50 && first <= 100, "1회차: " + first);
+      assertTrue(third >= 200 && third <= 400, "3회차: " + third);
+      assertTrue(capped >= 500 && capped <= 1000, "상한: " + capped);
+    }
+  }
+
+  @Test
+  void 재시도_예산_소진_후_요청이_쌓이면_다시_허용() {
+    log.info("============ 재시도 예산 ============");
+
+    // Given: 순간 허용 2회, 요청당 50% 적립
+    SejongAuthProperties properties = new SejongAuthProperties();
+    properties.getRetry().setBudgetBurst(2);
+    properties.getRetry().setBudgetPercent(50);
+    SejongRetryPolicy policy = new SejongRetryPolicy(properties);
+
+    // When & Then
+    assertTrue(policy.tryAcquireRetry());
+    assertTrue(policy.tryAcquireRetry());
+    assertFalse(policy.tryAcquireRetry());
+
+    policy.deposit();
+    assertFalse(policy.tryAcquireRetry());
+    policy.deposit();
+    assertTrue(policy.tryAcquireRetry());
+  }
+
+  @Test
+  void 일시적인_응답은_재시도_후_성공_응답_반환() throws IOException {
+    log.info("============ 재시도 흐름 (동기) ============");
+
+    // Given: 503 두 번 뒤 200
+    SejongAuthMetrics metrics = new SejongAuthMetrics();
+    SejongRetryPolicy policy = new SejongRetryPolicy(fastRetryProperties(), metrics);
+    SejongStubTransport transport = new SejongStubTransport()
+        .on(URL, Reply.status(503), Reply.status(503), Reply.html("ok"));
+
+    // When
+    try (SejongHttpResponse response = policy.execute(openSession(transport), SejongHttpRequest.get(URL).build())) {
+
+      // Then
+      assertEquals(200, response.code());
+    }
+    assertEquals(3, transport.count(URL));
+    assertEquals(2, metrics.getRetries());
+  }
+
+  @Test
+  void 일시적인_예외는_비동기로_재시도_후_성공_응답_반환() {
+    log.info("============ 재시도 흐름 (비동기) ============");
+
+    // Given: 연결 리셋 뒤 200
+    SejongAuthMetrics metrics = new SejongAuthMetrics();
+    SejongRetryPolicy policy = new SejongRetryPolicy(fastRetryProperties(), metrics);
+    SejongStubTransport transport = new SejongStubTransport()
+        .on(URL, Reply.fail(new IOException("Connection reset")), Reply.html("ok"));
+
+    // When
+    try (SejongHttpResponse response =
+        policy.executeAsync(openSession(transport), SejongHttpRequest.get(URL).build()).join()) {
+
+      // Then
+      assertEquals(200, response.code());
+    }
+    assertEquals(2, transport.count(URL));
+    assertEquals(1, metrics.getRetries());
+  }
+
+  @Test
+  void 재시도_횟수를_모두_쓰면_마지막_응답_반환() throws IOException {
+    log.info("============ 재시도 횟수 소진 ============");
+
+    // Given
+    SejongRetryPolicy policy = new SejongRetryPolicy(fastRetryProperties());
+    SejongStubTransport transport = new SejongStubTransport().on(URL, Reply.status(503));
+
+    // When
+    try (SejongHttpResponse response = policy.execute(openSession(transport), SejongHttpRequest.get(URL).build())) {
+
+      // Then: max-retry(3)회 시도 후 503 그대로 반환 (판정은 호출 측)
+      assertEquals(503, response.code());
+    }
+    assertEquals(3, transport.count(URL));
+  }
+
+  @Test
+  void 한_번만_전송하는_요청은_응답과_읽기_실패를_재시도하지_않음() throws IOException {
+    log.info("============ 한 번만 전송하는 요청 재시도 ============");
+
+    // Given
+    SejongRetryPolicy policy = new SejongRetryPolicy(fastRetryProperties());
+    SejongHttpRequest sso = SejongHttpRequest.get(URL).oneShot().build();
+    SejongStubTransport rejected = new SejongStubTransport().on(URL, Reply.status(503), Reply.html("ok"));
+    SejongStubTransport readFailed = new SejongStubTransport()
+        .on(URL, Reply.fail(new SocketTimeoutException("timeout")), Reply.html("ok"));
+    SejongStubTransport notConnected = new SejongStubTransport()
+        .on(URL, Reply.fail(new ConnectException("Failed to connect")), Reply.html("ok"));
+
+    // When & Then: 응답을 받았거나 읽기 중 실패하면 그대로 반환/실패
+    try (SejongHttpResponse response = policy.execute(openSession(rejected), sso)) {
+      assertEquals(503, response.code());
+    }
+    assertEquals(1, rejected.count(URL));
+
+    assertThrows(SocketTimeoutException.class, () -> policy.execute(openSession(readFailed), sso));
+    assertEquals(1, readFailed.count(URL));
+
+    // When & Then: 연결 단계 실패만 재시도
+    try (SejongHttpResponse response = policy.executeAsync(openSession(notConnected), sso).join()) {
+      assertEquals(200, response.code());
+    }
+    assertEquals(2, notConnected.count(URL));
+  }
+
+  private static SejongAuthProperties fastRetryProperties() {
+    SejongAuthProperties properties = new SejongAuthProperties();
+    properties.getRetry().setInitialBackoffMillis(1);
+    properties.getRetry().setMaxBackoffMillis(5);
+    return properties;
+  }
+
+  private static SejongPortalSession openSession(SejongStubTransport transport) {
+    return new SejongPortalSession("20171234", transport.newSession(), SejongDeadline.none());
+  }
+}
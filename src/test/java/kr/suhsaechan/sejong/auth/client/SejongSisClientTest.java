@@ -0,0 +1,109 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import kr.suhsaechan.sejong.auth.client.SejongStubTransport.Reply;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.model.SejongSisProfile;
+import kr.suhsaechan.sejong.auth.parser.SejongSisParser;
+import kr.suhsaechan.sejong.auth.util.SejongJson;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongSisClient 공유 세션 SSO 대체 테스트 (테스트용 전송 계층 사용, 네트워크 없음)
+ * - 공유 세션 SSO가 거부되면 sjpt 전용 로그인으로 대체하고 이후에는 바로 전용 로그인하는지 테스트
+ */
+@Slf4j
+class SejongSisClientTest {
+
+  private static final String LOGIN_URL = "https://portal.sejong.ac.kr/jsp/login/login_action.jsp";
+  private static final String SSO_URL = "https://sjpt.sejong.ac.kr/main/view/Login/doSsoLogin.do";
+  private static final String USER_INFO_URL = "https://sjpt.sejong.ac.kr/main/sys/UserInfo/initUserInfo.do";
+
+  private static final String USER_INFO_JSON = """
+      {
+        "dm_UserInfo": {"INTG_USR_NO": "20171234", "INTG_USR_NM": "홍길동"},
+        "dm_UserInfoGam": {"DEPT_NM": "컴퓨터공학과", "USER_EMAIL": "test@example.com"}
+      }
+      """;
+
+  private final SejongAuthProperties properties = new SejongAuthProperties();
+  private final SejongAuthMetrics metrics = new SejongAuthMetrics();
+  private final SejongSisParser parser = new SejongSisParser();
+  private SejongStubTransport transport;
+
+  @BeforeEach
+  void setUp() {
+    properties.getRetry().setInitialBackoffMillis(1);
+    properties.getRetry().setMaxBackoffMillis(5);
+    transport = new SejongStubTransport()
+        .on(LOGIN_URL, Reply.html("<html></html>").cookie("ssotoken", "token"))
+        .on(SSO_URL, Reply.html(""))
+        .on(USER_INFO_URL, Reply.json(USER_INFO_JSON));
+  }
+
+  @Test
+  void 공유_세션_SSO가_거부되면_이후에는_바로_전용_로그인() {
+    log.info("============ 공유 세션 SSO 거부 기억 ============");
+
+    // Given: 공유 세션의 첫 initUserInfo만 401
+    transport.on(USER_INFO_URL, Reply.status(401), Reply.json(USER_INFO_JSON));
+    SejongSisClient client = client();
+
+    // When
+    SejongSisProfile first = client.fetchUserInfoProfile(client.openSession("20171234"), "20171234", "password", parser);
+    SejongSisProfile second = client.fetchUserInfoProfile(client.openSession("20171234"), "20171234", "password", parser);
+
+    // Then: 첫 조회만 공유 세션 SSO 시도, 두 번째는 전용 로그인부터 시작
+    assertEquals("test@example.com", first.getEmail());
+    assertEquals("test@example.com", second.getEmail());
+    assertEquals(2, transport.count(LOGIN_URL));
+    assertEquals(3, transport.count(SSO_URL));
+    assertEquals(3, transport.count(USER_INFO_URL));
+    assertEquals(1, metrics.getSisLoginFallbacks());
+  }
+
+  @Test
+  void 공유_세션_SSO가_되면_전용_로그인_없이_조회() {
+    log.info("============ 공유 세션 SSO 성공 ============");
+
+    // Given
+    SejongSisClient client = client();
+
+    // When
+    SejongSisProfile profile =
+        client.fetchUserInfoProfile(client.openSession("20171234"), "20171234", "password", parser);
+
+    // Then
+    assertEquals("홍길동", profile.getName());
+    assertEquals(0, transport.count(LOGIN_URL));
+    assertEquals(0, metrics.getSisLoginFallbacks());
+  }
+
+  @Test
+  void 공유_세션_시도를_끄면_처음부터_전용_로그인() throws Exception {
+    log.info("============ 공유 세션 시도 비활성화 ============");
+
+    // Given
+    properties.setSisSharedLogin(false);
+    SejongSisClient client = client();
+
+    // When
+    SejongSisProfile profile = client.fetchUserInfoProfileAsync(client.openSession("20171234"), "20171234",
+        "password", parser, Runnable::run).get();
+
+    // Then: 로그인 1회 후 SSO/initUserInfo 각 1회
+    assertEquals("홍길동", profile.getName());
+    assertEquals(1, transport.count(LOGIN_URL));
+    assertEquals(1, transport.count(SSO_URL));
+    assertEquals(1, transport.count(USER_INFO_URL));
+    assertEquals(0, metrics.getSisLoginFallbacks());
+  }
+
+  private SejongSisClient client() {
+    return new SejongSisClient(properties, transport, new SejongRetryPolicy(properties), SejongJson.shared(), metrics);
+  }
+}
@@ -0,0 +1,323 @@
+package kr.suhsaechan.sejong.auth.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.CookieManager;
+import java.net.CookieStore;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpResponse;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpTransport;
+import kr.suhsaechan.sejong.auth.transport.SejongTransportSession;
+import kr.suhsaechan.sejong.auth.util.SejongExecutors;
+
+/**
+ * 테스트용 전송 계층
+ * - URL 접두사별로 미리 정한 응답을 돌려주고 받은 요청을 순서대로 기록 (네트워크 없음)
+ * - 비동기 요청은 별도 스레드에서 완료하여 HTTP 콜백 스레드를 흉내냄
+ * - 응답 대기(stall)는 세션 취소 또는 요청 제한 시간까지 완료되지 않음 (제한 시간 초과 시 OkHttp와 같은 "timeout")
+ */
+public class SejongStubTransport implements SejongHttpTransport {
+
+  private static final ExecutorService CALLBACKS =
+      Executors.newCachedThreadPool(SejongExecutors.daemonThreadFactory("sejong-stub-callback-"));
+  private static final ScheduledExecutorService TIMER =
+      Executors.newSingleThreadScheduledExecutor(SejongExecutors.daemonThreadFactory("sejong-stub-timer-"));
+
+  private final Map<String, Responder> routes = new LinkedHashMap<>();
+  private final List<StubSession> sessions = new CopyOnWriteArrayList<>();
+  private final List<String> requests = new CopyOnWriteArrayList<>();
+
+  /**
+   * 요청 처리 함수
+   */
+  @FunctionalInterface
+  public interface Responder {
+    Reply respond(SejongHttpRequest request);
+  }
+
+  /**
+   * URL 접두사에 응답 등록 (먼저 등록한 접두사 우선)
+   */
+  public synchronized SejongStubTransport on(String urlPrefix, Responder responder) {
+    routes.put(urlPrefix, responder);
+    return this;
+  }
+
+  /**
+   * URL 접두사에 순서대로 돌려줄 응답 등록 (마지막 응답은 이후에도 반복)
+   */
+  public SejongStubTransport on(String urlPrefix, Reply... replies) {
+    List<Reply> sequence = Arrays.asList(replies);
+    AtomicInteger calls = new AtomicInteger();
+    return on(urlPrefix, request -> sequence.get(Math.min(calls.getAndIncrement(), sequence.size() - 1)));
+  }
+
+  /**
+   * 받은 요청 목록 ("METHOD URL")
+   */
+  public List<String> requests() {
+    return new ArrayList<>(requests);
+  }
+
+  /**
+   * URL 접두사와 일치하는 요청 수
+   */
+  public long count(String urlPrefix) {
+    return requests.stream().filter(request -> request.substring(request.indexOf(' ') + 1).startsWith(urlPrefix))
+        .count();
+  }
+
+  /**
+   * 생성된 전송 세션 목록
+   */
+  public List<StubSession> sessions() {
+    return new ArrayList<>(sessions);
+  }
+
+  /**
+   * URL 접두사와 일치하는 요청이 들어올 때까지 대기
+   */
+  public void awaitRequest(String urlPrefix, long timeoutMillis) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    while (count(urlPrefix) == 0) {
+      if (System.currentTimeMillis() > deadline) {
+        throw new AssertionError("요청이 들어오지 않음: " + urlPrefix + ", 받은 요청: " + requests);
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  @Override
+  public SejongTransportSession newSession() {
+    StubSession session = new StubSession();
+    sessions.add(session);
+    return session;
+  }
+
+  @Override
+  public CompletableFuture<Void> prewarm() {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Void> prepare() {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public void close() {
+    // 정리할 자원 없음
+  }
+
+  private synchronized Reply reply(SejongHttpRequest request) {
+    for (Map.Entry<String, Responder> route : routes.entrySet()) {
+      if (request.getUrl().startsWith(route.getKey())) {
+        return route.getValue().respond(request);
+      }
+    }
+    return Reply.status(404);
+  }
+
+  /**
+   * 미리 정한 응답
+   */
+  public static final class Reply {
+
+    private final int code;
+    private final String body;
+    private final String contentType;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private final boolean stall;
+    private final IOException failure;
+
+    private Reply(int code, String body, String contentType, boolean stall, IOException failure) {
+      this.code = code;
+      this.body = body;
+      this.contentType = contentType;
+      this.stall = stall;
+      this.failure = failure;
+    }
+
+    /** 200 HTML 응답 */
+    public static Reply html(String body) {
+      return new Reply(200, body, "text/html; charset=UTF-8", false, null);
+    }
+
+    /** 200 JSON 응답 */
+    public static Reply json(String body) {
+      return new Reply(200, body, "application/json; charset=UTF-8", false, null);
+    }
+
+    /** 본문 없는 응답 */
+    public static Reply status(int code) {
+      return new Reply(code, "", null, false, null);
+    }
+
+    /** 세션 취소 또는 제한 시간 초과까지 응답하지 않음 */
+    public static Reply stall() {
+      return new Reply(0, null, null, true, null);
+    }
+
+    /** 요청 실패 */
+    public static Reply fail(IOException failure) {
+      return new Reply(0, null, null, false, failure);
+    }
+
+    /** 응답과 함께 .sejong.ac.kr 쿠키 발급 */
+    public Reply cookie(String name, String value) {
+      cookies.put(name, value);
+      return this;
+    }
+  }
+
+  /**
+   * 테스트용 전송 세션
+   */
+  public final class StubSession implements SejongTransportSession {
+
+    private final CookieManager cookieManager = new CookieManager();
+    private final Set<CompletableFuture<SejongHttpResponse>> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    @Override
+    public SejongHttpResponse execute(SejongHttpRequest request, long timeoutMillis) throws IOException {
+      try {
+        return executeAsync(request, timeoutMillis).get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("요청 중단: " + request.getPath());
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        }
+        throw (RuntimeException) cause;
+      }
+    }
+
+    @Override
+    public CompletableFuture<SejongHttpResponse> executeAsync(SejongHttpRequest request, long timeoutMillis) {
+      CompletableFuture<SejongHttpResponse> call = new CompletableFuture<>();
+      if (cancelled) {
+        call.completeExceptionally(new IOException("Canceled"));
+        return call;
+      }
+      requests.add(request.getMethod() + " " + request.getUrl());
+      pending.add(call);
+      call.whenComplete((response, error) -> pending.remove(call));
+      if (cancelled) {
+        call.completeExceptionally(new IOException("Canceled"));
+      }
+
+      Reply reply = reply(request);
+      if (reply.stall) {
+        if (timeoutMillis > 0) {
+          TIMER.schedule(() -> call.completeExceptionally(new InterruptedIOException("timeout")),
+              timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return call;
+      }
+      CALLBACKS.execute(() -> {
+        if (reply.failure != null) {
+          call.completeExceptionally(reply.failure);
+          return;
+        }
+        URI uri = URI.create(request.getUrl());
+        reply.cookies.forEach((name, value) -> {
+          HttpCookie cookie = new HttpCookie(name, value);
+          cookie.setDomain(".sejong.ac.kr");
+          cookie.setPath("/");
+          cookieManager.getCookieStore().add(uri, cookie);
+        });
+        call.complete(new StubResponse(request.getUrl(), reply));
+      });
+      return call;
+    }
+
+    @Override
+    public CookieStore cookieStore() {
+      return cookieManager.getCookieStore();
+    }
+
+    @Override
+    public int redirectHops() {
+      return 0;
+    }
+
+    @Override
+    public void cancelAll() {
+      cancelled = true;
+      pending.forEach(call -> call.completeExceptionally(new IOException("Canceled")));
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    /** 응답을 기다리는 요청 수 */
+    public int pendingCount() {
+      return pending.size();
+    }
+  }
+
+  /**
+   * 미리 정한 응답 래퍼
+   */
+  private static final class StubResponse implements SejongHttpResponse {
+
+    private final String url;
+    private final Reply reply;
+    private final InputStream body;
+
+    private StubResponse(String url, Reply reply) {
+      this.url = url;
+      this.reply = reply;
+      this.body = new ByteArrayInputStream(reply.body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int code() {
+      return reply.code;
+    }
+
+    @Override
+    public String finalUrl() {
+      return url;
+    }
+
+    @Override
+    public String header(String name) {
+      return "Content-Type".equalsIgnoreCase(name) ? reply.contentType : null;
+    }
+
+    @Override
+    public InputStream body() {
+      return body;
+    }
+
+    @Override
+    public void close() {
+      // 메모리 본문이므로 정리할 자원 없음
+    }
+  }
+}
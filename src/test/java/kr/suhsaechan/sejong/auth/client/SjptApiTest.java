@@ -771,6 +771,36 @@ class SjptApiTest {
     log.info("   - 상세 학적정보");
   }
 
+  /**
+   * 고전독서(classic) rtUrl로 로그인한 세션의 sjpt SSO 확인
+   * - 통합 인증은 DHC용 로그인 세션으로 SIS를 조회하므로, 이 세션으로 initUserInfo.do가 열리는지 확인
+   * - 열리지 않으면 SejongSisClient가 sjpt rtUrl로 별도 로그인하여 조회
+   */
+  @Test
+  @Disabled("실제 포털 연동 테스트 - 로컬에서만 실행")
+  void classic_rtUrl_로그인세션_sjpt_SSO_테스트() throws IOException {
+    log.info("============ classic rtUrl 로그인 세션으로 sjpt SSO 테스트 ============");
+
+    // STEP 1: 고전독서 rtUrl로 포털 로그인 (SejongPortalClient와 같은 요청)
+    log.info("\n>>> STEP 1: 포털 로그인 (rtUrl=classic.sejong.ac.kr)");
+    doPortalLogin("classic.sejong.ac.kr");
+
+    // STEP 2: sjpt SSO 페이지 접근
+    log.info("\n>>> STEP 2: SSO 페이지 접근");
+    accessSjptSsoPage();
+
+    // STEP 3: initUserInfo.do 호출
+    log.info("\n>>> STEP 3: initUserInfo.do 호출");
+    String initResponse = callInitUserInfo();
+
+    // 응답 검증 - 로그인 세션이 sjpt SSO에도 유효하면 사용자 정보 JSON이 옴
+    assertNotNull(initResponse, "initUserInfo 응답이 있어야 합니다");
+    assertTrue(initResponse.contains("\"INTG_USR_NO\""),
+        "classic rtUrl 로그인 세션으로 initUserInfo 사용자 정보가 조회되어야 합니다");
+
+    log.info("initUserInfo 응답 길이: {} 바이트", initResponse.length());
+  }
+
   @Test
   @Disabled("doCheck.do, doList.do 접근 불가 - pgmRole 세션 필요")
   void doCheckDoList_pgmRole_세션_필요_테스트() throws IOException {
@@ -2040,9 +2070,16 @@ class SjptApiTest {
    */
   private String doPortalLogin() throws IOException {
     // rtUrl을 sjpt로 설정
+    return doPortalLogin("sjpt.sejong.ac.kr/main/view/Login/doSsoLogin.do?p=");
+  }
+
+  /**
+   * 포털 로그인 수행 (로그인 후 이동할 rtUrl 지정)
+   */
+  private String doPortalLogin(String rtUrl) throws IOException {
     RequestBody formBody = new FormBody.Builder()
         .add("mainLogin", "N")
-        .add("rtUrl", "sjpt.sejong.ac.kr/main/view/Login/doSsoLogin.do?p=")
+        .add("rtUrl", rtUrl)
         .add("id", testStudentId)
         .add("password", testPassword)
         .build();
@@ -0,0 +1,72 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import kr.suhsaechan.sejong.auth.model.SejongClassicReading;
+import kr.suhsaechan.sejong.auth.model.SejongStudentInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongClassicSectionIndex 단위 테스트
+ * - 제목별로 테이블 행을 모으고, 같은 색인을 두 파서가 공유할 수 있는지 테스트
+ */
+@Slf4j
+class SejongClassicSectionIndexTest {
+
+  private static final String HTML = """
+      <html><body>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">사용자 정보</h4>
+          <table class="b-board-table"><tbody>
+            <tr><th>학과명</th><td>컴퓨터공학과</td></tr>
+            <tr><th>학번</th><td>20171234</td></tr>
+            <tr><th>이름</th><td>홍길동</td></tr>
+          </tbody></table>
+        </div>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">영역별 인증현황</h4>
+          <table class="b-board-table">
+            <thead><tr><th>영역</th><th>기준</th><th>인증</th></tr></thead>
+            <tbody>
+              <tr><th>서양의 역사와 사상</th><td>4</td><td>2</td></tr>
+              <tr><th>동양의 역사와 사상</th><td>2</td><td>1</td></tr>
+            </tbody>
+          </table>
+        </div>
+      </body></html>
+      """;
+
+  @Test
+  void 제목별_테이블_행_색인() {
+    log.info("============ 제목별 테이블 행 색인 ============");
+
+    // When
+    SejongClassicSectionIndex index = SejongClassicSectionIndex.of(Jsoup.parse(HTML));
+
+    // Then: tbody 행만 포함, 없는 섹션은 빈 목록
+    assertEquals(3, index.rows(SejongClassicSection.USER_INFO).size());
+    assertEquals(2, index.rows(SejongClassicSection.CERTIFICATION).size());
+    assertTrue(index.rows(SejongClassicSection.EXAM).isEmpty());
+    assertFalse(index.contains(SejongClassicSection.EXAM));
+  }
+
+  @Test
+  void 색인_공유_파싱() {
+    log.info("============ 색인 공유 파싱 ============");
+
+    // Given
+    SejongClassicSectionIndex index = SejongClassicSectionIndex.of(Jsoup.parse(HTML));
+
+    // When
+    SejongStudentInfo info = new SejongStudentInfoParser().parse(index);
+    SejongClassicReading reading = new SejongClassicReadingParser().parse(index);
+
+    // Then
+    assertEquals("홍길동", info.getName());
+    assertEquals(2, reading.getCertifications().size());
+    assertEquals("서양의 역사와 사상", reading.getCertifications().get(0).getArea());
+    assertTrue(reading.getExamRecords().isEmpty());
+  }
+}
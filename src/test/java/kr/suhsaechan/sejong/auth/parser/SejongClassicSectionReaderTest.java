@@ -0,0 +1,72 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.EnumSet;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongClassicSectionReader 단위 테스트
+ * - 필요한 섹션까지만 읽고 파싱을 중단하는지 테스트
+ */
+@Slf4j
+class SejongClassicSectionReaderTest {
+
+  private static final String BASE_URI = "https://classic.sejong.ac.kr/classic/reading/status.do";
+
+  private static final String HTML = """
+      <html><body>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">사용자 정보</h4>
+          <table class="b-board-table"><tbody>
+            <tr><th>학과명</th><td>컴퓨터공학과</td></tr>
+            <tr><th>학번</th><td>20171234</td></tr>
+            <tr><th>이름</th><td>홍길동</td></tr>
+          </tbody></table>
+        </div>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">영역별 인증현황</h4>
+          <table class="b-board-table"><tbody>
+            <tr><th>서양의 역사와 사상</th><td>4</td><td>2</td></tr>
+          </tbody></table>
+        </div>
+        <div id="footer">페이지 하단</div>
+      </body></html>
+      """;
+
+  @Test
+  void 요청한_섹션을_읽으면_파싱_중단() throws IOException {
+    log.info("============ 필요한 섹션까지만 파싱 ============");
+
+    // When
+    Document doc = SejongClassicSectionReader.parse(
+        new StringReader(HTML), BASE_URI, EnumSet.of(SejongClassicSection.USER_INFO));
+
+    // Then: 사용자 정보는 파싱되고 이후 본문은 읽지 않음
+    assertEquals("컴퓨터공학과", new SejongStudentInfoParser().parse(doc).getMajor());
+    assertNull(doc.selectFirst("#footer"));
+  }
+
+  @Test
+  void 전체_섹션_요청시_모든_섹션_파싱() throws IOException {
+    log.info("============ 전체 섹션 파싱 ============");
+
+    // When
+    Document doc = SejongClassicSectionReader.parse(new StringReader(HTML), BASE_URI, SejongClassicSection.ALL);
+
+    // Then: 일부 섹션이 페이지에 없으면 문서 끝까지 파싱
+    assertEquals("홍길동", new SejongStudentInfoParser().parse(doc).getName());
+    assertEquals(2, doc.select(".b-con-box").size());
+    assertNotNull(doc.selectFirst("#footer"));
+  }
+
+  @Test
+  void 섹션_제목으로_섹션_조회() {
+    assertEquals(SejongClassicSection.EXAM, SejongClassicSection.fromHeading("  인증 시험 현황 "));
+    assertNull(SejongClassicSection.fromHeading("공지사항"));
+  }
+}
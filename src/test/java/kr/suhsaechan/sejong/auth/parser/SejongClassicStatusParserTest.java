@@ -0,0 +1,126 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.model.SejongClassicReading;
+import kr.suhsaechan.sejong.auth.model.SejongStudentInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongClassicStatusParser 단위 테스트
+ * - 빠른 파싱 결과가 Jsoup 파싱 결과와 같은지, 구조가 다르면 Jsoup으로 대체하는지 테스트
+ */
+@Slf4j
+class SejongClassicStatusParserTest {
+
+  private static final String BASE_URI = "https://classic.sejong.ac.kr/classic/reading/status.do";
+
+  private static final String HTML = """
+      <!DOCTYPE html>
+      <html><head>
+        <script>var box = "<div class='b-con-box'>";</script>
+      </head><body>
+        <!-- <div class="b-con-box"><h4 class="b-h4-tit01">사용자 정보</h4></div> -->
+        <div class="b-con-box mt20">
+          <h4 class="b-h4-tit01">사용자 정보</h4>
+          <div class="table-wrap">
+            <table class="b-board-table"><tbody>
+              <tr><th scope="row">학과명</th><td>컴퓨터공학과</td></tr>
+              <tr><th>학번</th><td> 20171234 </td></tr>
+              <tr><th>이름</th><td><span>홍&nbsp;길동</span></td></tr>
+              <tr><th>학년</th><td>4</td></tr>
+              <tr><th>사용자 상태</th><td>재학<br/>(휴학 0회)</td></tr>
+            </tbody></table>
+          </div>
+        </div>
+        <div class='b-con-box'>
+          <h4 class='b-h4-tit01'>영역별 인증현황</h4>
+          <table class="b-board-table">
+            <thead><tr><th>영역</th><th>기준</th><th>인증</th></tr></thead>
+            <tbody>
+              <tr><th>서양의 역사와 사상</th><td>4</td><td>2</td></tr>
+              <tr><th>동양의 역사와 사상</th><td>2</td><td>&nbsp;</td></tr>
+            </tbody>
+          </table>
+        </div>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">인증 시험 현황</h4>
+          <table class="b-board-table"><tbody>
+            <tr><td>2023-1</td><td>서양</td><td>국가 &lt;플라톤&gt;</td><td>2023.04.01</td><td>85</td><td>합격</td></tr>
+            <tr><td>2023-2</td><td>동양</td><td></td><td>2023.10.01</td><td> </td><td>불합격</td></tr>
+          </tbody></table>
+        </div>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">대회 인증 현황</h4>
+          <table class="b-board-table">
+            <tr><td>2022-2</td><td>독서토론대회</td><td>과학</td><td>코스모스</td>
+            <tr><td>2023-1</td><td>독후감</td><td>서양</td><td>햄릿</td>
+          </table>
+        </div>
+      </body></html>
+      """;
+
+  @Test
+  void 빠른_파싱_결과가_Jsoup_파싱과_같음() throws IOException {
+    log.info("============ 빠른 파싱 결과 비교 ============");
+
+    // Given
+    SejongAuthMetrics metrics = new SejongAuthMetrics();
+    SejongClassicStatusParser parser = new SejongClassicStatusParser(new SejongAuthProperties(), metrics);
+
+    // When
+    SejongClassicSectionIndex fast = parser.parse(new StringReader(HTML), BASE_URI);
+    SejongClassicSectionIndex jsoup = SejongClassicSectionIndex.of(Jsoup.parse(HTML, BASE_URI));
+
+    // Then: 대체 파싱 없이 같은 결과
+    assertEquals(1, metrics.getClassicFastParses());
+    assertEquals(0, metrics.getClassicParseFallbacks());
+    assertSameResult(jsoup, fast);
+
+    SejongStudentInfo info = new SejongStudentInfoParser().parse(fast);
+    assertEquals("홍 길동", info.getName());
+    assertEquals("재학 (휴학 0회)", info.getStatus());
+  }
+
+  @Test
+  void 구조가_다르면_Jsoup으로_대체() {
+    log.info("============ 구조 불일치 시 대체 파싱 ============");
+
+    // Given: 셀 안에 블록 태그 (빠른 파싱 미지원)
+    String html = HTML.replace("<td>4</td><td>2</td>", "<td><p>4</p></td><td>2</td>");
+    SejongAuthMetrics metrics = new SejongAuthMetrics();
+    SejongClassicStatusParser parser = new SejongClassicStatusParser(new SejongAuthProperties(), metrics);
+
+    // When
+    SejongClassicSectionIndex sections = parser.parse(html, BASE_URI);
+
+    // Then: 대체 파싱 결과는 Jsoup 파싱과 같음
+    assertEquals(0, metrics.getClassicFastParses());
+    assertEquals(1, metrics.getClassicParseFallbacks());
+    assertSameResult(SejongClassicSectionIndex.of(Jsoup.parse(html, BASE_URI)), sections);
+  }
+
+  private void assertSameResult(SejongClassicSectionIndex expected, SejongClassicSectionIndex actual) {
+    SejongStudentInfoParser studentInfoParser = new SejongStudentInfoParser();
+    assertEquals(studentInfoParser.parse(expected).toString(), studentInfoParser.parse(actual).toString());
+
+    SejongClassicReadingParser readingParser = new SejongClassicReadingParser();
+    SejongClassicReading expectedReading = readingParser.parse(expected);
+    SejongClassicReading actualReading = readingParser.parse(actual);
+    for (SejongClassicSection section : SejongClassicSection.values()) {
+      assertEquals(expected.contains(section), actual.contains(section), section.name());
+    }
+    assertEquals(expectedReading.getCertifications().get(1).getCertifiedCount(),
+        actualReading.getCertifications().get(1).getCertifiedCount());
+    assertEquals(expectedReading.getExamRecords().size(), actualReading.getExamRecords().size());
+    assertEquals(expectedReading.getExamRecords().get(0).getBookTitle(),
+        actualReading.getExamRecords().get(0).getBookTitle());
+    assertEquals(expectedReading.getContestRecords().size(), actualReading.getContestRecords().size());
+  }
+}
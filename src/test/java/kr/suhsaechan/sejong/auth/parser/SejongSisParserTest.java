@@ -1,6 +1,10 @@
 package kr.suhsaechan.sejong.auth.parser;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
 import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.model.SejongSisProfile;
+import kr.suhsaechan.sejong.auth.util.SejongJson;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -257,4 +261,93 @@ class SejongSisParserTest {
 
     log.info("파싱 결과: email={}, phoneNumber={}, englishName={}", email, phoneNumber, englishName);
   }
+
+  @Test
+  void 사용자정보_전체_파싱_개별_파싱과_동일() {
+    log.info("============ 사용자정보 전체 파싱 - 개별 파싱 결과와 비교 ============");
+
+    // Given - 사용하지 않는 섹션/필드와 중첩 값은 건너뜀
+    String json = """
+        {
+          "dm_Menu": [{"MENU_ID": "1", "SUB": {"MENU_ID": "2"}}],
+          "dm_UserInfo": {
+            "INTG_USR_NO": "20171234",
+            "INTG_USR_NM": "홍길동",
+            "INTG_ENG_NM": "",
+            "EXTRA": {"NESTED": [1, 2, 3]}
+          },
+          "dm_UserInfoGam": {
+            "USER_EMAIL": "test@example.com",
+            "USER_PHONE_NO1": "010",
+            "USER_PHONE_NO2": null,
+            "USER_PHONE_NO3": "5678"
+          },
+          "dm_UserInfoSch": {
+            "DEPT_NM": "소프트웨어학과",
+            "NM_ENG": "Hong Gildong Backup"
+          }
+        }
+        """;
+
+    // When
+    SejongSisProfile profile = parser.parseProfile(json);
+
+    // Then
+    assertEquals(parser.parseMajor(json), profile.getMajor());
+    assertEquals(parser.parseStudentId(json), profile.getStudentId());
+    assertEquals(parser.parseName(json), profile.getName());
+    assertEquals(parser.parseEnglishName(json), profile.getEnglishName());
+    assertEquals(parser.parseEmail(json), profile.getEmail());
+    assertEquals(parser.parsePhoneNumber(json), profile.getPhoneNumber());
+    assertEquals("소프트웨어학과", profile.getMajor());
+    assertEquals("Hong Gildong Backup", profile.getEnglishName());
+    assertEquals("010-5678", profile.getPhoneNumber());
+
+    log.info("파싱 결과: {}", profile);
+  }
+
+  @Test
+  void 사용자정보_전체_파싱_dm_UserInfo_없음() {
+    log.info("============ 사용자정보 전체 파싱 - dm_UserInfo 없음 ============");
+
+    // Given
+    String json = """
+        {
+          "dm_UserInfoGam": {
+            "USER_EMAIL": "test@example.com"
+          }
+        }
+        """;
+
+    // When & Then
+    SejongAuthException e = assertThrows(SejongAuthException.class, () -> parser.parseProfile(json));
+    assertEquals(SejongAuthErrorCode.PARSE_ERROR, e.getErrorCode());
+  }
+
+  @Test
+  void 주어진_ObjectMapper로_파싱() {
+    log.info("============ 주어진 ObjectMapper로 파싱 ============");
+
+    // Given
+    ObjectMapper objectMapper = new ObjectMapper();
+    SejongJson sejongJson = new SejongJson(objectMapper);
+    SejongSisParser sharedParser = new SejongSisParser(sejongJson);
+    String json = """
+        {
+          "dm_UserInfo": {
+            "INTG_USR_NO": "20171234",
+            "INTG_USR_NM": "홍길동"
+          }
+        }
+        """;
+
+    // When
+    SejongSisProfile profile = sharedParser.parseProfile(sharedParser.readTree(json));
+
+    // Then
+    assertSame(objectMapper, sejongJson.getObjectMapper());
+    assertSame(SejongJson.shared(), SejongJson.shared());
+    assertEquals("20171234", profile.getStudentId());
+    assertEquals("홍길동", profile.getName());
+  }
 }
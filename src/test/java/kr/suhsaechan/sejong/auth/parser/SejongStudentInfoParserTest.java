@@ -0,0 +1,64 @@
+package kr.suhsaechan.sejong.auth.parser;
+
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.model.SejongStudentInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongStudentInfoParser 단위 테스트
+ * - 사용자 정보 테이블을 한 번에 SejongStudentInfo로 파싱하는지 테스트
+ */
+@Slf4j
+class SejongStudentInfoParserTest {
+
+  private static final String HTML = """
+      <html><body>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">사용자 정보</h4>
+          <table class="b-board-table"><tbody>
+            <tr><th>학과명</th><td>컴퓨터공학과</td></tr>
+            <tr><th>학번</th><td>20171234</td></tr>
+            <tr><th>이름</th><td>홍길동</td></tr>
+            <tr><th>학년</th><td>4</td></tr>
+            <tr><th>사용자 상태</th><td>재학</td></tr>
+          </tbody></table>
+        </div>
+      </body></html>
+      """;
+
+  private final SejongStudentInfoParser parser = new SejongStudentInfoParser();
+
+  @Test
+  void 사용자_정보_전체_파싱() {
+    log.info("============ 사용자 정보 전체 파싱 ============");
+
+    // Given
+    Document doc = Jsoup.parse(HTML);
+
+    // When
+    SejongStudentInfo info = parser.parse(doc);
+
+    // Then: 개별 파싱 메서드와 같은 결과
+    assertEquals("컴퓨터공학과", info.getMajor());
+    assertEquals("20171234", info.getStudentId());
+    assertEquals("홍길동", info.getName());
+    assertEquals("4", info.getGrade());
+    assertEquals("재학", info.getStatus());
+    assertEquals(parser.parseName(HTML), info.getName());
+  }
+
+  @Test
+  void 사용자_정보_테이블이_없으면_파싱_오류() {
+    log.info("============ 사용자 정보 테이블 없음 ============");
+
+    SejongAuthException e = assertThrows(SejongAuthException.class,
+        () -> parser.parse("<html><body><p>로그인이 필요합니다.</p></body></html>"));
+    assertEquals(SejongAuthErrorCode.PARSE_ERROR, e.getErrorCode());
+  }
+}
@@ -0,0 +1,106 @@
+package kr.suhsaechan.sejong.auth.service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import kr.suhsaechan.sejong.auth.client.SejongStubTransport;
+import kr.suhsaechan.sejong.auth.client.SejongStubTransport.Reply;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.model.SejongAuthResult;
+import kr.suhsaechan.sejong.auth.util.SejongExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReactiveSuhSejongAuthEngine 테스트 (테스트용 전송 계층 사용, 네트워크 없음)
+ * - Mono 결과 전달과 구독 취소 시 진행 중인 요청 취소 테스트
+ */
+@Slf4j
+class ReactiveSuhSejongAuthEngineTest {
+
+  private final SejongAuthProperties properties = new SejongAuthProperties();
+  private SejongStubTransport transport;
+  private ExecutorService executor;
+  private ReactiveSuhSejongAuthEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    properties.getRetry().setInitialBackoffMillis(1);
+    properties.getRetry().setMaxBackoffMillis(5);
+    transport = SuhSejongAuthEngineFlowTest.portalStub(properties);
+    executor = SejongExecutors.newExecutor("sejong-auth-test-", 4);
+    engine = new ReactiveSuhSejongAuthEngine(SuhSejongAuthEngineFlowTest.engine(properties, transport, executor));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void 통합_인증_결과를_Mono로_전달() {
+    log.info("============ Reactive 통합 인증 ============");
+
+    // When
+    SejongAuthResult result = engine.authenticate(SuhSejongAuthEngineFlowTest.STUDENT_ID,
+        SuhSejongAuthEngineFlowTest.PASSWORD).block(Duration.ofSeconds(5));
+
+    // Then
+    assertNotNull(result);
+    assertEquals("홍길동", result.getName());
+    assertEquals("test@example.com", result.getEmail());
+  }
+
+  @Test
+  void 구독_전에는_요청을_보내지_않음() {
+    log.info("============ Reactive 지연 실행 ============");
+
+    // When
+    engine.authenticateWithDHC(SuhSejongAuthEngineFlowTest.STUDENT_ID, SuhSejongAuthEngineFlowTest.PASSWORD);
+
+    // Then
+    assertTrue(transport.requests().isEmpty());
+  }
+
+  @Test
+  void 인증_실패는_SejongAuthException_에러_시그널() {
+    log.info("============ Reactive 인증 실패 ============");
+
+    // When
+    SejongAuthException exception = assertThrows(SejongAuthException.class, () -> engine
+        .authenticateWithDHC(SuhSejongAuthEngineFlowTest.STUDENT_ID, SuhSejongAuthEngineFlowTest.WRONG_PASSWORD)
+        .block(Duration.ofSeconds(5)));
+
+    // Then
+    assertEquals(SejongAuthErrorCode.AUTHENTICATION_FAILED, exception.getErrorCode());
+  }
+
+  @Test
+  void 구독_취소_시_진행_중인_요청_취소() throws InterruptedException {
+    log.info("============ Reactive 구독 취소 ============");
+
+    // Given: 고전독서 페이지 응답 없음
+    transport.on(properties.getClassicStatusUrl(), Reply.stall());
+    Disposable subscription = engine.authenticateWithDHC(SuhSejongAuthEngineFlowTest.STUDENT_ID,
+        SuhSejongAuthEngineFlowTest.PASSWORD).subscribe();
+    transport.awaitRequest(properties.getClassicStatusUrl(), 5000);
+
+    // When
+    subscription.dispose();
+
+    // Then
+    SejongStubTransport.StubSession session = transport.sessions().get(0);
+    long deadline = System.currentTimeMillis() + 1000;
+    while (!session.isCancelled() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(session.isCancelled());
+    assertEquals(0, session.pendingCount());
+  }
+}
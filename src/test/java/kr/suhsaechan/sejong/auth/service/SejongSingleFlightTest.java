@@ -0,0 +1,116 @@
+package kr.suhsaechan.sejong.auth.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongSingleFlight 단위 테스트
+ * - 동일 요청 병합 및 취소 전파 테스트
+ */
+@Slf4j
+class SejongSingleFlightTest {
+
+  private final SejongSingleFlight singleFlight = new SejongSingleFlight();
+
+  @Test
+  void 동시_동일요청_한번만_실행() throws Exception {
+    log.info("============ 동일 요청 병합 (동기) ============");
+
+    // Given
+    String key = singleFlight.key("dhc", "20171234", "password");
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    try {
+      // When
+      Future<String> first = pool.submit(() -> singleFlight.execute(key, () -> {
+        executions.incrementAndGet();
+        started.countDown();
+        await(release);
+        return "result";
+      }));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      Future<String> second = pool.submit(() -> singleFlight.execute(key, () -> {
+        executions.incrementAndGet();
+        return "other";
+      }));
+      Thread.sleep(100);
+      release.countDown();
+
+      // Then
+      assertEquals("result", first.get(5, TimeUnit.SECONDS));
+      assertEquals("result", second.get(5, TimeUnit.SECONDS));
+      assertEquals(1, executions.get());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void 비밀번호가_다르면_다른키() {
+    log.info("============ 병합 키 - 비밀번호 구분 ============");
+
+    String key = singleFlight.key("dhc", "20171234", "password");
+
+    assertEquals(key, singleFlight.key("dhc", "20171234", "password"));
+    assertNotEquals(key, singleFlight.key("dhc", "20171234", "password2"));
+    assertNotEquals(key, singleFlight.key("sis", "20171234", "password"));
+    assertFalse(key.contains("password"));
+  }
+
+  @Test
+  void 일부_대기자_취소시_상류요청_유지() {
+    log.info("============ 동일 요청 병합 (비동기 취소) ============");
+
+    // Given
+    String key = singleFlight.key("dhc", "20171234", "password");
+    CompletableFuture<String> upstream = new CompletableFuture<>();
+    CompletableFuture<String> first = singleFlight.executeAsync(key, () -> upstream);
+    CompletableFuture<String> second = singleFlight.executeAsync(key, CompletableFuture::new);
+
+    // When
+    first.cancel(true);
+    upstream.complete("result");
+
+    // Then
+    assertFalse(upstream.isCancelled());
+    assertEquals("result", second.join());
+  }
+
+  @Test
+  void 모든_대기자_취소시_상류요청_취소() {
+    log.info("============ 동일 요청 병합 (전체 취소) ============");
+
+    // Given
+    String key = singleFlight.key("dhc", "20171234", "password");
+    CompletableFuture<String> upstream = new CompletableFuture<>();
+    CompletableFuture<String> first = singleFlight.executeAsync(key, () -> upstream);
+    CompletableFuture<String> second = singleFlight.executeAsync(key, CompletableFuture::new);
+
+    // When
+    first.cancel(true);
+    second.cancel(true);
+
+    // Then
+    assertTrue(upstream.isCancelled());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
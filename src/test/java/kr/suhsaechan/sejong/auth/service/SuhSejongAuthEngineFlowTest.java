@@ -0,0 +1,334 @@
+package kr.suhsaechan.sejong.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.sejong.auth.client.SejongPortalClient;
+import kr.suhsaechan.sejong.auth.client.SejongRetryPolicy;
+import kr.suhsaechan.sejong.auth.client.SejongSisClient;
+import kr.suhsaechan.sejong.auth.client.SejongStubTransport;
+import kr.suhsaechan.sejong.auth.client.SejongStubTransport.Reply;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthErrorCode;
+import kr.suhsaechan.sejong.auth.exception.SejongAuthException;
+import kr.suhsaechan.sejong.auth.model.SejongAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongBulkAuthItem;
+import kr.suhsaechan.sejong.auth.model.SejongBulkAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongCredential;
+import kr.suhsaechan.sejong.auth.model.SejongDhcAuthResult;
+import kr.suhsaechan.sejong.auth.model.SejongVerifyResult;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicReadingParser;
+import kr.suhsaechan.sejong.auth.parser.SejongClassicStatusParser;
+import kr.suhsaechan.sejong.auth.parser.SejongSisParser;
+import kr.suhsaechan.sejong.auth.parser.SejongStudentInfoParser;
+import kr.suhsaechan.sejong.auth.transport.SejongHttpRequest;
+import kr.suhsaechan.sejong.auth.util.SejongExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SuhSejongAuthEngine 흐름 테스트 (테스트용 전송 계층 사용, 네트워크 없음)
+ * - 병렬/비동기 통합 인증과 취소, 전체 제한 시간 초과, 인증 확인 조기 종료, 일괄 인증 항목별 결과 테스트
+ */
+@Slf4j
+class SuhSejongAuthEngineFlowTest {
+
+  static final String STUDENT_ID = "20171234";
+  static final String PASSWORD = "password";
+  static final String WRONG_PASSWORD = "wrong";
+
+  static final String SJPT_SSO_URL = "https://sjpt.sejong.ac.kr/main/view/Login/doSsoLogin.do";
+  static final String SJPT_USER_INFO_URL = "https://sjpt.sejong.ac.kr/main/sys/UserInfo/initUserInfo.do";
+
+  static final String LOGIN_FAILURE_PAGE =
+      "<script>alert('아이디 또는 비밀번호를 확인하세요.'); history.back();</script>";
+
+  static final String CLASSIC_STATUS_HTML = """
+      <html><body>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">사용자 정보</h4>
+          <table class="b-board-table"><tbody>
+            <tr><th>학과명</th><td>컴퓨터공학과</td></tr>
+            <tr><th>학번</th><td>20171234</td></tr>
+            <tr><th>이름</th><td>홍길동</td></tr>
+            <tr><th>학년</th><td>4</td></tr>
+            <tr><th>사용자 상태</th><td>재학</td></tr>
+          </tbody></table>
+        </div>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">영역별 인증현황</h4>
+          <table class="b-board-table">
+            <thead><tr><th>영역</th><th>기준</th><th>인증</th></tr></thead>
+            <tbody>
+              <tr><th>서양의 역사와 사상</th><td>4</td><td>2</td></tr>
+              <tr><th>동양의 역사와 사상</th><td>2</td><td>1</td></tr>
+            </tbody>
+          </table>
+        </div>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">인증 시험 현황</h4>
+          <table class="b-board-table"><tbody>
+            <tr><td>2023-1</td><td>서양</td><td>국가</td><td>2023.04.01</td><td>85</td><td>합격</td></tr>
+          </tbody></table>
+        </div>
+        <div class="b-con-box">
+          <h4 class="b-h4-tit01">대회 인증 현황</h4>
+          <table class="b-board-table">
+            <tr><td>2022-2</td><td>독서토론대회</td><td>과학</td><td>코스모스</td></tr>
+          </table>
+        </div>
+      </body></html>
+      """;
+
+  static final String USER_INFO_JSON = """
+      {
+        "dm_UserInfo": {"INTG_USR_NO": "20171234", "INTG_USR_NM": "홍길동", "INTG_ENG_NM": "Hong Gildong"},
+        "dm_UserInfoGam": {"DEPT_NM": "컴퓨터공학과", "USER_EMAIL": "test@example.com"}
+      }
+      """;
+
+  private final SejongAuthProperties properties = new SejongAuthProperties();
+  private SejongStubTransport transport;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    properties.getRetry().setInitialBackoffMillis(1);
+    properties.getRetry().setMaxBackoffMillis(5);
+    transport = portalStub(properties);
+    executor = SejongExecutors.newExecutor("sejong-auth-test-", 4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void 병렬_통합_인증은_한_번_로그인하고_DHC와_SIS_결과_병합() throws Exception {
+    log.info("============ 병렬 통합 인증 ============");
+
+    // Given
+    properties.setParallelFetch(true);
+
+    // When
+    SejongAuthResult result = engine().authenticate(STUDENT_ID, PASSWORD);
+
+    // Then: 포털 로그인 1회로 DHC/SIS 모두 조회
+    assertEquals("홍길동", result.getName());
+    assertEquals("컴퓨터공학과", result.getMajor());
+    assertEquals("test@example.com", result.getEmail());
+    assertEquals(1, transport.count(properties.getPortalLoginUrl()));
+    assertEquals(1, transport.count(SJPT_USER_INFO_URL));
+    assertAllSessionsCancelled();
+  }
+
+  @Test
+  void 병렬_통합_인증은_SIS가_늦으면_기다리지_않고_요청_취소() throws Exception {
+    log.info("============ 병렬 통합 인증 - SIS 시간 초과 ============");
+
+    // Given: SIS 응답 없음
+    properties.setParallelFetch(true);
+    properties.setSisTimeoutSeconds(1);
+    transport.on(SJPT_USER_INFO_URL, Reply.stall());
+
+    // When
+    SejongAuthResult result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+        () -> engine().authenticate(STUDENT_ID, PASSWORD));
+
+    // Then: 연락처 없이 DHC 결과 반환, 대기 중이던 SIS 요청은 취소
+    assertEquals("홍길동", result.getName());
+    assertNull(result.getEmail());
+    assertAllSessionsCancelled();
+  }
+
+  @Test
+  void 비동기_통합_인증() throws Exception {
+    log.info("============ 비동기 통합 인증 ============");
+
+    // When
+    SejongAuthResult result = engine().authenticateAsync(STUDENT_ID, PASSWORD).get(5, TimeUnit.SECONDS);
+
+    // Then
+    assertEquals("홍길동", result.getName());
+    assertEquals("test@example.com", result.getEmail());
+    assertEquals(1, transport.count(properties.getPortalLoginUrl()));
+    assertAllSessionsCancelled();
+  }
+
+  @Test
+  void 비동기_인증_취소_시_진행_중인_요청_취소() throws Exception {
+    log.info("============ 비동기 인증 취소 ============");
+
+    // Given: 고전독서 페이지 응답 없음
+    transport.on(properties.getClassicStatusUrl(), Reply.stall());
+    CompletableFuture<SejongAuthResult> future = engine().authenticateAsync(STUDENT_ID, PASSWORD);
+    transport.awaitRequest(properties.getClassicStatusUrl(), 5000);
+
+    // When
+    future.cancel(true);
+
+    // Then: 세션 취소로 대기 중이던 요청까지 정리
+    assertTrue(future.isCancelled());
+    assertAllSessionsCancelled();
+  }
+
+  @Test
+  void 전체_제한_시간을_넘으면_CONNECTION_TIMEOUT() {
+    log.info("============ 전체 제한 시간 초과 (동기) ============");
+
+    // Given
+    properties.setDeadlineSeconds(1);
+    transport.on(properties.getClassicStatusUrl(), Reply.stall());
+
+    // When
+    SejongAuthException exception = assertTimeoutPreemptively(Duration.ofSeconds(5),
+        () -> assertThrows(SejongAuthException.class, () -> engine().authenticateWithDHC(STUDENT_ID, PASSWORD)));
+
+    // Then
+    assertEquals(SejongAuthErrorCode.CONNECTION_TIMEOUT, exception.getErrorCode());
+  }
+
+  @Test
+  void 비동기_인증도_전체_제한_시간을_넘으면_CONNECTION_TIMEOUT() throws Exception {
+    log.info("============ 전체 제한 시간 초과 (비동기) ============");
+
+    // Given
+    properties.setDeadlineSeconds(1);
+    transport.on(properties.getClassicStatusUrl(), Reply.stall());
+
+    // When
+    CompletableFuture<SejongDhcAuthResult> future = engine().authenticateWithDHCAsync(STUDENT_ID, PASSWORD);
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+
+    // Then
+    SejongAuthException cause = assertInstanceOf(SejongAuthException.class, exception.getCause());
+    assertEquals(SejongAuthErrorCode.CONNECTION_TIMEOUT, cause.getErrorCode());
+    assertAllSessionsCancelled();
+  }
+
+  @Test
+  void 로그인_응답에서_성공이_확인되면_인증_확인은_바로_완료() throws Exception {
+    log.info("============ 인증 확인 조기 종료 ============");
+
+    // When
+    SejongVerifyResult result = engine().verify(STUDENT_ID, PASSWORD);
+    SejongVerifyResult asyncResult = engine().verifyAsync(STUDENT_ID, PASSWORD).get(5, TimeUnit.SECONDS);
+
+    // Then: 로그인 요청만 전송
+    assertTrue(result.isSuccess());
+    assertTrue(asyncResult.isSuccess());
+    assertEquals(List.of("POST " + properties.getPortalLoginUrl(), "POST " + properties.getPortalLoginUrl()),
+        transport.requests());
+  }
+
+  @Test
+  void 로그인_판정이_보류되면_고전독서_페이지_응답으로_확인() {
+    log.info("============ 인증 확인 - 판정 보류 ============");
+
+    // Given: SSO 토큰 쿠키 없는 로그인 응답, 고전독서 페이지 401
+    transport.on(properties.getPortalLoginUrl(), Reply.html("<html></html>"));
+    transport.on(properties.getClassicStatusUrl(), Reply.status(401));
+
+    // When
+    SejongAuthException exception = assertThrows(SejongAuthException.class,
+        () -> engine().verify(STUDENT_ID, PASSWORD));
+
+    // Then
+    assertEquals(SejongAuthErrorCode.AUTHENTICATION_FAILED, exception.getErrorCode());
+    assertEquals(1, transport.count(properties.getSsoRedirectUrl()));
+    assertEquals(1, transport.count(properties.getClassicStatusUrl()));
+  }
+
+  @Test
+  void 일괄_인증은_항목별_결과를_입력_순서로_기록() {
+    log.info("============ 일괄 인증 ============");
+
+    // Given
+    List<SejongCredential> credentials = List.of(
+        SejongCredential.of(STUDENT_ID, PASSWORD),
+        SejongCredential.of("20170000", WRONG_PASSWORD),
+        SejongCredential.of("", PASSWORD));
+
+    // When
+    SejongBulkAuthResult result = engine().authenticateAll(credentials);
+
+    // Then
+    List<SejongBulkAuthItem> items = result.getItems();
+    assertEquals(1, result.getSuccessCount());
+    assertEquals(2, result.getFailureCount());
+    assertTrue(items.get(0).isSuccess());
+    assertEquals("홍길동", items.get(0).getResult().getName());
+    assertEquals(SejongAuthErrorCode.AUTHENTICATION_FAILED, items.get(1).getErrorCode());
+    assertEquals(SejongAuthErrorCode.INVALID_INPUT, items.get(2).getErrorCode());
+    assertEquals(2, transport.count(properties.getPortalLoginUrl()));
+  }
+
+  /**
+   * 포털/고전독서/sjpt 정상 응답을 등록한 테스트용 전송 계층
+   * - 비밀번호가 "wrong"이면 로그인 실패 alert, 그 외에는 SSO 토큰 쿠키 발급
+   */
+  static SejongStubTransport portalStub(SejongAuthProperties properties) {
+    return new SejongStubTransport()
+        .on(properties.getPortalLoginUrl(), request -> isWrongPassword(request)
+            ? Reply.html(LOGIN_FAILURE_PAGE)
+            : Reply.html("<html></html>").cookie("ssotoken", "token"))
+        .on(properties.getSsoRedirectUrl(), Reply.html(""))
+        .on(properties.getClassicStatusUrl(), Reply.html(CLASSIC_STATUS_HTML))
+        .on(SJPT_SSO_URL, Reply.html(""))
+        .on(SJPT_USER_INFO_URL, Reply.json(USER_INFO_JSON));
+  }
+
+  /**
+   * 테스트용 전송 계층을 쓰는 엔진
+   */
+  static SuhSejongAuthEngine engine(SejongAuthProperties properties, SejongStubTransport transport,
+      ExecutorService executor) {
+    SejongRetryPolicy retryPolicy = new SejongRetryPolicy(properties);
+    return new SuhSejongAuthEngine(
+        new SejongPortalClient(properties, transport, retryPolicy),
+        new SejongStudentInfoParser(),
+        new SejongClassicReadingParser(),
+        new SejongClassicStatusParser(),
+        new SejongSisClient(properties, transport, retryPolicy),
+        new SejongSisParser(),
+        properties,
+        executor);
+  }
+
+  private SuhSejongAuthEngine engine() {
+    return engine(properties, transport, executor);
+  }
+
+  /**
+   * 모든 전송 세션이 취소되고 대기 중인 요청이 없는지 확인
+   * - 비동기 흐름은 호출자 Future 완료 직후 세션을 취소하므로 잠시 대기
+   */
+  private void assertAllSessionsCancelled() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 1000;
+    while (!allSessionsCancelled() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertFalse(transport.sessions().isEmpty());
+    for (SejongStubTransport.StubSession session : transport.sessions()) {
+      assertTrue(session.isCancelled());
+      assertEquals(0, session.pendingCount());
+    }
+  }
+
+  private boolean allSessionsCancelled() {
+    return transport.sessions().stream().allMatch(session -> session.isCancelled() && session.pendingCount() == 0);
+  }
+
+  private static boolean isWrongPassword(SejongHttpRequest request) {
+    return new String(request.getBody(), StandardCharsets.UTF_8).contains("password=" + WRONG_PASSWORD);
+  }
+}
@@ -0,0 +1,115 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import kr.suhsaechan.sejong.auth.metrics.SejongHostTraffic;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongDecodingInputStream 단위 테스트
+ * - Content-Encoding별 스트리밍 해제 및 전송/해제 바이트 집계 테스트
+ */
+@Slf4j
+class SejongDecodingInputStreamTest {
+
+  private static final String HTML = "<html><body>" + "<td>고전독서 인증현황</td>".repeat(200) + "</body></html>";
+
+  private final SejongHostTraffic traffic = new SejongAuthMetrics().hostTraffic("classic.sejong.ac.kr");
+
+  @Test
+  void gzip_응답_해제() throws IOException {
+    log.info("============ gzip 응답 해제 ============");
+
+    // Given
+    byte[] compressed = gzip(HTML.getBytes(StandardCharsets.UTF_8));
+
+    // When
+    String decoded = read(new SejongDecodingInputStream(new ByteArrayInputStream(compressed), "gzip", traffic));
+
+    // Then
+    assertEquals(HTML, decoded);
+    assertEquals(compressed.length, traffic.getWireBytes());
+    assertEquals(HTML.getBytes(StandardCharsets.UTF_8).length, traffic.getDecodedBytes());
+    assertTrue(traffic.getCompressionRatio() < 1);
+  }
+
+  @Test
+  void deflate_zlib_raw_응답_모두_해제() throws IOException {
+    log.info("============ deflate 응답 해제 (zlib / raw) ============");
+
+    // Given
+    byte[] zlib = deflate(HTML.getBytes(StandardCharsets.UTF_8), false);
+    byte[] raw = deflate(HTML.getBytes(StandardCharsets.UTF_8), true);
+
+    // When & Then
+    assertEquals(HTML, read(new SejongDecodingInputStream(new ByteArrayInputStream(zlib), "deflate", traffic)));
+    assertEquals(HTML, read(new SejongDecodingInputStream(new ByteArrayInputStream(raw), "deflate", traffic)));
+  }
+
+  @Test
+  void 압축_없는_응답_및_빈_본문() throws IOException {
+    log.info("============ 압축 없는 응답 / 빈 gzip 본문 ============");
+
+    // When
+    String plain = read(new SejongDecodingInputStream(
+        new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), null, traffic));
+    String empty = read(new SejongDecodingInputStream(new ByteArrayInputStream(new byte[0]), "gzip", traffic));
+
+    // Then
+    assertEquals("{}", plain);
+    assertEquals("", empty);
+    assertEquals(2, traffic.getWireBytes());
+    assertEquals(2, traffic.getDecodedBytes());
+  }
+
+  @Test
+  void 최대_크기_초과시_읽기_중단() throws IOException {
+    log.info("============ 해제 후 최대 크기 초과 ============");
+
+    // Given: 압축 후에는 작지만 해제 후 최대 크기를 넘는 본문
+    byte[] compressed = gzip(HTML.getBytes(StandardCharsets.UTF_8));
+    long maxBytes = 1024;
+
+    // When & Then
+    SejongBodyTooLargeException e = assertThrows(SejongBodyTooLargeException.class, () -> read(
+        new SejongDecodingInputStream(new ByteArrayInputStream(compressed), "gzip", traffic, maxBytes)));
+    assertEquals(maxBytes, e.getMaxBytes());
+    assertEquals(HTML, read(new SejongDecodingInputStream(
+        new ByteArrayInputStream(compressed), "gzip", traffic, HTML.getBytes(StandardCharsets.UTF_8).length)));
+  }
+
+  private static String read(InputStream in) throws IOException {
+    try (in) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] deflate(byte[] data, boolean nowrap) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap);
+    try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+      deflate.write(data);
+    } finally {
+      deflater.end();
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,115 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import kr.suhsaechan.sejong.auth.metrics.SejongAuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SejongDnsCache 단위 테스트
+ * - TTL 캐싱, 만료 전 백그라운드 갱신, 조회 실패 시 마지막 정상 주소 사용 테스트
+ */
+@Slf4j
+class SejongDnsCacheTest {
+
+  private static final String HOST = "classic.sejong.ac.kr";
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicInteger resolveCount = new AtomicInteger();
+  private final AtomicReference<InetAddress> answer = new AtomicReference<>();
+  private final SejongAuthMetrics metrics = new SejongAuthMetrics();
+  private SejongDnsCache cache;
+
+  @BeforeEach
+  void setUp() throws UnknownHostException {
+    SejongAuthProperties.DnsConfig config = new SejongAuthProperties.DnsConfig();
+    config.setTtlSeconds(60);
+    config.setRefreshAheadSeconds(10);
+    config.setStaleSeconds(600);
+
+    answer.set(InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, 1}));
+    SejongDnsCache.Resolver resolver = host -> {
+      resolveCount.incrementAndGet();
+      InetAddress address = answer.get();
+      if (address == null) {
+        throw new UnknownHostException(host);
+      }
+      return List.of(address);
+    };
+    // 백그라운드 갱신을 호출 스레드에서 바로 실행
+    cache = new SejongDnsCache(resolver, config, metrics, Runnable::run, clock::get);
+  }
+
+  @Test
+  void TTL_동안_캐시_사용() throws UnknownHostException {
+    log.info("============ TTL 캐싱 ============");
+
+    // When
+    InetAddress first = cache.lookup(HOST).get(0);
+    advanceSeconds(30);
+    InetAddress second = cache.lookup(HOST).get(0);
+
+    // Then
+    assertEquals(first, second);
+    assertEquals(1, resolveCount.get());
+    assertEquals(1, metrics.getDnsHits());
+    assertEquals(1, metrics.getDnsMisses());
+    assertEquals(0.5, metrics.getDnsHitRatio());
+  }
+
+  @Test
+  void 만료_전_백그라운드_갱신() throws UnknownHostException {
+    log.info("============ 만료 전 백그라운드 갱신 ============");
+
+    // Given
+    cache.lookup(HOST);
+    answer.set(InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, 2}));
+
+    // When: refresh-ahead 구간에서 조회하면 기존 값을 반환하고 갱신
+    advanceSeconds(55);
+    InetAddress during = cache.lookup(HOST).get(0);
+    advanceSeconds(30);
+    InetAddress after = cache.lookup(HOST).get(0);
+
+    // Then: 갱신된 값은 새 TTL 동안 캐시 적중
+    assertArrayEquals(new byte[] {10, 0, 0, 1}, during.getAddress());
+    assertArrayEquals(new byte[] {10, 0, 0, 2}, after.getAddress());
+    assertEquals(2, resolveCount.get());
+    assertEquals(1, metrics.getDnsMisses());
+  }
+
+  @Test
+  void 조회_실패시_마지막_정상_주소_사용() throws UnknownHostException {
+    log.info("============ 조회 실패 시 마지막 정상 주소 ============");
+
+    // Given
+    InetAddress known = cache.lookup(HOST).get(0);
+    answer.set(null);
+
+    // When: TTL 만료 후 리졸버 실패
+    advanceSeconds(120);
+    InetAddress fallback = cache.lookup(HOST).get(0);
+
+    // Then
+    assertEquals(known, fallback);
+    assertEquals(1, metrics.getDnsStaleFallbacks());
+
+    // stale-seconds가 지나면 실패
+    advanceSeconds(600);
+    assertThrows(UnknownHostException.class, () -> cache.lookup(HOST));
+  }
+
+  private void advanceSeconds(long seconds) {
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+  }
+}
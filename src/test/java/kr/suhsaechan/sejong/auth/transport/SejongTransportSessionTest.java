@@ -0,0 +1,196 @@
+package kr.suhsaechan.sejong.auth.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.sejong.auth.config.SejongAuthProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 전송 세션 테스트 (로컬 HttpServer 사용)
+ * - 헤더 수신 후 본문을 읽는 중에도 cancelAll()로 읽기가 중단되는지 테스트 (OkHttp/JDK)
+ * - JDK 전송 계층이 직접 따라가는 리다이렉트의 쿠키 저장/전송, 메서드 변경, 홉 수 테스트
+ */
+@Slf4j
+class SejongTransportSessionTest {
+
+  /** 헤더와 본문 일부만 보낸 뒤 멈추는 서버 */
+  private HttpServer server;
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/stall", exchange -> {
+      exchange.sendResponseHeaders(200, 1024);
+      OutputStream out = exchange.getResponseBody();
+      out.write("partial".getBytes());
+      out.flush();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.close();
+    });
+    server.createContext("/start", exchange -> {
+      exchange.getResponseHeaders().add("Set-Cookie", "sid=abc; Path=/");
+      exchange.getResponseHeaders().add("Location", "/next");
+      exchange.sendResponseHeaders(302, -1);
+      exchange.close();
+    });
+    server.createContext("/post", exchange -> {
+      exchange.getRequestBody().readAllBytes();
+      exchange.getResponseHeaders().add("Location", "/next");
+      exchange.sendResponseHeaders(302, -1);
+      exchange.close();
+    });
+    server.createContext("/next", exchange -> {
+      // 받은 메서드/쿠키/본문 길이를 그대로 응답
+      String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+      int bodyLength = exchange.getRequestBody().readAllBytes().length;
+      byte[] body = (exchange.getRequestMethod() + "|" + cookie + "|" + bodyLength).getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    server.stop(0);
+  }
+
+  @Test
+  void OkHttp_본문_읽기_중_세션_취소() {
+    log.info("============ OkHttp 본문 읽기 중 취소 ============");
+
+    SejongOkHttpTransport transport = new SejongOkHttpTransport(properties());
+    try {
+      assertCancelStopsBodyRead(transport.newSession());
+    } finally {
+      transport.close();
+    }
+  }
+
+  @Test
+  void JDK_본문_읽기_중_세션_취소() {
+    log.info("============ JDK 본문 읽기 중 취소 ============");
+
+    SejongJdkHttpTransport transport = new SejongJdkHttpTransport(properties());
+    try {
+      assertCancelStopsBodyRead(transport.newSession());
+    } finally {
+      transport.close();
+    }
+  }
+
+  @Test
+  void JDK_리다이렉트_응답의_쿠키를_저장하고_다음_홉에_전송() throws IOException {
+    log.info("============ JDK 리다이렉트 쿠키 처리 ============");
+
+    SejongJdkHttpTransport transport = new SejongJdkHttpTransport(properties());
+    try {
+      SejongTransportSession session = transport.newSession();
+
+      // When
+      try (SejongHttpResponse response = session.execute(SejongHttpRequest.get(url("/start")).build(), 0)) {
+
+        // Then: 302 응답의 Set-Cookie가 다음 홉 Cookie 헤더로 전송
+        assertEquals(200, response.code());
+        assertEquals(url("/next"), response.finalUrl());
+        assertEquals("GET|sid=abc|0", response.bodyString());
+      }
+      assertEquals(1, session.redirectHops());
+      assertEquals("abc", session.cookieStore().getCookies().get(0).getValue());
+    } finally {
+      transport.close();
+    }
+  }
+
+  @Test
+  void JDK_POST_요청의_302_리다이렉트는_본문_없는_GET으로_변경() throws IOException {
+    log.info("============ JDK 리다이렉트 메서드 변경 ============");
+
+    SejongJdkHttpTransport transport = new SejongJdkHttpTransport(properties());
+    try {
+      SejongTransportSession session = transport.newSession();
+      SejongHttpRequest request = SejongHttpRequest.post(url("/post"))
+          .formField("id", "20171234")
+          .header("Cookie", "chknos=false")
+          .build();
+
+      // When
+      try (SejongHttpResponse response = session.execute(request, 0)) {
+
+        // Then: 요청에 지정한 Cookie 헤더는 유지
+        assertEquals(url("/next"), response.finalUrl());
+        assertEquals("GET|chknos=false|0", response.bodyString());
+      }
+      assertEquals(1, session.redirectHops());
+    } finally {
+      transport.close();
+    }
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  private void assertCancelStopsBodyRead(SejongTransportSession session) {
+    String url = url("/stall");
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      // Given: 헤더와 본문 일부를 받은 상태
+      try (SejongHttpResponse response = session.execute(SejongHttpRequest.get(url).build(), 0)) {
+        assertEquals(200, response.code());
+        InputStream body = response.body();
+        assertEquals('p', body.read());
+
+        // When: 다른 스레드에서 세션 취소
+        Thread canceller = new Thread(() -> {
+          sleep(200);
+          session.cancelAll();
+        });
+        canceller.start();
+
+        // Then: 멈춰 있던 본문 읽기가 IOException으로 중단
+        IOException e = assertThrows(IOException.class, body::readAllBytes);
+        log.info("본문 읽기 중단: {}", e.toString());
+      }
+    });
+  }
+
+  private static SejongAuthProperties properties() {
+    SejongAuthProperties properties = new SejongAuthProperties();
+    properties.setTimeoutSeconds(10);
+    properties.setHttp2(false);
+    properties.getDns().setEnabled(false);
+    return properties;
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}